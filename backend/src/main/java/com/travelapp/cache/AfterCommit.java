@@ -0,0 +1,27 @@
+package com.travelapp.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers a change to in-memory state until the surrounding transaction
+ * commits, so a rolled back write never reaches it. Outside a transaction
+ * the change runs immediately.
+ */
+public final class AfterCommit {
+    
+    private AfterCommit() {}
+    
+    public static void run(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,88 @@
+package com.travelapp.cache;
+
+import com.travelapp.entity.CatalogVersion;
+import com.travelapp.repository.CatalogVersionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Validators for conditional GETs on the catalog and trip listings. Each
+ * catalog has one row in catalog_versions that every application write to
+ * it bumps in its own transaction, so writes made by another instance move
+ * the ETag as well, and a revalidation is one primary-key read instead of a
+ * pass over the table.
+ *
+ * The bump runs just before commit, once per catalog and transaction, so the
+ * row stays locked only while the transaction commits. Trip listings embed
+ * member names, so membership changes and renames bump TRIPS too.
+ */
+@Component
+public class CatalogVersions {
+    
+    public enum Catalog {
+        DESTINATIONS("d"), ACCOMMODATIONS("a"), TRANSPORTATION("t"), TRIPS("tr");
+        
+        private final String tag;
+        
+        Catalog(String tag) {
+            this.tag = tag;
+        }
+    }
+    
+    @Autowired
+    private CatalogVersionRepository catalogVersionRepository;
+    
+    // create-tables-direct.sql seeds the rows; without one a catalog's bumps would change nothing
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureRows() {
+        for (Catalog catalog : Catalog.values()) {
+            if (!catalogVersionRepository.existsById(catalog.name())) {
+                catalogVersionRepository.save(new CatalogVersion(catalog.name()));
+            }
+        }
+    }
+    
+    // A catalog without a row reads as version 0
+    public long current(Catalog catalog) {
+        return catalogVersionRepository.findVersion(catalog.name()).orElse(0L);
+    }
+    
+    // Read before the rows the response is built from, so the body is never older than its ETag
+    public String etag(Catalog catalog) {
+        return etag(catalog, current(catalog));
+    }
+    
+    public static String etag(Catalog catalog, long version) {
+        return "\"" + catalog.tag + "-" + version + "\"";
+    }
+    
+    public void bump(Catalog catalog) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            catalogVersionRepository.increment(catalog.name());
+            return;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingBumps pending && pending.owner() == this) {
+                pending.catalogs().add(catalog);
+                return;
+            }
+        }
+        PendingBumps pending = new PendingBumps(this, EnumSet.of(catalog));
+        TransactionSynchronizationManager.registerSynchronization(pending);
+    }
+    
+    // Bumped in enum order, so two transactions never lock the rows in opposite orders
+    private record PendingBumps(CatalogVersions owner, Set<Catalog> catalogs) implements TransactionSynchronization {
+        
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            catalogs.forEach(catalog -> owner.catalogVersionRepository.increment(catalog.name()));
+        }
+    }
+}
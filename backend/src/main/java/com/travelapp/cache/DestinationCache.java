@@ -0,0 +1,161 @@
+package com.travelapp.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.travelapp.entity.Destination;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * In-process read-through cache for the destination catalog: a bounded,
+ * TTL-evicting by-id cache plus an immutable snapshot of the full list.
+ * Writers call {@link #put} or {@link #evict}; both bump a generation counter
+ * so that a snapshot loaded concurrently with a write is never installed.
+ * The snapshot also records the catalog version read before its rows were
+ * loaded, and is only served for that version, so a write made by another
+ * instance or in SQL replaces it on the next read instead of after the TTL.
+ * Both halves publish the standard cache.* meters plus a cache.hit.ratio gauge.
+ */
+@Component
+public class DestinationCache implements MeterBinder {
+    
+    private final Cache<Long, Destination> byId;
+    private final long ttlNanos;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot snapshot;
+    
+    private final LongAdder snapshotHits = new LongAdder();
+    private final LongAdder snapshotMisses = new LongAdder();
+    private final LongAdder snapshotEvictions = new LongAdder();
+    
+    public DestinationCache(@Value("${destinations.cache.maximum-size:10000}") long maximumSize,
+                            @Value("${destinations.cache.ttl-seconds:600}") long ttlSeconds) {
+        Duration ttl = Duration.ofSeconds(ttlSeconds);
+        this.ttlNanos = ttl.toNanos();
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+    
+    public Optional<Destination> get(Long id, Function<Long, Optional<Destination>> loader) {
+        return Optional.ofNullable(byId.get(id, key -> loader.apply(key).orElse(null)));
+    }
+    
+    public List<Destination> all(long catalogVersion, Supplier<List<Destination>> loader) {
+        Snapshot current = snapshot;
+        if (current != null) {
+            if (current.catalogVersion == catalogVersion && System.nanoTime() - current.loadedAt < ttlNanos) {
+                snapshotHits.increment();
+                return current.destinations;
+            }
+            snapshotEvictions.increment();
+        }
+        snapshotMisses.increment();
+        
+        long loadGeneration = generation.get();
+        List<Destination> destinations = List.copyOf(loader.get());
+        synchronized (this) {
+            // A reader that saw an older catalog version must not replace a newer snapshot
+            Snapshot installed = snapshot;
+            if (generation.get() == loadGeneration && (installed == null || installed.catalogVersion <= catalogVersion)) {
+                snapshot = new Snapshot(destinations, catalogVersion, System.nanoTime());
+                destinations.forEach(destination -> byId.put(destination.getDestinationId(), destination));
+            }
+        }
+        return destinations;
+    }
+    
+    public synchronized void put(Destination destination) {
+        generation.incrementAndGet();
+        snapshot = null;
+        byId.put(destination.getDestinationId(), destination);
+    }
+    
+    public synchronized void evict(Long id) {
+        generation.incrementAndGet();
+        snapshot = null;
+        byId.invalidate(id);
+    }
+    
+    public Map<String, Object> stats() {
+        CacheStats idStats = byId.stats();
+        Map<String, Object> byIdStats = new LinkedHashMap<>();
+        byIdStats.put("size", byId.estimatedSize());
+        byIdStats.put("hits", idStats.hitCount());
+        byIdStats.put("misses", idStats.missCount());
+        byIdStats.put("evictions", idStats.evictionCount());
+        
+        Snapshot current = snapshot;
+        Map<String, Object> listStats = new LinkedHashMap<>();
+        listStats.put("size", current == null ? 0 : current.destinations.size());
+        listStats.put("hits", snapshotHits.sum());
+        listStats.put("misses", snapshotMisses.sum());
+        listStats.put("evictions", snapshotEvictions.sum());
+        
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("byId", byIdStats);
+        stats.put("all", listStats);
+        return stats;
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, byId, "destinations.byId");
+        Gauge.builder("cache.hit.ratio", byId, cache -> cache.stats().hitRate())
+                .tag("cache", "destinations.byId")
+                .register(registry);
+        
+        String all = "destinations.all";
+        FunctionCounter.builder("cache.gets", snapshotHits, LongAdder::sum)
+                .tag("cache", all).tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", snapshotMisses, LongAdder::sum)
+                .tag("cache", all).tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", snapshotEvictions, LongAdder::sum)
+                .tag("cache", all)
+                .register(registry);
+        Gauge.builder("cache.size", this, cache -> {
+                    Snapshot current = cache.snapshot;
+                    return current == null ? 0 : current.destinations.size();
+                })
+                .tag("cache", all)
+                .register(registry);
+        Gauge.builder("cache.hit.ratio", this, cache -> {
+                    double hits = cache.snapshotHits.sum();
+                    double requests = hits + cache.snapshotMisses.sum();
+                    return requests == 0 ? 1.0 : hits / requests;
+                })
+                .tag("cache", all)
+                .register(registry);
+    }
+    
+    private static final class Snapshot {
+        private final List<Destination> destinations;
+        private final long catalogVersion;
+        private final long loadedAt;
+        
+        private Snapshot(List<Destination> destinations, long catalogVersion, long loadedAt) {
+            this.destinations = destinations;
+            this.catalogVersion = catalogVersion;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
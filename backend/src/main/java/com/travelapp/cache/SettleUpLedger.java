@@ -0,0 +1,124 @@
+package com.travelapp.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Bounded, TTL-evicting cache of {@link TripBalances} per trip. Expense
+ * writes fold their amount into a cached entry once they commit instead of
+ * evicting it, so a busy trip's balances stay warm. Every write bumps a
+ * generation counter for the trip's stripe, and a load that overlapped a
+ * write is returned but not installed, so no payment is ever counted twice
+ * or missed by a cached entry. A write counts as overlapping from just
+ * before its commit until its change is applied, since a load in that
+ * window may already see the write's rows.
+ */
+@Component
+public class SettleUpLedger implements MeterBinder {
+    
+    private static final int STRIPES = 64;
+    
+    private final Cache<Long, TripBalances> byTrip;
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+    // Writes per stripe that are committing and whose change has not been applied yet
+    private final AtomicLongArray committing = new AtomicLongArray(STRIPES);
+    
+    public SettleUpLedger(@Value("${settle-up.cache.maximum-size:10000}") long maximumSize,
+                          @Value("${settle-up.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.byTrip = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+    
+    public TripBalances get(Long tripId, Function<Long, TripBalances> loader) {
+        TripBalances cached = byTrip.getIfPresent(tripId);
+        if (cached != null) {
+            return cached;
+        }
+        int stripe = stripe(tripId);
+        long generation = generations.get(stripe);
+        TripBalances loaded = loader.apply(tripId);
+        TripBalances installed = byTrip.asMap().compute(tripId, (id, current) -> current != null ? current
+                : generations.get(stripe) == generation && committing.get(stripe) == 0 ? loaded : null);
+        return installed != null ? installed : loaded;
+    }
+    
+    public void addPaid(Long tripId, Long userId, long cents) {
+        onCommit(new int[] {stripe(tripId)}, () -> byTrip.asMap().computeIfPresent(tripId, (id, balances) -> {
+            balances.addPaid(userId, cents);
+            return balances;
+        }));
+    }
+    
+    // Membership changes alter who shares the total, so the entry is reloaded rather than patched
+    public void evict(Long tripId) {
+        onCommit(new int[] {stripe(tripId)}, () -> byTrip.invalidate(tripId));
+    }
+    
+    public void evictAll() {
+        onCommit(IntStream.range(0, STRIPES).toArray(), byTrip::invalidateAll);
+    }
+    
+    /**
+     * Applies the change once the surrounding transaction commits, or at once
+     * outside one. The stripes count as committing from beforeCommit until
+     * the change is applied, and their generations move at both ends, so no
+     * load that overlaps the commit is installed.
+     */
+    private void onCommit(int[] stripes, Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(stripes, generations, 1);
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean started;
+            
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                add(stripes, committing, 1);
+                add(stripes, generations, 1);
+                started = true;
+            }
+            
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    change.run();
+                }
+                add(stripes, generations, 1);
+                if (started) {
+                    add(stripes, committing, -1);
+                }
+            }
+        });
+    }
+    
+    private static void add(int[] stripes, AtomicLongArray counters, long delta) {
+        for (int stripe : stripes) {
+            counters.addAndGet(stripe, delta);
+        }
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, byTrip, "settleup.balances");
+    }
+    
+    private static int stripe(Long tripId) {
+        return Math.floorMod(tripId.hashCode(), STRIPES);
+    }
+}
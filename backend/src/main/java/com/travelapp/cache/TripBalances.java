@@ -0,0 +1,91 @@
+package com.travelapp.cache;
+
+import java.util.Arrays;
+
+/**
+ * One trip's settle-up state in cents: how much each payer has paid and who
+ * the members are, as parallel primitive arrays sorted by user id. Payments
+ * are folded in as expenses are written, so settling never re-reads or
+ * re-sums expense rows.
+ */
+public final class TripBalances {
+    
+    private long[] payerIds;
+    private long[] paidCents;
+    private int payers;
+    private final long[] memberIds;
+    
+    // payerIds and memberIds must be sorted ascending and free of duplicates
+    public TripBalances(long[] payerIds, long[] paidCents, long[] memberIds) {
+        this.payerIds = payerIds;
+        this.paidCents = paidCents;
+        this.payers = payerIds.length;
+        this.memberIds = memberIds;
+    }
+    
+    public synchronized void addPaid(long userId, long cents) {
+        int at = Arrays.binarySearch(payerIds, 0, payers, userId);
+        if (at >= 0) {
+            paidCents[at] += cents;
+            return;
+        }
+        int insert = -at - 1;
+        if (payers == payerIds.length) {
+            int capacity = Math.max(4, payers * 2);
+            payerIds = Arrays.copyOf(payerIds, capacity);
+            paidCents = Arrays.copyOf(paidCents, capacity);
+        }
+        System.arraycopy(payerIds, insert, payerIds, insert + 1, payers - insert);
+        System.arraycopy(paidCents, insert, paidCents, insert + 1, payers - insert);
+        payerIds[insert] = userId;
+        paidCents[insert] = cents;
+        payers++;
+    }
+    
+    /**
+     * Every member and every payer with what they paid and their share. The
+     * total paid is split evenly across members; the cents left over go one
+     * each to the lowest user ids, so shares always add up to the total.
+     * Payers who are no longer members have no share, only what they paid.
+     */
+    public synchronized Balances balances() {
+        long total = 0;
+        for (int i = 0; i < payers; i++) {
+            total += paidCents[i];
+        }
+        int members = memberIds.length;
+        long base = members == 0 ? 0 : total / members;
+        long remainder = members == 0 ? 0 : total % members;
+        
+        int capacity = payers + members;
+        long[] userIds = new long[capacity];
+        long[] paid = new long[capacity];
+        long[] share = new long[capacity];
+        int size = 0;
+        int p = 0;
+        int m = 0;
+        while (p < payers || m < members) {
+            long next = m == members || (p < payers && payerIds[p] < memberIds[m]) ? payerIds[p] : memberIds[m];
+            userIds[size] = next;
+            paid[size] = p < payers && payerIds[p] == next ? paidCents[p++] : 0;
+            share[size] = 0;
+            boolean member = m < members && memberIds[m] == next;
+            if (member) {
+                share[size] = base + (m < remainder ? 1 : 0);
+                m++;
+            }
+            // Former members whose expenses were all removed have nothing to settle
+            if (member || paid[size] != 0) {
+                size++;
+            }
+        }
+        return new Balances(userIds, paid, share, size, members == 0 ? 0 : total);
+    }
+    
+    /**
+     * Result of {@link #balances()}: the first {@code size} entries of each
+     * array are valid. {@code shared} is the total split across members, or
+     * 0 when the trip has none.
+     */
+    public record Balances(long[] userIds, long[] paid, long[] share, int size, long shared) {}
+}
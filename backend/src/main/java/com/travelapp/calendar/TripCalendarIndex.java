@@ -0,0 +1,136 @@
+package com.travelapp.calendar;
+
+import com.travelapp.cache.AfterCommit;
+import com.travelapp.dto.CalendarEntry;
+import com.travelapp.dto.TripConflict;
+import com.travelapp.dto.TripMemberSpan;
+import org.springframework.stereotype.Component;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Every user's trips as a {@link TripIntervals} tree, so a calendar window
+ * or a double-booking check is answered from memory in O(log n + matches)
+ * per user instead of reading all of that user's trips. Writers replace a
+ * user's tree atomically and readers never lock.
+ * Changes made inside a transaction are applied once it commits. Commit
+ * callbacks can run out of commit order, so every change carries the trip
+ * version it committed with, and each user keeps the version their
+ * membership of a trip was last put or removed at; anything older is
+ * dropped. The startup rebuild merges by the same rule, so changes that
+ * commit while it streams are kept.
+ */
+@Component
+public class TripCalendarIndex {
+    
+    // Outranks every version a deleted trip could still be put with
+    private static final long DELETED = Long.MAX_VALUE;
+    
+    private static final UserTrips NO_TRIPS = new UserTrips(TripIntervals.EMPTY, Map.of());
+    
+    // Stands in for a deleted user, so late puts of their trips are dropped
+    private static final UserTrips REMOVED_USER = new UserTrips(TripIntervals.EMPTY, Map.of());
+    
+    private final Map<Long, UserTrips> byUser = new ConcurrentHashMap<>();
+    
+    public void rebuild(Stream<TripMemberSpan> spans) {
+        Map<Long, List<TripIntervals.Entry>> entries = new HashMap<>();
+        spans.forEach(span -> entries.computeIfAbsent(span.getUserId(), id -> new ArrayList<>())
+                .add(entry(span.getTripId(), span.getVersion(), span.getTitle(), span.getStartDate(), span.getEndDate())));
+        entries.forEach(this::apply);
+    }
+    
+    public void put(Collection<Long> userIds, Long tripId, Long version, String title,
+                    LocalDate startDate, LocalDate endDate) {
+        List<TripIntervals.Entry> added = List.of(entry(tripId, version, title, startDate, endDate));
+        AfterCommit.run(() -> userIds.forEach(userId -> apply(userId, added)));
+    }
+    
+    public void remove(Collection<Long> userIds, Long tripId, Long version) {
+        AfterCommit.run(() -> userIds.forEach(userId ->
+                byUser.compute(userId, (id, trips) -> (trips == null ? NO_TRIPS : trips).without(tripId, version))));
+    }
+    
+    public void removeTrip(Collection<Long> userIds, Long tripId) {
+        remove(userIds, tripId, DELETED);
+    }
+    
+    public void removeUser(Long userId) {
+        AfterCommit.run(() -> byUser.put(userId, REMOVED_USER));
+    }
+    
+    private void apply(Long userId, List<TripIntervals.Entry> added) {
+        byUser.compute(userId, (id, trips) -> (trips == null ? NO_TRIPS : trips).with(added));
+    }
+    
+    public List<CalendarEntry> calendar(Long userId, LocalDate from, LocalDate to) {
+        List<CalendarEntry> result = new ArrayList<>();
+        UserTrips trips = byUser.get(userId);
+        if (trips != null) {
+            trips.trips().forEachOverlapping(from.toEpochDay(), to.toEpochDay(), entry -> result.add(new CalendarEntry(
+                    entry.tripId(), entry.title(), LocalDate.ofEpochDay(entry.start()), LocalDate.ofEpochDay(entry.end()))));
+        }
+        return result;
+    }
+    
+    // Other trips of each user that intersect [startDate, endDate]
+    public List<TripConflict> conflicts(Collection<Long> userIds, Long tripId, LocalDate startDate, LocalDate endDate) {
+        List<TripConflict> result = new ArrayList<>();
+        long from = startDate.toEpochDay();
+        long to = endDate.toEpochDay();
+        for (Long userId : userIds) {
+            UserTrips trips = byUser.get(userId);
+            if (trips == null) {
+                continue;
+            }
+            trips.trips().forEachOverlapping(from, to, entry -> {
+                if (entry.tripId() != tripId) {
+                    result.add(new TripConflict(userId, entry.tripId(), entry.title(),
+                            LocalDate.ofEpochDay(entry.start()), LocalDate.ofEpochDay(entry.end())));
+                }
+            });
+        }
+        return result;
+    }
+    
+    private static TripIntervals.Entry entry(Long tripId, Long version, String title,
+                                             LocalDate startDate, LocalDate endDate) {
+        return new TripIntervals.Entry(tripId, title, startDate.toEpochDay(), endDate.toEpochDay(), version);
+    }
+    
+    // One user's tree plus the version each of their trips was last put or removed at
+    private record UserTrips(TripIntervals trips, Map<Long, Long> versions) {
+        
+        UserTrips with(List<TripIntervals.Entry> added) {
+            List<TripIntervals.Entry> newer = added.stream()
+                    .filter(entry -> isNewer(entry.tripId(), entry.version()))
+                    .toList();
+            if (newer.isEmpty()) {
+                return this;
+            }
+            Map<Long, Long> next = new HashMap<>(versions);
+            newer.forEach(entry -> next.put(entry.tripId(), entry.version()));
+            return new UserTrips(trips.with(newer), next);
+        }
+        
+        UserTrips without(Long tripId, long version) {
+            if (!isNewer(tripId, version)) {
+                return this;
+            }
+            Map<Long, Long> next = new HashMap<>(versions);
+            next.put(tripId, version);
+            return new UserTrips(trips.without(tripId), next);
+        }
+        
+        private boolean isNewer(Long tripId, long version) {
+            Long seen = versions.get(tripId);
+            return this != REMOVED_USER && (seen == null || seen < version);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.travelapp.calendar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Immutable interval tree over one user's trips. Entries are kept sorted by
+ * start day and the array is read as an implicit balanced tree (the middle
+ * of every range is its root), with each root storing the latest end day in
+ * its subtree. An overlap query prunes every subtree that ends before the
+ * window or starts after it, so it costs O(log n + matches).
+ */
+final class TripIntervals {
+    
+    static final TripIntervals EMPTY = new TripIntervals(new Entry[0]);
+    
+    private static final Comparator<Entry> BY_START =
+            Comparator.comparingLong(Entry::start).thenComparingLong(Entry::tripId);
+    
+    // version is the trip version the entry was written at; the tree itself ignores it
+    record Entry(long tripId, String title, long start, long end, long version) {}
+    
+    private final Entry[] entries;
+    private final long[] maxEnd;
+    
+    private TripIntervals(Entry[] sorted) {
+        this.entries = sorted;
+        this.maxEnd = new long[sorted.length];
+        fillMaxEnd(0, sorted.length);
+    }
+    
+    static TripIntervals of(List<Entry> entries) {
+        Entry[] sorted = entries.toArray(new Entry[0]);
+        Arrays.sort(sorted, BY_START);
+        return new TripIntervals(sorted);
+    }
+    
+    // Copy-on-write: readers holding the previous instance are never disturbed
+    TripIntervals with(Collection<Entry> added) {
+        Set<Long> replaced = new HashSet<>();
+        added.forEach(entry -> replaced.add(entry.tripId()));
+        List<Entry> next = new ArrayList<>(entries.length + added.size());
+        for (Entry existing : entries) {
+            if (!replaced.contains(existing.tripId())) {
+                next.add(existing);
+            }
+        }
+        next.addAll(added);
+        return of(next);
+    }
+    
+    TripIntervals without(long tripId) {
+        List<Entry> next = new ArrayList<>(entries.length);
+        for (Entry existing : entries) {
+            if (existing.tripId() != tripId) {
+                next.add(existing);
+            }
+        }
+        return next.size() == entries.length ? this : of(next);
+    }
+    
+    boolean isEmpty() {
+        return entries.length == 0;
+    }
+    
+    // Visits every entry intersecting [from, to] (inclusive epoch days) in start order
+    void forEachOverlapping(long from, long to, Consumer<Entry> action) {
+        search(0, entries.length, from, to, action);
+    }
+    
+    private void search(int lo, int hi, long from, long to, Consumer<Entry> action) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (maxEnd[mid] < from) {
+            return;
+        }
+        search(lo, mid, from, to, action);
+        Entry entry = entries[mid];
+        if (entry.start() > to) {
+            return;
+        }
+        if (entry.end() >= from) {
+            action.accept(entry);
+        }
+        search(mid + 1, hi, from, to, action);
+    }
+    
+    private long fillMaxEnd(int lo, int hi) {
+        if (lo >= hi) {
+            return Long.MIN_VALUE;
+        }
+        int mid = (lo + hi) >>> 1;
+        long max = Math.max(entries[mid].end(), Math.max(fillMaxEnd(lo, mid), fillMaxEnd(mid + 1, hi)));
+        maxEnd[mid] = max;
+        return max;
+    }
+}
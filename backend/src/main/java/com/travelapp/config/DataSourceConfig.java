@@ -0,0 +1,42 @@
+package com.travelapp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import javax.sql.DataSource;
+
+/**
+ * Two pools on the same database behind one DataSource. Both are built from
+ * spring.datasource.*; the streaming pool adds the driver properties under
+ * streaming.datasource.data-source-properties (useCursorFetch for MySQL), so
+ * only the statements of {@link StreamingDataSource#streaming} read through
+ * a server-side cursor.
+ */
+@Configuration
+public class DataSourceConfig {
+    
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource applicationDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+    
+    @Bean
+    @ConfigurationProperties("streaming.datasource")
+    public HikariDataSource streamingDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("streaming");
+        return dataSource;
+    }
+    
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("applicationDataSource") DataSource applicationDataSource,
+                                 @Qualifier("streamingDataSource") DataSource streamingDataSource) {
+        return new StreamingDataSource(applicationDataSource, streamingDataSource);
+    }
+}
@@ -1,13 +1,21 @@
 package com.travelapp.config;
 
+import com.travelapp.security.JwtAuthenticationFilter;
+import com.travelapp.security.JwtService;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -17,26 +25,33 @@ import java.util.Arrays;
 @EnableWebSecurity
 public class SecurityConfig {
     
+    // Raising the strength rehashes existing passwords at their next login
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
     
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, JwtService jwtService) throws Exception {
         http
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .addFilterBefore(new JwtAuthenticationFilter(jwtService), UsernamePasswordAuthenticationFilter.class)
+            .exceptionHandling(exceptions -> exceptions.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
             .authorizeHttpRequests(authz -> authz
-                .requestMatchers("/api/auth/**").permitAll()
-                .requestMatchers("/api/destinations/**").permitAll()
-                .requestMatchers("/api/accommodations/**").permitAll()
-                .requestMatchers("/api/transportation/**").permitAll()
-                .requestMatchers("/api/local-services/**").permitAll()
-                .requestMatchers("/api/trips/**").permitAll()
-                .requestMatchers("/api/users/**").permitAll()
-                .requestMatchers("/api/expenses/**").permitAll()
+                // Async results (e.g. login) and error pages belong to a request that was already authorized
+                .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+                .requestMatchers("/api/auth/register", "/api/auth/login").permitAll()
+                // The catalog can be browsed without signing in; its cache stats are operational data
+                .requestMatchers(HttpMethod.GET, "/api/destinations/cache/stats").authenticated()
+                .requestMatchers(HttpMethod.GET, "/api/destinations/**").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/accommodations/**").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/transportation/**").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/local-services/**").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/suggest/**").permitAll()
+                // Health checks run without a token; metrics endpoints need one
+                .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
                 .anyRequest().authenticated()
             );
         
@@ -0,0 +1,36 @@
+package com.travelapp.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Hands out connections from the streaming pool while {@link #streaming} is
+ * running on the current thread, and from the application pool otherwise.
+ * The pool is chosen when a connection is taken, so the transaction has to
+ * begin inside the call.
+ */
+public class StreamingDataSource extends AbstractRoutingDataSource {
+    
+    private static final ThreadLocal<Boolean> STREAMING = ThreadLocal.withInitial(() -> false);
+    
+    public StreamingDataSource(DataSource applicationDataSource, DataSource streamingDataSource) {
+        setTargetDataSources(Map.of(false, applicationDataSource, true, streamingDataSource));
+        setDefaultTargetDataSource(applicationDataSource);
+    }
+    
+    public static void streaming(Runnable work) {
+        boolean outer = STREAMING.get();
+        STREAMING.set(true);
+        try {
+            work.run();
+        } finally {
+            STREAMING.set(outer);
+        }
+    }
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return STREAMING.get();
+    }
+}
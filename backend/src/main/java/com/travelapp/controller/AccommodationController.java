@@ -1,43 +1,79 @@
 package com.travelapp.controller;
 
+import com.travelapp.cache.CatalogVersions;
+import com.travelapp.dto.AccommodationFilter;
+import com.travelapp.dto.CursorPage;
 import com.travelapp.entity.Accommodation;
+import com.travelapp.service.AccommodationService;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import java.math.BigDecimal;
-import java.util.Arrays;
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
+import jakarta.validation.Valid;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/accommodations")
 @CrossOrigin(origins = "http://localhost:5173")
 public class AccommodationController {
     
-    // Mock data for now - replace with actual service when implemented
+    @Autowired
+    private AccommodationService accommodationService;
+    
+    @Autowired
+    private CatalogVersions catalogVersions;
+    
+    // Filters: type, minPrice, maxPrice, minRating, name; sort: id, price, -price, rating, -rating, name
     @GetMapping
-    public ResponseEntity<List<Accommodation>> getAllAccommodations() {
-        List<Accommodation> accommodations = Arrays.asList(
-            createMockAccommodation(1L, "Hotel Sea Crown", "Resort", new BigDecimal("8000"), 4),
-            createMockAccommodation(2L, "Cox's Bazar Resort", "Resort", new BigDecimal("12000"), 5),
-            createMockAccommodation(3L, "Sylhet Guest House", "Hotel", new BigDecimal("5000"), 3),
-            createMockAccommodation(4L, "Sajek Hill Resort", "Resort", new BigDecimal("15000"), 4),
-            createMockAccommodation(5L, "Sundarban Lodge", "Lodge", new BigDecimal("6000"), 3)
-        );
-        return ResponseEntity.ok(accommodations);
+    public ResponseEntity<CursorPage<Accommodation>> getAllAccommodations(
+            AccommodationFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        return ConditionalGet.respond(request, catalogVersions.etag(CatalogVersions.Catalog.ACCOMMODATIONS), () -> {
+            try {
+                return ResponseEntity.ok(accommodationService.searchAccommodations(filter, cursor, limit));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        });
     }
     
+    // Revalidation reads only the version column
     @GetMapping("/{id}")
-    public ResponseEntity<Accommodation> getAccommodationById(@PathVariable Long id) {
-        Accommodation accommodation = createMockAccommodation(id, "Sample Hotel", "Hotel", new BigDecimal("8000"), 4);
-        return ResponseEntity.ok(accommodation);
+    public ResponseEntity<Accommodation> getAccommodationById(@PathVariable Long id, WebRequest request) {
+        Optional<Long> version = accommodationService.getAccommodationVersion(id);
+        if (version.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ConditionalGet.respond(request, IfMatch.etag(version.get()), () -> {
+            Optional<Accommodation> accommodation = accommodationService.getAccommodationById(id);
+            if (accommodation.isPresent()) {
+                return ResponseEntity.ok(accommodation.get());
+            }
+            return ResponseEntity.notFound().build();
+        });
+    }
+    
+    @PostMapping
+    public ResponseEntity<Accommodation> createAccommodation(@Valid @RequestBody Accommodation accommodation) {
+        Accommodation savedAccommodation = accommodationService.createAccommodation(accommodation);
+        return ResponseEntity.ok(savedAccommodation);
+    }
+    
+    @PutMapping("/{id}")
+    public ResponseEntity<Accommodation> updateAccommodation(@PathVariable Long id, @Valid @RequestBody Accommodation accommodationDetails) {
+        try {
+            Accommodation updatedAccommodation = accommodationService.updateAccommodation(id, accommodationDetails);
+            return ResponseEntity.ok(updatedAccommodation);
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
     }
     
-    private Accommodation createMockAccommodation(Long id, String name, String type, BigDecimal price, Integer rating) {
-        Accommodation accommodation = new Accommodation();
-        accommodation.setHotelId(id);
-        accommodation.setName(name);
-        accommodation.setType(type);
-        accommodation.setPricePerNight(price);
-        accommodation.setRating(rating);
-        return accommodation;
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteAccommodation(@PathVariable Long id) {
+        accommodationService.deleteAccommodation(id);
+        return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+}
@@ -1,12 +1,22 @@
 package com.travelapp.controller;
 
+import com.travelapp.dto.AuthResponse;
 import com.travelapp.entity.User;
+import com.travelapp.security.AuthenticatedUser;
+import com.travelapp.security.JwtService;
+import com.travelapp.service.PasswordHashingRejectedException;
+import com.travelapp.service.PasswordHashingService;
 import com.travelapp.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -16,29 +26,61 @@ public class AuthController {
     @Autowired
     private UserService userService;
     
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+    
+    @Autowired
+    private JwtService jwtService;
+    
+    // Both endpoints return futures: the request thread is released while the password is hashed
     @PostMapping("/register")
-    public ResponseEntity<?> registerUser(@Valid @RequestBody User user) {
+    public CompletableFuture<ResponseEntity<?>> registerUser(@Valid @RequestBody User user) {
         try {
-            User savedUser = userService.createUser(user);
-            savedUser.setPassword(null); // Don't return password
-            return ResponseEntity.ok(savedUser);
+            return userService.createUser(user)
+                    .<ResponseEntity<?>>thenApply(savedUser -> ResponseEntity.ok(signIn(savedUser)))
+                    .exceptionally(e -> failure(e, "Registration failed: "));
         } catch (RuntimeException e) {
-            return ResponseEntity.badRequest().body("Registration failed: " + e.getMessage());
+            return CompletableFuture.completedFuture(failure(e, "Registration failed: "));
         }
     }
     
     @PostMapping("/login")
-    public ResponseEntity<?> loginUser(@RequestBody LoginRequest loginRequest) {
-        Optional<User> user = userService.getUserByEmail(loginRequest.getEmail());
-        if (user.isPresent()) {
-            User foundUser = user.get();
-            // Validate password using password encoder
-            if (userService.validatePassword(loginRequest.getPassword(), foundUser.getPassword())) {
-                foundUser.setPassword(null); // Don't return password
-                return ResponseEntity.ok(foundUser);
-            }
+    public CompletableFuture<ResponseEntity<?>> loginUser(@RequestBody LoginRequest loginRequest) {
+        return userService.authenticate(loginRequest.getEmail(), loginRequest.getPassword())
+                .<ResponseEntity<?>>thenApply(user -> {
+                    if (user.isEmpty()) {
+                        return ResponseEntity.badRequest().body("Invalid credentials");
+                    }
+                    return ResponseEntity.ok(signIn(user.get()));
+                })
+                .exceptionally(e -> failure(e, "Login failed: "));
+    }
+    
+    // Served from the token alone; no database lookup
+    @GetMapping("/me")
+    public ResponseEntity<AuthenticatedUser> getCurrentUser(@AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(user);
+    }
+    
+    @GetMapping("/hashing/stats")
+    public ResponseEntity<Map<String, Object>> getHashingStats() {
+        return ResponseEntity.ok(passwordHashingService.stats());
+    }
+    
+    private AuthResponse signIn(User user) {
+        JwtService.IssuedToken token = jwtService.issue(user);
+        user.setPassword(null); // Don't return password
+        return new AuthResponse(token.getToken(), token.getExpiresAt(), user);
+    }
+    
+    private ResponseEntity<?> failure(Throwable error, String prefix) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof PasswordHashingRejectedException) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(cause.getMessage());
         }
-        return ResponseEntity.badRequest().body("Invalid credentials");
+        return ResponseEntity.badRequest().body(prefix + cause.getMessage());
     }
     
     // Inner class for login request
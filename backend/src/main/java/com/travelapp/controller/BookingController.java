@@ -0,0 +1,95 @@
+package com.travelapp.controller;
+
+import com.travelapp.entity.SeatHold;
+import com.travelapp.service.BookingException;
+import com.travelapp.service.BookingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+@RestController
+@RequestMapping("/api/bookings")
+@CrossOrigin(origins = "http://localhost:5173")
+public class BookingController {
+    
+    @Autowired
+    private BookingService bookingService;
+    
+    @PostMapping("/holds")
+    public ResponseEntity<?> holdSeats(@RequestBody HoldRequest request) {
+        return handle(() -> bookingService.holdSeats(
+                request.getTransportationId(), request.getTravelDate(), request.getSeats(), request.getUserId()));
+    }
+    
+    @GetMapping("/holds/{holdId}")
+    public ResponseEntity<?> getHold(@PathVariable Long holdId) {
+        return handle(() -> bookingService.getHold(holdId));
+    }
+    
+    @PostMapping("/holds/{holdId}/confirm")
+    public ResponseEntity<?> confirmHold(@PathVariable Long holdId) {
+        return handle(() -> bookingService.confirmHold(holdId));
+    }
+    
+    @DeleteMapping("/holds/{holdId}")
+    public ResponseEntity<?> releaseHold(@PathVariable Long holdId) {
+        return handle(() -> bookingService.releaseHold(holdId));
+    }
+    
+    private ResponseEntity<?> handle(Supplier<SeatHold> action) {
+        try {
+            return ResponseEntity.ok(action.get());
+        } catch (BookingException e) {
+            HttpStatus status = switch (e.getReason()) {
+                case NOT_FOUND -> HttpStatus.NOT_FOUND;
+                case INVALID_REQUEST -> HttpStatus.BAD_REQUEST;
+                case SOLD_OUT, HOLD_NOT_ACTIVE, INVENTORY_MISMATCH -> HttpStatus.CONFLICT;
+                case HOLD_EXPIRED -> HttpStatus.GONE;
+            };
+            return ResponseEntity.status(status).body(e.getMessage());
+        }
+    }
+    
+    // Inner class for hold request
+    public static class HoldRequest {
+        private Long transportationId;
+        private LocalDate travelDate;
+        private int seats;
+        private Long userId;
+        
+        public Long getTransportationId() {
+            return transportationId;
+        }
+        
+        public void setTransportationId(Long transportationId) {
+            this.transportationId = transportationId;
+        }
+        
+        public LocalDate getTravelDate() {
+            return travelDate;
+        }
+        
+        public void setTravelDate(LocalDate travelDate) {
+            this.travelDate = travelDate;
+        }
+        
+        public int getSeats() {
+            return seats;
+        }
+        
+        public void setSeats(int seats) {
+            this.seats = seats;
+        }
+        
+        public Long getUserId() {
+            return userId;
+        }
+        
+        public void setUserId(Long userId) {
+            this.userId = userId;
+        }
+    }
+}
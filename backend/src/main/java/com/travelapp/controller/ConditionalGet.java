@@ -0,0 +1,49 @@
+package com.travelapp.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+import java.util.function.Supplier;
+
+/**
+ * Answers If-None-Match from a catalog's or an entity's ETag before the
+ * response is built, so a 304 costs no more than finding the validator.
+ * Successful responses may be stored but must be revalidated on every use.
+ *
+ * No Last-Modified is sent: row timestamps cannot show a deleted row, and
+ * a second's resolution on the wire would hide a second write in the same
+ * second, so If-Modified-Since alone could wrongly get a 304.
+ */
+final class ConditionalGet {
+    
+    private static final CacheControl REVALIDATE = CacheControl.noCache();
+    // Trips and users need a signed-in user, so only the browser's own cache may keep them
+    private static final CacheControl REVALIDATE_PRIVATE = CacheControl.noCache().cachePrivate();
+    
+    private ConditionalGet() {}
+    
+    static <T> ResponseEntity<T> respond(WebRequest request, String etag, Supplier<ResponseEntity<T>> response) {
+        return respond(request, etag, REVALIDATE, response);
+    }
+    
+    static <T> ResponseEntity<T> respondPrivate(WebRequest request, String etag, Supplier<ResponseEntity<T>> response) {
+        return respond(request, etag, REVALIDATE_PRIVATE, response);
+    }
+    
+    private static <T> ResponseEntity<T> respond(WebRequest request, String etag, CacheControl cacheControl,
+                                                 Supplier<ResponseEntity<T>> response) {
+        // Also puts the ETag on the response
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
+        ResponseEntity<T> result = response.get();
+        if (!result.getStatusCode().is2xxSuccessful()) {
+            return result;
+        }
+        return ResponseEntity.status(result.getStatusCode())
+                .headers(result.getHeaders())
+                .cacheControl(cacheControl)
+                .body(result.getBody());
+    }
+}
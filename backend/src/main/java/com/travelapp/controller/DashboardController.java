@@ -0,0 +1,23 @@
+package com.travelapp.controller;
+
+import com.travelapp.dto.DashboardSummary;
+import com.travelapp.security.AuthenticatedUser;
+import com.travelapp.service.DashboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@CrossOrigin(origins = "http://localhost:5173")
+public class DashboardController {
+    
+    @Autowired
+    private DashboardService dashboardService;
+    
+    @GetMapping
+    public ResponseEntity<DashboardSummary> getDashboard(@AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(dashboardService.getDashboard(user.getUserId()));
+    }
+}
@@ -1,12 +1,23 @@
 package com.travelapp.controller;
 
+import com.travelapp.cache.CatalogVersions;
+import com.travelapp.dto.CursorPage;
+import com.travelapp.dto.NearbyResult;
 import com.travelapp.entity.Destination;
+import com.travelapp.search.Suggestion;
 import com.travelapp.service.DestinationService;
+import com.travelapp.service.PreconditionFailedException;
+import com.travelapp.service.ResourceNotFoundException;
+import com.travelapp.service.SuggestionService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -17,19 +28,38 @@ public class DestinationController {
     @Autowired
     private DestinationService destinationService;
     
+    @Autowired
+    private SuggestionService suggestionService;
+    
+    @Autowired
+    private CatalogVersions catalogVersions;
+    
     @GetMapping
-    public ResponseEntity<List<Destination>> getAllDestinations() {
-        List<Destination> destinations = destinationService.getAllDestinations();
-        return ResponseEntity.ok(destinations);
+    public ResponseEntity<CursorPage<Destination>> getAllDestinations(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        // The page comes from the snapshot loaded at this version, so body and ETag always agree
+        long version = catalogVersions.current(CatalogVersions.Catalog.DESTINATIONS);
+        return ConditionalGet.respond(request, CatalogVersions.etag(CatalogVersions.Catalog.DESTINATIONS, version), () -> {
+            try {
+                return ResponseEntity.ok(destinationService.getDestinationsPage(cursor, limit, version));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        });
     }
     
+    // The ETag is the cached destination's own version, so a cache hit needs no database round trip
     @GetMapping("/{id}")
-    public ResponseEntity<Destination> getDestinationById(@PathVariable Long id) {
+    public ResponseEntity<Destination> getDestinationById(@PathVariable Long id, WebRequest request) {
         Optional<Destination> destination = destinationService.getDestinationById(id);
-        if (destination.isPresent()) {
-            return ResponseEntity.ok(destination.get());
+        if (destination.isEmpty()) {
+            return ResponseEntity.notFound().build();
         }
-        return ResponseEntity.notFound().build();
+        suggestionService.recordView(Suggestion.Type.DESTINATION, id);
+        return ConditionalGet.respond(request, IfMatch.etag(destination.get().getVersion()),
+                () -> ResponseEntity.ok(destination.get()));
     }
     
     @PostMapping
@@ -39,12 +69,20 @@ public class DestinationController {
     }
     
     @PutMapping("/{id}")
-    public ResponseEntity<Destination> updateDestination(@PathVariable Long id, @Valid @RequestBody Destination destinationDetails) {
+    public ResponseEntity<Destination> updateDestination(@PathVariable Long id, @Valid @RequestBody Destination destinationDetails,
+                                                         WebRequest request) {
+        IfMatch ifMatch = IfMatch.from(request);
         try {
-            Destination updatedDestination = destinationService.updateDestination(id, destinationDetails);
-            return ResponseEntity.ok(updatedDestination);
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
+            Destination updatedDestination = destinationService.updateDestination(id, destinationDetails, ifMatch.version());
+            return ResponseEntity.ok().eTag(IfMatch.etag(updatedDestination.getVersion())).body(updatedDestination);
+        } catch (PreconditionFailedException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (ResourceNotFoundException e) {
+            // If-Match: * on a missing destination is a failed precondition too
+            return ifMatch.present() ? ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build()
+                    : ResponseEntity.notFound().build();
+        } catch (DataIntegrityViolationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
     }
     
@@ -54,18 +92,40 @@ public class DestinationController {
         return ResponseEntity.noContent().build();
     }
     
+    @GetMapping("/cache/stats")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        return ResponseEntity.ok(destinationService.getCacheStats());
+    }
+    
     @GetMapping("/search")
     public ResponseEntity<List<Destination>> searchDestinations(
+            @RequestParam(required = false) String q,
             @RequestParam(required = false) String name,
-            @RequestParam(required = false) String location) {
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) Integer limit) {
         List<Destination> destinations;
-        if (name != null && !name.isEmpty()) {
-            destinations = destinationService.searchByName(name);
-        } else if (location != null && !location.isEmpty()) {
-            destinations = destinationService.searchByLocation(location);
+        if (isBlank(q) && isBlank(name) && isBlank(location)) {
+            destinations = destinationService.getDestinationsPage(null, limit).getItems();
         } else {
-            destinations = destinationService.getAllDestinations();
+            destinations = destinationService.search(q, name, location, limit);
         }
         return ResponseEntity.ok(destinations);
     }
+    
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyResult<Destination>>> getNearbyDestinations(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(destinationService.nearby(lat, lng, radiusKm, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
 }
\ No newline at end of file
@@ -1,51 +1,110 @@
 package com.travelapp.controller;
 
+import com.travelapp.dto.BudgetSummary;
+import com.travelapp.dto.ImportResult;
+import com.travelapp.dto.SettleUpPlan;
 import com.travelapp.entity.Expense;
+import com.travelapp.service.ExpenseImportService;
+import com.travelapp.service.ExpenseService;
+import com.travelapp.service.SettleUpService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import java.math.BigDecimal;
-import java.time.LocalDate;
-import java.util.Arrays;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/expenses")
 @CrossOrigin(origins = "http://localhost:5173")
 public class ExpenseController {
     
-    // Mock data for now - replace with actual service when implemented
+    @Autowired
+    private ExpenseService expenseService;
+    
+    @Autowired
+    private ExpenseImportService expenseImportService;
+    
+    @Autowired
+    private SettleUpService settleUpService;
+    
     @GetMapping("/trip/{tripId}")
     public ResponseEntity<List<Expense>> getExpensesByTripId(@PathVariable Long tripId) {
-        List<Expense> expenses = Arrays.asList(
-            createMockExpense(1L, tripId, "Hotel", new BigDecimal("5000.00")),
-            createMockExpense(2L, tripId, "Transport", new BigDecimal("15000.00")),
-            createMockExpense(3L, tripId, "Food", new BigDecimal("2000.00")),
-            createMockExpense(4L, tripId, "Activities", new BigDecimal("3000.00")),
-            createMockExpense(5L, tripId, "Shopping", new BigDecimal("2500.00"))
-        );
-        return ResponseEntity.ok(expenses);
+        return ResponseEntity.ok(expenseService.getExpensesByTripId(tripId));
+    }
+    
+    @GetMapping("/trip/{tripId}/summary")
+    public ResponseEntity<BudgetSummary> getBudgetSummary(@PathVariable Long tripId) {
+        Optional<BudgetSummary> summary = expenseService.getBudgetSummary(tripId);
+        if (summary.isPresent()) {
+            return ResponseEntity.ok(summary.get());
+        }
+        return ResponseEntity.notFound().build();
+    }
+    
+    @GetMapping("/trip/{tripId}/settle-up")
+    public ResponseEntity<SettleUpPlan> getSettleUpPlan(@PathVariable Long tripId) {
+        try {
+            return ResponseEntity.ok(settleUpService.getPlan(tripId));
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
     }
     
     @GetMapping("/{id}")
     public ResponseEntity<Expense> getExpenseById(@PathVariable Long id) {
-        Expense expense = createMockExpense(id, 1L, "Misc", new BigDecimal("1000.00"));
-        return ResponseEntity.ok(expense);
+        Optional<Expense> expense = expenseService.getExpenseById(id);
+        if (expense.isPresent()) {
+            return ResponseEntity.ok(expense.get());
+        }
+        return ResponseEntity.notFound().build();
     }
     
     @PostMapping
-    public ResponseEntity<Expense> createExpense(@RequestBody Expense expense) {
-        // Mock creation - assign ID
-        expense.setExpenseId(System.currentTimeMillis());
-        expense.setDate(LocalDate.now());
-        return ResponseEntity.ok(expense);
-    }
-    
-    private Expense createMockExpense(Long id, Long tripId, String category, BigDecimal amount) {
-        Expense expense = new Expense();
-        expense.setExpenseId(id);
-        expense.setCategory(category);
-        expense.setAmount(amount);
-        expense.setDate(LocalDate.now());
-        return expense;
-    }
-}
\ No newline at end of file
+    public ResponseEntity<Expense> createExpense(@Valid @RequestBody Expense expense) {
+        try {
+            return ResponseEntity.ok(expenseService.createExpense(expense));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ImportResult> importExpenses(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) throws IOException {
+        ExpenseImportService.Format format = MediaType.valueOf("text/csv").includes(contentType)
+                ? ExpenseImportService.Format.CSV
+                : ExpenseImportService.Format.NDJSON;
+        try {
+            return ResponseEntity.ok(expenseImportService.importExpenses(body, format));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    @PutMapping("/{id}")
+    public ResponseEntity<Expense> updateExpense(@PathVariable Long id, @Valid @RequestBody Expense expenseDetails) {
+        try {
+            return ResponseEntity.ok(expenseService.updateExpense(id, expenseDetails));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteExpense(@PathVariable Long id) {
+        try {
+            expenseService.deleteExpense(id);
+            return ResponseEntity.noContent().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
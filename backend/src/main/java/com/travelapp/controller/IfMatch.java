@@ -0,0 +1,38 @@
+package com.travelapp.controller;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * If-Match for the guarded updates of trips, destinations and users, whose
+ * ETag is their row version. {@link #version()} is what the conditional
+ * UPDATE compares with: null when the header is absent or "*", and -1, which
+ * no row ever has, when it names no version of ours (a weak or foreign tag,
+ * or a list of several).
+ */
+record IfMatch(boolean present, Long version) {
+    
+    private static final long NO_VERSION = -1;
+    
+    static String etag(Long version) {
+        return "\"v" + version + "\"";
+    }
+    
+    static IfMatch from(WebRequest request) {
+        String header = request.getHeader(HttpHeaders.IF_MATCH);
+        if (header == null) {
+            return new IfMatch(false, null);
+        }
+        String value = header.trim();
+        if (value.equals("*")) {
+            return new IfMatch(true, null);
+        }
+        if (value.length() > 3 && value.startsWith("\"v") && value.endsWith("\"")) {
+            String digits = value.substring(2, value.length() - 1);
+            if (digits.length() <= 18 && digits.chars().allMatch(Character::isDigit)) {
+                return new IfMatch(true, Long.parseLong(digits));
+            }
+        }
+        return new IfMatch(true, NO_VERSION);
+    }
+}
@@ -1,41 +1,68 @@
 package com.travelapp.controller;
 
+import com.travelapp.dto.NearbyResult;
 import com.travelapp.entity.LocalService;
+import com.travelapp.service.LocalServiceService;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import java.util.Arrays;
+import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/local-services")
 @CrossOrigin(origins = "http://localhost:5173")
 public class LocalServiceController {
     
-    // Mock data for now - replace with actual service when implemented
+    @Autowired
+    private LocalServiceService localServiceService;
+    
     @GetMapping
     public ResponseEntity<List<LocalService>> getAllLocalServices() {
-        List<LocalService> services = Arrays.asList(
-            createMockService(1L, "Cox's Bazar Guide", "Tour Guide", "+880-1234567890"),
-            createMockService(2L, "Sylhet Tea Tours", "Tour Guide", "+880-1234567891"),
-            createMockService(3L, "Sajek Adventure", "Adventure Guide", "+880-1234567892"),
-            createMockService(4L, "Sundarban Wildlife Tours", "Wildlife Guide", "+880-1234567893"),
-            createMockService(5L, "Dhaka City Tours", "City Guide", "+880-1234567894")
-        );
-        return ResponseEntity.ok(services);
+        return ResponseEntity.ok(localServiceService.getAllLocalServices());
     }
     
     @GetMapping("/{id}")
     public ResponseEntity<LocalService> getLocalServiceById(@PathVariable Long id) {
-        LocalService service = createMockService(id, "Sample Guide", "Tour Guide", "+880-1234567890");
-        return ResponseEntity.ok(service);
+        Optional<LocalService> service = localServiceService.getLocalServiceById(id);
+        if (service.isPresent()) {
+            return ResponseEntity.ok(service.get());
+        }
+        return ResponseEntity.notFound().build();
+    }
+    
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyResult<LocalService>>> getNearbyLocalServices(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(localServiceService.nearby(lat, lng, radiusKm, type, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    @PostMapping
+    public ResponseEntity<LocalService> createLocalService(@Valid @RequestBody LocalService service) {
+        return ResponseEntity.ok(localServiceService.createLocalService(service));
+    }
+    
+    @PutMapping("/{id}")
+    public ResponseEntity<LocalService> updateLocalService(@PathVariable Long id, @Valid @RequestBody LocalService serviceDetails) {
+        try {
+            return ResponseEntity.ok(localServiceService.updateLocalService(id, serviceDetails));
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
     }
     
-    private LocalService createMockService(Long id, String name, String type, String contact) {
-        LocalService service = new LocalService();
-        service.setServiceId(id);
-        service.setName(name);
-        service.setType(type);
-        service.setContact(contact);
-        return service;
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteLocalService(@PathVariable Long id) {
+        localServiceService.deleteLocalService(id);
+        return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,30 @@
+package com.travelapp.controller;
+
+import com.travelapp.dto.PackageSearchRequest;
+import com.travelapp.dto.TravelPackage;
+import com.travelapp.service.PackageSearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/packages")
+@CrossOrigin(origins = "http://localhost:5173")
+public class PackageController {
+    
+    @Autowired
+    private PackageSearchService packageSearchService;
+    
+    // Options: destinationId, radiusKm, budget, travellers, rooms, minNights, roundTrip, limit
+    @GetMapping("/trip/{tripId}")
+    public ResponseEntity<List<TravelPackage>> searchPackages(@PathVariable Long tripId, PackageSearchRequest request) {
+        try {
+            return ResponseEntity.ok(packageSearchService.search(tripId, request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.travelapp.controller;
+
+import com.travelapp.dto.RoutePlan;
+import com.travelapp.dto.RouteRequest;
+import com.travelapp.service.RouteService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/routes")
+@CrossOrigin(origins = "http://localhost:5173")
+public class RouteController {
+    
+    @Autowired
+    private RouteService routeService;
+    
+    @PostMapping("/optimize")
+    public ResponseEntity<RoutePlan> optimize(@RequestBody RouteRequest request) {
+        try {
+            return ResponseEntity.ok(routeService.optimize(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.travelapp.controller;
+
+import com.travelapp.search.Suggestion;
+import com.travelapp.service.SuggestionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/suggest")
+@CrossOrigin(origins = "http://localhost:5173")
+public class SuggestionController {
+    
+    @Autowired
+    private SuggestionService suggestionService;
+    
+    @GetMapping
+    public ResponseEntity<List<Suggestion>> suggest(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(suggestionService.suggest(q, limit));
+    }
+}
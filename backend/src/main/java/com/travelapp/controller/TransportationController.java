@@ -1,43 +1,60 @@
 package com.travelapp.controller;
 
+import com.travelapp.cache.CatalogVersions;
+import com.travelapp.entity.SeatInventory;
 import com.travelapp.entity.Transportation;
+import com.travelapp.service.BookingException;
+import com.travelapp.service.BookingService;
+import com.travelapp.service.TransportationService;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import java.math.BigDecimal;
-import java.util.Arrays;
+import org.springframework.web.context.request.WebRequest;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/transportation")
 @CrossOrigin(origins = "http://localhost:5173")
 public class TransportationController {
     
-    // Mock data for now - replace with actual service when implemented
+    @Autowired
+    private TransportationService transportationService;
+    
+    @Autowired
+    private BookingService bookingService;
+    
+    @Autowired
+    private CatalogVersions catalogVersions;
+    
     @GetMapping
-    public ResponseEntity<List<Transportation>> getAllTransportation() {
-        List<Transportation> transportation = Arrays.asList(
-            createMockTransportation(1L, "Bus", "Green Line", new BigDecimal("1200"), true),
-            createMockTransportation(2L, "Train", "Bangladesh Railway", new BigDecimal("800"), true),
-            createMockTransportation(3L, "Flight", "Biman Bangladesh", new BigDecimal("8000"), true),
-            createMockTransportation(4L, "Car Rental", "Rental Cars BD", new BigDecimal("3000"), true),
-            createMockTransportation(5L, "Boat", "River Transport", new BigDecimal("500"), true)
-        );
-        return ResponseEntity.ok(transportation);
+    public ResponseEntity<List<Transportation>> getAllTransportation(WebRequest request) {
+        return ConditionalGet.respond(request, catalogVersions.etag(CatalogVersions.Catalog.TRANSPORTATION),
+                () -> ResponseEntity.ok(transportationService.getAllTransportation()));
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<Transportation> getTransportationById(@PathVariable Long id) {
-        Transportation transport = createMockTransportation(id, "Bus", "Sample Transport", new BigDecimal("1200"), true);
-        return ResponseEntity.ok(transport);
+    public ResponseEntity<Transportation> getTransportationById(@PathVariable Long id, WebRequest request) {
+        Optional<Long> version = transportationService.getTransportationVersion(id);
+        if (version.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ConditionalGet.respond(request, IfMatch.etag(version.get()), () -> {
+            Optional<Transportation> transportation = transportationService.getTransportationById(id);
+            if (transportation.isPresent()) {
+                return ResponseEntity.ok(transportation.get());
+            }
+            return ResponseEntity.notFound().build();
+        });
     }
     
-    private Transportation createMockTransportation(Long id, String type, String provider, BigDecimal price, Boolean availability) {
-        Transportation transportation = new Transportation();
-        transportation.setTransportationId(id);
-        transportation.setType(type);
-        transportation.setProvider(provider);
-        transportation.setPrice(price);
-        transportation.setAvailability(availability);
-        return transportation;
+    @GetMapping("/{id}/seats")
+    public ResponseEntity<SeatInventory> getSeatAvailability(@PathVariable Long id, @RequestParam LocalDate date) {
+        try {
+            return ResponseEntity.ok(bookingService.getAvailability(id, date));
+        } catch (BookingException e) {
+            return ResponseEntity.notFound().build();
+        }
     }
-}
\ No newline at end of file
+}
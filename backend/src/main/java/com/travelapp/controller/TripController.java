@@ -1,11 +1,24 @@
 package com.travelapp.controller;
 
+import com.travelapp.cache.CatalogVersions;
+import com.travelapp.dto.CursorPage;
+import com.travelapp.dto.TripSummary;
 import com.travelapp.entity.Trip;
+import com.travelapp.security.AuthenticatedUser;
+import com.travelapp.service.PreconditionFailedException;
+import com.travelapp.service.ResourceNotFoundException;
+import com.travelapp.service.TripExportService;
 import com.travelapp.service.TripService;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import jakarta.validation.Valid;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -18,34 +31,63 @@ public class TripController {
     @Autowired
     private TripService tripService;
     
+    @Autowired
+    private TripExportService tripExportService;
+    
+    @Autowired
+    private CatalogVersions catalogVersions;
+    
     @GetMapping
-    public ResponseEntity<List<Trip>> getAllTrips() {
-        List<Trip> trips = tripService.getAllTrips();
-        return ResponseEntity.ok(trips);
+    public ResponseEntity<CursorPage<TripSummary>> getAllTrips(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = TripService.SORT_BY_ID) String sort,
+            WebRequest request) {
+        return ConditionalGet.respondPrivate(request, catalogVersions.etag(CatalogVersions.Catalog.TRIPS), () -> {
+            try {
+                return ResponseEntity.ok(tripService.getTripsPage(cursor, limit, sort));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        });
     }
     
+    // Revalidation reads only the version column; the trip and its members load on a miss
     @GetMapping("/{id}")
-    public ResponseEntity<Trip> getTripById(@PathVariable Long id) {
-        Optional<Trip> trip = tripService.getTripById(id);
-        if (trip.isPresent()) {
-            return ResponseEntity.ok(trip.get());
+    public ResponseEntity<Trip> getTripById(@PathVariable Long id, WebRequest request) {
+        Optional<Long> version = tripService.getTripVersion(id);
+        if (version.isEmpty()) {
+            return ResponseEntity.notFound().build();
         }
-        return ResponseEntity.notFound().build();
+        return ConditionalGet.respondPrivate(request, IfMatch.etag(version.get()), () -> {
+            Optional<Trip> trip = tripService.getTripById(id);
+            if (trip.isPresent()) {
+                return ResponseEntity.ok(trip.get());
+            }
+            return ResponseEntity.notFound().build();
+        });
     }
     
     @PostMapping
-    public ResponseEntity<Trip> createTrip(@Valid @RequestBody Trip trip) {
-        Trip savedTrip = tripService.createTrip(trip);
+    public ResponseEntity<Trip> createTrip(@Valid @RequestBody Trip trip, @AuthenticationPrincipal AuthenticatedUser user) {
+        Trip savedTrip = tripService.createTrip(trip, user.getUserId());
         return ResponseEntity.ok(savedTrip);
     }
     
     @PutMapping("/{id}")
-    public ResponseEntity<Trip> updateTrip(@PathVariable Long id, @Valid @RequestBody Trip tripDetails) {
+    public ResponseEntity<Trip> updateTrip(@PathVariable Long id, @Valid @RequestBody Trip tripDetails, WebRequest request) {
+        IfMatch ifMatch = IfMatch.from(request);
         try {
-            Trip updatedTrip = tripService.updateTrip(id, tripDetails);
-            return ResponseEntity.ok(updatedTrip);
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
+            Trip updatedTrip = tripService.updateTrip(id, tripDetails, ifMatch.version());
+            return ResponseEntity.ok().eTag(IfMatch.etag(updatedTrip.getVersion())).body(updatedTrip);
+        } catch (PreconditionFailedException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (ResourceNotFoundException e) {
+            // If-Match: * on a missing trip is a failed precondition too
+            return ifMatch.present() ? ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build()
+                    : ResponseEntity.notFound().build();
+        } catch (DataIntegrityViolationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
     }
     
@@ -55,11 +97,30 @@ public class TripController {
         return ResponseEntity.noContent().build();
     }
     
+    // Trips lying entirely within the range; overlapping=true also returns those that only intersect it
     @GetMapping("/date-range")
     public ResponseEntity<List<Trip>> getTripsByDateRange(
             @RequestParam LocalDate startDate,
-            @RequestParam LocalDate endDate) {
-        List<Trip> trips = tripService.getTripsByDateRange(startDate, endDate);
+            @RequestParam LocalDate endDate,
+            @RequestParam(defaultValue = "false") boolean overlapping) {
+        List<Trip> trips = overlapping
+                ? tripService.getTripsOverlapping(startDate, endDate)
+                : tripService.getTripsByDateRange(startDate, endDate);
         return ResponseEntity.ok(trips);
     }
-}
\ No newline at end of file
+    
+    // Written straight to the response as rows are read; nothing is collected in memory
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public void exportTrips(
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate,
+            HttpServletResponse response) throws IOException {
+        if ((startDate == null) != (endDate == null)) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        tripExportService.exportNdjson(response.getOutputStream(), startDate, endDate);
+    }
+}
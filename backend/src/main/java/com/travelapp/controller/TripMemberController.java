@@ -0,0 +1,78 @@
+package com.travelapp.controller;
+
+import com.travelapp.dto.CursorPage;
+import com.travelapp.dto.MembershipRequest;
+import com.travelapp.dto.MembershipResult;
+import com.travelapp.dto.TripMember;
+import com.travelapp.entity.TripUser;
+import com.travelapp.service.TripMembershipService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/trips/{tripId}/members")
+@CrossOrigin(origins = "http://localhost:5173")
+public class TripMemberController {
+    
+    @Autowired
+    private TripMembershipService membershipService;
+    
+    @GetMapping
+    public ResponseEntity<CursorPage<TripMember>> getMembers(
+            @PathVariable Long tripId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(membershipService.getMembersPage(tripId, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    // Bulk add: {"userIds": [...], "role": "MEMBER"}
+    @PostMapping
+    public ResponseEntity<MembershipResult> addMembers(@PathVariable Long tripId, @RequestBody MembershipRequest request) {
+        try {
+            return ResponseEntity.ok(membershipService.addMembers(tripId, request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    @PutMapping("/{userId}")
+    public ResponseEntity<Void> addMember(
+            @PathVariable Long tripId,
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "MEMBER") TripUser.Role role) {
+        try {
+            membershipService.addMember(tripId, userId, role);
+            return ResponseEntity.noContent().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    @DeleteMapping("/{userId}")
+    public ResponseEntity<Void> removeMember(@PathVariable Long tripId, @PathVariable Long userId) {
+        if (membershipService.removeMember(tripId, userId)) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.notFound().build();
+    }
+    
+    // Bulk remove: DELETE /api/trips/{tripId}/members?userIds=1,2,3
+    @DeleteMapping
+    public ResponseEntity<MembershipResult> removeMembers(@PathVariable Long tripId, @RequestParam List<Long> userIds) {
+        try {
+            return ResponseEntity.ok(membershipService.removeMembers(tripId, userIds));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -1,13 +1,26 @@
 package com.travelapp.controller;
 
+import com.travelapp.dto.CalendarEntry;
+import com.travelapp.dto.CursorPage;
+import com.travelapp.dto.UserSummary;
 import com.travelapp.entity.User;
+import com.travelapp.service.PasswordHashingRejectedException;
+import com.travelapp.service.PreconditionFailedException;
+import com.travelapp.service.ResourceNotFoundException;
+import com.travelapp.service.TripService;
 import com.travelapp.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import jakarta.validation.Valid;
+import java.time.LocalDate;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api/users")
@@ -17,34 +30,76 @@ public class UserController {
     @Autowired
     private UserService userService;
     
+    @Autowired
+    private TripService tripService;
+    
     @GetMapping
-    public ResponseEntity<List<User>> getAllUsers() {
-        List<User> users = userService.getAllUsers();
-        // Remove passwords from response
-        users.forEach(user -> user.setPassword(null));
-        return ResponseEntity.ok(users);
+    public ResponseEntity<CursorPage<UserSummary>> getAllUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(userService.getUsersPage(cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<User> getUserById(@PathVariable Long id) {
-        Optional<User> user = userService.getUserById(id);
-        if (user.isPresent()) {
-            User foundUser = user.get();
-            foundUser.setPassword(null); // Don't return password
-            return ResponseEntity.ok(foundUser);
+    public ResponseEntity<User> getUserById(@PathVariable Long id, WebRequest request) {
+        // The password is write-only in JSON, so the entity is returned as loaded
+        return userService.getUserById(id)
+                .map(user -> ConditionalGet.respondPrivate(request, IfMatch.etag(user.getVersion()),
+                        () -> ResponseEntity.ok(user)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @GetMapping("/{id}/calendar")
+    public ResponseEntity<List<CalendarEntry>> getCalendar(
+            @PathVariable Long id,
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to) {
+        try {
+            return ResponseEntity.ok(tripService.getCalendar(id, from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         }
-        return ResponseEntity.notFound().build();
     }
     
     @PutMapping("/{id}")
-    public ResponseEntity<User> updateUser(@PathVariable Long id, @Valid @RequestBody User userDetails) {
+    public CompletableFuture<ResponseEntity<User>> updateUser(@PathVariable Long id, @Valid @RequestBody User userDetails,
+                                                              WebRequest request) {
+        IfMatch ifMatch = IfMatch.from(request);
         try {
-            User updatedUser = userService.updateUser(id, userDetails);
-            updatedUser.setPassword(null); // Don't return password
-            return ResponseEntity.ok(updatedUser);
+            return userService.updateUser(id, userDetails, ifMatch.version())
+                    .thenApply(user -> ResponseEntity.ok().eTag(IfMatch.etag(user.getVersion())).body(user))
+                    .exceptionally(e -> {
+                        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                        if (cause instanceof PasswordHashingRejectedException) {
+                            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                    .header(HttpHeaders.RETRY_AFTER, "1")
+                                    .build();
+                        }
+                        return notUpdated(cause, ifMatch);
+                    });
         } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
+            return CompletableFuture.completedFuture(notUpdated(e, ifMatch));
+        }
+    }
+    
+    // Anything other than a stale version, a missing user or a taken email is rethrown
+    private static ResponseEntity<User> notUpdated(Throwable cause, IfMatch ifMatch) {
+        if (cause instanceof PreconditionFailedException) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
+        if (cause instanceof ResourceNotFoundException) {
+            // If-Match: * on a missing user is a failed precondition too
+            return ifMatch.present() ? ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build()
+                    : ResponseEntity.notFound().build();
+        }
+        if (cause instanceof DataIntegrityViolationException) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
+        throw cause instanceof RuntimeException e ? e : new CompletionException(cause);
     }
     
     @DeleteMapping("/{id}")
@@ -0,0 +1,66 @@
+package com.travelapp.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Optional filters and sort order for accommodation listings, bound from
+ * query parameters. Unset filters are ignored.
+ */
+public class AccommodationFilter {
+    
+    private String type;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private Integer minRating;
+    private String name;
+    private String sort;
+    
+    // Getters and Setters
+    public String getType() {
+        return type;
+    }
+    
+    public void setType(String type) {
+        this.type = type;
+    }
+    
+    public BigDecimal getMinPrice() {
+        return minPrice;
+    }
+    
+    public void setMinPrice(BigDecimal minPrice) {
+        this.minPrice = minPrice;
+    }
+    
+    public BigDecimal getMaxPrice() {
+        return maxPrice;
+    }
+    
+    public void setMaxPrice(BigDecimal maxPrice) {
+        this.maxPrice = maxPrice;
+    }
+    
+    public Integer getMinRating() {
+        return minRating;
+    }
+    
+    public void setMinRating(Integer minRating) {
+        this.minRating = minRating;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public String getSort() {
+        return sort;
+    }
+    
+    public void setSort(String sort) {
+        this.sort = sort;
+    }
+}
@@ -0,0 +1,58 @@
+package com.travelapp.dto;
+
+import com.travelapp.entity.User;
+import java.time.Instant;
+
+/**
+ * Returned by login and registration: a bearer token for the Authorization
+ * header plus the signed-in user (without password).
+ */
+public class AuthResponse {
+    
+    private String token;
+    private String tokenType = "Bearer";
+    private Instant expiresAt;
+    private User user;
+    
+    // Constructors
+    public AuthResponse() {}
+    
+    public AuthResponse(String token, Instant expiresAt, User user) {
+        this.token = token;
+        this.expiresAt = expiresAt;
+        this.user = user;
+    }
+    
+    // Getters and Setters
+    public String getToken() {
+        return token;
+    }
+    
+    public void setToken(String token) {
+        this.token = token;
+    }
+    
+    public String getTokenType() {
+        return tokenType;
+    }
+    
+    public void setTokenType(String tokenType) {
+        this.tokenType = tokenType;
+    }
+    
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+    
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+    
+    public User getUser() {
+        return user;
+    }
+    
+    public void setUser(User user) {
+        this.user = user;
+    }
+}
@@ -0,0 +1,81 @@
+package com.travelapp.dto;
+
+import com.travelapp.entity.TripCategoryTotal;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Spent vs budget for one trip, assembled from the running totals rather
+ * than from the expense rows.
+ */
+public class BudgetSummary {
+    
+    private Long tripId;
+    private BigDecimal totalBudget;
+    private BigDecimal totalSpent;
+    private BigDecimal remaining;
+    private long expenseCount;
+    private List<TripCategoryTotal> categories;
+    
+    // Constructors
+    public BudgetSummary() {}
+    
+    public BudgetSummary(Long tripId, BigDecimal totalBudget, BigDecimal totalSpent,
+                         long expenseCount, List<TripCategoryTotal> categories) {
+        this.tripId = tripId;
+        this.totalBudget = totalBudget;
+        this.totalSpent = totalSpent;
+        this.remaining = totalBudget == null ? null : totalBudget.subtract(totalSpent);
+        this.expenseCount = expenseCount;
+        this.categories = categories;
+    }
+    
+    // Getters and Setters
+    public Long getTripId() {
+        return tripId;
+    }
+    
+    public void setTripId(Long tripId) {
+        this.tripId = tripId;
+    }
+    
+    public BigDecimal getTotalBudget() {
+        return totalBudget;
+    }
+    
+    public void setTotalBudget(BigDecimal totalBudget) {
+        this.totalBudget = totalBudget;
+    }
+    
+    public BigDecimal getTotalSpent() {
+        return totalSpent;
+    }
+    
+    public void setTotalSpent(BigDecimal totalSpent) {
+        this.totalSpent = totalSpent;
+    }
+    
+    public BigDecimal getRemaining() {
+        return remaining;
+    }
+    
+    public void setRemaining(BigDecimal remaining) {
+        this.remaining = remaining;
+    }
+    
+    public long getExpenseCount() {
+        return expenseCount;
+    }
+    
+    public void setExpenseCount(long expenseCount) {
+        this.expenseCount = expenseCount;
+    }
+    
+    public List<TripCategoryTotal> getCategories() {
+        return categories;
+    }
+    
+    public void setCategories(List<TripCategoryTotal> categories) {
+        this.categories = categories;
+    }
+}
@@ -0,0 +1,57 @@
+package com.travelapp.dto;
+
+import java.time.LocalDate;
+
+/**
+ * A trip as it appears on a user's calendar.
+ */
+public class CalendarEntry {
+    
+    private Long tripId;
+    private String title;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    
+    // Constructors
+    public CalendarEntry() {}
+    
+    public CalendarEntry(Long tripId, String title, LocalDate startDate, LocalDate endDate) {
+        this.tripId = tripId;
+        this.title = title;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+    
+    // Getters and Setters
+    public Long getTripId() {
+        return tripId;
+    }
+    
+    public void setTripId(Long tripId) {
+        this.tripId = tripId;
+    }
+    
+    public String getTitle() {
+        return title;
+    }
+    
+    public void setTitle(String title) {
+        this.title = title;
+    }
+    
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+    
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+    
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+    
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+}
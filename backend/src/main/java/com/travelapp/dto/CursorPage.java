@@ -0,0 +1,50 @@
+package com.travelapp.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing. {@code next} is an opaque cursor
+ * for the following page, or {@code null} when this is the last page.
+ */
+public class CursorPage<T> {
+    
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+    
+    private final List<T> items;
+    private final String next;
+    
+    public CursorPage(List<T> items, String next) {
+        this.items = items;
+        this.next = next;
+    }
+    
+    /**
+     * Builds a page from rows fetched with {@code limit + 1}; the extra row
+     * only signals that another page exists and is not returned.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, String> cursorOf) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, limit);
+        return new CursorPage<>(items, cursorOf.apply(items.get(limit - 1)));
+    }
+    
+    public static int clampLimit(Integer limit) {
+        if (limit == null || limit < 1) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+    
+    // Getters
+    public List<T> getItems() {
+        return items;
+    }
+    
+    public String getNext() {
+        return next;
+    }
+}
@@ -0,0 +1,118 @@
+package com.travelapp.dto;
+
+import com.travelapp.entity.Accommodation;
+import com.travelapp.entity.Destination;
+import com.travelapp.entity.Transportation;
+import com.travelapp.entity.Trip;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything the dashboard shows, gathered in one request. Sections that
+ * failed or timed out are left null and named in unavailable.
+ */
+public class DashboardSummary {
+    
+    private Integer tripCount;
+    private Integer tripsThisYear;
+    private Integer upcomingCount;
+    private BigDecimal totalBudget;
+    private List<Trip> upcomingTrips;
+    private BigDecimal totalSpent;
+    private Map<Long, BigDecimal> spentByTrip;
+    private List<Destination> destinations;
+    private List<Accommodation> accommodations;
+    private List<Transportation> transportation;
+    private List<String> unavailable = new ArrayList<>();
+    
+    // Getters and Setters
+    public Integer getTripCount() {
+        return tripCount;
+    }
+    
+    public void setTripCount(Integer tripCount) {
+        this.tripCount = tripCount;
+    }
+    
+    public Integer getTripsThisYear() {
+        return tripsThisYear;
+    }
+    
+    public void setTripsThisYear(Integer tripsThisYear) {
+        this.tripsThisYear = tripsThisYear;
+    }
+    
+    public Integer getUpcomingCount() {
+        return upcomingCount;
+    }
+    
+    public void setUpcomingCount(Integer upcomingCount) {
+        this.upcomingCount = upcomingCount;
+    }
+    
+    public BigDecimal getTotalBudget() {
+        return totalBudget;
+    }
+    
+    public void setTotalBudget(BigDecimal totalBudget) {
+        this.totalBudget = totalBudget;
+    }
+    
+    public List<Trip> getUpcomingTrips() {
+        return upcomingTrips;
+    }
+    
+    public void setUpcomingTrips(List<Trip> upcomingTrips) {
+        this.upcomingTrips = upcomingTrips;
+    }
+    
+    public BigDecimal getTotalSpent() {
+        return totalSpent;
+    }
+    
+    public void setTotalSpent(BigDecimal totalSpent) {
+        this.totalSpent = totalSpent;
+    }
+    
+    public Map<Long, BigDecimal> getSpentByTrip() {
+        return spentByTrip;
+    }
+    
+    public void setSpentByTrip(Map<Long, BigDecimal> spentByTrip) {
+        this.spentByTrip = spentByTrip;
+    }
+    
+    public List<Destination> getDestinations() {
+        return destinations;
+    }
+    
+    public void setDestinations(List<Destination> destinations) {
+        this.destinations = destinations;
+    }
+    
+    public List<Accommodation> getAccommodations() {
+        return accommodations;
+    }
+    
+    public void setAccommodations(List<Accommodation> accommodations) {
+        this.accommodations = accommodations;
+    }
+    
+    public List<Transportation> getTransportation() {
+        return transportation;
+    }
+    
+    public void setTransportation(List<Transportation> transportation) {
+        this.transportation = transportation;
+    }
+    
+    public List<String> getUnavailable() {
+        return unavailable;
+    }
+    
+    public void setUnavailable(List<String> unavailable) {
+        this.unavailable = unavailable;
+    }
+}
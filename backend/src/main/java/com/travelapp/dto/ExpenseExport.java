@@ -0,0 +1,28 @@
+package com.travelapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One expense line of the NDJSON export.
+ */
+@JsonPropertyOrder({"type", "expenseId", "tripId", "category", "amount", "date", "description"})
+public interface ExpenseExport {
+    
+    default String getType() {
+        return "expense";
+    }
+    
+    Long getExpenseId();
+    
+    Long getTripId();
+    
+    String getCategory();
+    
+    BigDecimal getAmount();
+    
+    LocalDate getDate();
+    
+    String getDescription();
+}
@@ -0,0 +1,68 @@
+package com.travelapp.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. Only the first rejected rows are listed in
+ * errors; failed always counts all of them.
+ */
+public class ImportResult {
+    
+    private long imported;
+    private long failed;
+    private List<RowError> errors = new ArrayList<>();
+    
+    // Getters and Setters
+    public long getImported() {
+        return imported;
+    }
+    
+    public void setImported(long imported) {
+        this.imported = imported;
+    }
+    
+    public long getFailed() {
+        return failed;
+    }
+    
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+    
+    public List<RowError> getErrors() {
+        return errors;
+    }
+    
+    public void setErrors(List<RowError> errors) {
+        this.errors = errors;
+    }
+    
+    public static class RowError {
+        private long line;
+        private String message;
+        
+        public RowError() {}
+        
+        public RowError(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+        
+        public long getLine() {
+            return line;
+        }
+        
+        public void setLine(long line) {
+            this.line = line;
+        }
+        
+        public String getMessage() {
+            return message;
+        }
+        
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
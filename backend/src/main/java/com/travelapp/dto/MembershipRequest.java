@@ -0,0 +1,38 @@
+package com.travelapp.dto;
+
+import com.travelapp.entity.TripUser;
+import java.util.List;
+
+/**
+ * Users to add to a trip in one statement, all with the same role.
+ */
+public class MembershipRequest {
+    
+    private List<Long> userIds;
+    private TripUser.Role role = TripUser.Role.MEMBER;
+    
+    // Constructors
+    public MembershipRequest() {}
+    
+    public MembershipRequest(List<Long> userIds, TripUser.Role role) {
+        this.userIds = userIds;
+        this.role = role;
+    }
+    
+    // Getters and Setters
+    public List<Long> getUserIds() {
+        return userIds;
+    }
+    
+    public void setUserIds(List<Long> userIds) {
+        this.userIds = userIds;
+    }
+    
+    public TripUser.Role getRole() {
+        return role;
+    }
+    
+    public void setRole(TripUser.Role role) {
+        this.role = role;
+    }
+}
@@ -0,0 +1,51 @@
+package com.travelapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+
+/**
+ * Outcome of a bulk add or remove: how many distinct users were asked for
+ * and how many memberships actually changed. A bulk add also lists the
+ * double bookings it created.
+ */
+public class MembershipResult {
+    
+    private int requested;
+    private int changed;
+    
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<TripConflict> conflicts = List.of();
+    
+    // Constructors
+    public MembershipResult() {}
+    
+    public MembershipResult(int requested, int changed) {
+        this.requested = requested;
+        this.changed = changed;
+    }
+    
+    // Getters and Setters
+    public int getRequested() {
+        return requested;
+    }
+    
+    public void setRequested(int requested) {
+        this.requested = requested;
+    }
+    
+    public int getChanged() {
+        return changed;
+    }
+    
+    public void setChanged(int changed) {
+        this.changed = changed;
+    }
+    
+    public List<TripConflict> getConflicts() {
+        return conflicts;
+    }
+    
+    public void setConflicts(List<TripConflict> conflicts) {
+        this.conflicts = conflicts;
+    }
+}
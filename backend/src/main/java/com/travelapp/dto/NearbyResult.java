@@ -0,0 +1,46 @@
+package com.travelapp.dto;
+
+import com.travelapp.geo.GeoIndex;
+import java.util.List;
+
+/**
+ * One hit of a nearby search, with its great-circle distance from the
+ * query point.
+ */
+public class NearbyResult<T> {
+    
+    private T item;
+    private double distanceKm;
+    
+    // Constructors
+    public NearbyResult() {}
+    
+    public NearbyResult(T item, double distanceKm) {
+        this.item = item;
+        this.distanceKm = distanceKm;
+    }
+    
+    // Distances are rounded to the metre
+    public static <T> List<NearbyResult<T>> of(List<GeoIndex.Hit<T>> hits) {
+        return hits.stream()
+                .map(hit -> new NearbyResult<>(hit.value(), Math.round(hit.distanceKm() * 1000.0) / 1000.0))
+                .toList();
+    }
+    
+    // Getters and Setters
+    public T getItem() {
+        return item;
+    }
+    
+    public void setItem(T item) {
+        this.item = item;
+    }
+    
+    public double getDistanceKm() {
+        return distanceKm;
+    }
+    
+    public void setDistanceKm(double distanceKm) {
+        this.distanceKm = distanceKm;
+    }
+}
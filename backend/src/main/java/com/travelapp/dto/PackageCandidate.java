@@ -0,0 +1,73 @@
+package com.travelapp.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * The columns package search needs from a hotel or transport row. Built by
+ * a constructor expression; the full rows are loaded only for the winners.
+ */
+public class PackageCandidate {
+    
+    private Long id;
+    private BigDecimal price;
+    private Integer rating;
+    private Double latitude;
+    private Double longitude;
+    
+    // Constructors
+    public PackageCandidate() {}
+    
+    public PackageCandidate(Long id, BigDecimal price) {
+        this.id = id;
+        this.price = price;
+    }
+    
+    public PackageCandidate(Long id, BigDecimal price, Integer rating, Double latitude, Double longitude) {
+        this.id = id;
+        this.price = price;
+        this.rating = rating;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public BigDecimal getPrice() {
+        return price;
+    }
+    
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+    
+    public Integer getRating() {
+        return rating;
+    }
+    
+    public void setRating(Integer rating) {
+        this.rating = rating;
+    }
+    
+    public Double getLatitude() {
+        return latitude;
+    }
+    
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+    
+    public Double getLongitude() {
+        return longitude;
+    }
+    
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+}
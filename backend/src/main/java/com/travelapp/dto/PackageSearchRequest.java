@@ -0,0 +1,85 @@
+package com.travelapp.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Options for a package search, bound from query parameters. Unset values
+ * fall back to the trip: its budget, its length in nights and its member
+ * count as the number of travellers.
+ */
+public class PackageSearchRequest {
+    
+    private Long destinationId;
+    private Double radiusKm;
+    private BigDecimal budget;
+    private Integer travellers;
+    private Integer rooms;
+    private Integer minNights;
+    private Boolean roundTrip;
+    private Integer limit;
+    
+    // Getters and Setters
+    public Long getDestinationId() {
+        return destinationId;
+    }
+    
+    public void setDestinationId(Long destinationId) {
+        this.destinationId = destinationId;
+    }
+    
+    public Double getRadiusKm() {
+        return radiusKm;
+    }
+    
+    public void setRadiusKm(Double radiusKm) {
+        this.radiusKm = radiusKm;
+    }
+    
+    public BigDecimal getBudget() {
+        return budget;
+    }
+    
+    public void setBudget(BigDecimal budget) {
+        this.budget = budget;
+    }
+    
+    public Integer getTravellers() {
+        return travellers;
+    }
+    
+    public void setTravellers(Integer travellers) {
+        this.travellers = travellers;
+    }
+    
+    public Integer getRooms() {
+        return rooms;
+    }
+    
+    public void setRooms(Integer rooms) {
+        this.rooms = rooms;
+    }
+    
+    public Integer getMinNights() {
+        return minNights;
+    }
+    
+    public void setMinNights(Integer minNights) {
+        this.minNights = minNights;
+    }
+    
+    public Boolean getRoundTrip() {
+        return roundTrip;
+    }
+    
+    public void setRoundTrip(Boolean roundTrip) {
+        this.roundTrip = roundTrip;
+    }
+    
+    public Integer getLimit() {
+        return limit;
+    }
+    
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+}
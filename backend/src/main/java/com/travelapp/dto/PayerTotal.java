@@ -0,0 +1,13 @@
+package com.travelapp.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Sum of one payer's expenses on a trip.
+ */
+public interface PayerTotal {
+    
+    Long getUserId();
+    
+    BigDecimal getTotal();
+}
@@ -0,0 +1,157 @@
+package com.travelapp.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An ordered route. Weights are in the unit of the objective: kilometres,
+ * hours or fare. Each stop carries the leg that arrives at it; a round trip
+ * ends with the start again. inputOrderWeight is what the stops would cost
+ * in the order they were given.
+ */
+public class RoutePlan {
+    
+    private RouteRequest.Objective objective;
+    private boolean roundTrip;
+    private double totalDistanceKm;
+    private double totalWeight;
+    private double inputOrderWeight;
+    private List<RouteStop> stops = new ArrayList<>();
+    
+    // Constructors
+    public RoutePlan() {}
+    
+    public RoutePlan(RouteRequest.Objective objective, boolean roundTrip) {
+        this.objective = objective;
+        this.roundTrip = roundTrip;
+    }
+    
+    // Getters and Setters
+    public RouteRequest.Objective getObjective() {
+        return objective;
+    }
+    
+    public void setObjective(RouteRequest.Objective objective) {
+        this.objective = objective;
+    }
+    
+    public boolean isRoundTrip() {
+        return roundTrip;
+    }
+    
+    public void setRoundTrip(boolean roundTrip) {
+        this.roundTrip = roundTrip;
+    }
+    
+    public double getTotalDistanceKm() {
+        return totalDistanceKm;
+    }
+    
+    public void setTotalDistanceKm(double totalDistanceKm) {
+        this.totalDistanceKm = totalDistanceKm;
+    }
+    
+    public double getTotalWeight() {
+        return totalWeight;
+    }
+    
+    public void setTotalWeight(double totalWeight) {
+        this.totalWeight = totalWeight;
+    }
+    
+    public double getInputOrderWeight() {
+        return inputOrderWeight;
+    }
+    
+    public void setInputOrderWeight(double inputOrderWeight) {
+        this.inputOrderWeight = inputOrderWeight;
+    }
+    
+    public List<RouteStop> getStops() {
+        return stops;
+    }
+    
+    public void setStops(List<RouteStop> stops) {
+        this.stops = stops;
+    }
+    
+    // legMode is the transportation type used to reach this stop (TIME and COST only)
+    public static class RouteStop {
+        private Long destinationId;
+        private String name;
+        private Double latitude;
+        private Double longitude;
+        private double legDistanceKm;
+        private double legWeight;
+        private String legMode;
+        
+        public RouteStop() {}
+        
+        public RouteStop(Long destinationId, String name, Double latitude, Double longitude,
+                         double legDistanceKm, double legWeight, String legMode) {
+            this.destinationId = destinationId;
+            this.name = name;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.legDistanceKm = legDistanceKm;
+            this.legWeight = legWeight;
+            this.legMode = legMode;
+        }
+        
+        public Long getDestinationId() {
+            return destinationId;
+        }
+        
+        public void setDestinationId(Long destinationId) {
+            this.destinationId = destinationId;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+        
+        public Double getLatitude() {
+            return latitude;
+        }
+        
+        public void setLatitude(Double latitude) {
+            this.latitude = latitude;
+        }
+        
+        public Double getLongitude() {
+            return longitude;
+        }
+        
+        public void setLongitude(Double longitude) {
+            this.longitude = longitude;
+        }
+        
+        public double getLegDistanceKm() {
+            return legDistanceKm;
+        }
+        
+        public void setLegDistanceKm(double legDistanceKm) {
+            this.legDistanceKm = legDistanceKm;
+        }
+        
+        public double getLegWeight() {
+            return legWeight;
+        }
+        
+        public void setLegWeight(double legWeight) {
+            this.legWeight = legWeight;
+        }
+        
+        public String getLegMode() {
+            return legMode;
+        }
+        
+        public void setLegMode(String legMode) {
+            this.legMode = legMode;
+        }
+    }
+}
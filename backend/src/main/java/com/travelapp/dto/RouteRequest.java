@@ -0,0 +1,60 @@
+package com.travelapp.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stops to put in order. The first destination is where the route starts;
+ * the rest are reordered. timeBudgetMs is capped by routes.solver.time-budget-ms.
+ */
+public class RouteRequest {
+    
+    public enum Objective { DISTANCE, TIME, COST }
+    
+    private List<Long> destinationIds = new ArrayList<>();
+    private Objective objective = Objective.DISTANCE;
+    private boolean roundTrip;
+    private Long timeBudgetMs;
+    
+    // Constructors
+    public RouteRequest() {}
+    
+    public RouteRequest(List<Long> destinationIds, Objective objective, boolean roundTrip) {
+        this.destinationIds = destinationIds;
+        this.objective = objective;
+        this.roundTrip = roundTrip;
+    }
+    
+    // Getters and Setters
+    public List<Long> getDestinationIds() {
+        return destinationIds;
+    }
+    
+    public void setDestinationIds(List<Long> destinationIds) {
+        this.destinationIds = destinationIds;
+    }
+    
+    public Objective getObjective() {
+        return objective;
+    }
+    
+    public void setObjective(Objective objective) {
+        this.objective = objective;
+    }
+    
+    public boolean isRoundTrip() {
+        return roundTrip;
+    }
+    
+    public void setRoundTrip(boolean roundTrip) {
+        this.roundTrip = roundTrip;
+    }
+    
+    public Long getTimeBudgetMs() {
+        return timeBudgetMs;
+    }
+    
+    public void setTimeBudgetMs(Long timeBudgetMs) {
+        this.timeBudgetMs = timeBudgetMs;
+    }
+}
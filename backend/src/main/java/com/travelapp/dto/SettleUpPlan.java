@@ -0,0 +1,146 @@
+package com.travelapp.dto;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Who owes whom on a trip. Expenses with a payer are split evenly across
+ * the trip's members; balances list what each person paid, their share and
+ * the difference, and transfers is the set of payments that evens them out.
+ */
+public class SettleUpPlan {
+    
+    private Long tripId;
+    private BigDecimal totalShared;
+    private List<MemberBalance> balances = new ArrayList<>();
+    private List<Transfer> transfers = new ArrayList<>();
+    
+    // Constructors
+    public SettleUpPlan() {}
+    
+    public SettleUpPlan(Long tripId, BigDecimal totalShared) {
+        this.tripId = tripId;
+        this.totalShared = totalShared;
+    }
+    
+    // Getters and Setters
+    public Long getTripId() {
+        return tripId;
+    }
+    
+    public void setTripId(Long tripId) {
+        this.tripId = tripId;
+    }
+    
+    public BigDecimal getTotalShared() {
+        return totalShared;
+    }
+    
+    public void setTotalShared(BigDecimal totalShared) {
+        this.totalShared = totalShared;
+    }
+    
+    public List<MemberBalance> getBalances() {
+        return balances;
+    }
+    
+    public void setBalances(List<MemberBalance> balances) {
+        this.balances = balances;
+    }
+    
+    public List<Transfer> getTransfers() {
+        return transfers;
+    }
+    
+    public void setTransfers(List<Transfer> transfers) {
+        this.transfers = transfers;
+    }
+    
+    // net is paid minus share: positive means the user is owed money
+    public static class MemberBalance {
+        private Long userId;
+        private BigDecimal paid;
+        private BigDecimal share;
+        private BigDecimal net;
+        
+        public MemberBalance() {}
+        
+        public MemberBalance(Long userId, BigDecimal paid, BigDecimal share, BigDecimal net) {
+            this.userId = userId;
+            this.paid = paid;
+            this.share = share;
+            this.net = net;
+        }
+        
+        public Long getUserId() {
+            return userId;
+        }
+        
+        public void setUserId(Long userId) {
+            this.userId = userId;
+        }
+        
+        public BigDecimal getPaid() {
+            return paid;
+        }
+        
+        public void setPaid(BigDecimal paid) {
+            this.paid = paid;
+        }
+        
+        public BigDecimal getShare() {
+            return share;
+        }
+        
+        public void setShare(BigDecimal share) {
+            this.share = share;
+        }
+        
+        public BigDecimal getNet() {
+            return net;
+        }
+        
+        public void setNet(BigDecimal net) {
+            this.net = net;
+        }
+    }
+    
+    public static class Transfer {
+        private Long fromUserId;
+        private Long toUserId;
+        private BigDecimal amount;
+        
+        public Transfer() {}
+        
+        public Transfer(Long fromUserId, Long toUserId, BigDecimal amount) {
+            this.fromUserId = fromUserId;
+            this.toUserId = toUserId;
+            this.amount = amount;
+        }
+        
+        public Long getFromUserId() {
+            return fromUserId;
+        }
+        
+        public void setFromUserId(Long fromUserId) {
+            this.fromUserId = fromUserId;
+        }
+        
+        public Long getToUserId() {
+            return toUserId;
+        }
+        
+        public void setToUserId(Long toUserId) {
+            this.toUserId = toUserId;
+        }
+        
+        public BigDecimal getAmount() {
+            return amount;
+        }
+        
+        public void setAmount(BigDecimal amount) {
+            this.amount = amount;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.travelapp.dto;
+
+import com.travelapp.entity.Accommodation;
+import com.travelapp.entity.Transportation;
+import java.math.BigDecimal;
+
+/**
+ * A hotel stay plus transport that fits a trip budget. accommodationCost
+ * covers every room for every night and transportationCost every traveller
+ * on every leg. score is rating-nights per 1,000 of totalCost.
+ */
+public class TravelPackage {
+    
+    private Accommodation accommodation;
+    private Transportation transportation;
+    private int nights;
+    private BigDecimal accommodationCost;
+    private BigDecimal transportationCost;
+    private BigDecimal totalCost;
+    private double score;
+    
+    // Constructors
+    public TravelPackage() {}
+    
+    public TravelPackage(Accommodation accommodation, Transportation transportation, int nights,
+                         BigDecimal accommodationCost, BigDecimal transportationCost, double score) {
+        this.accommodation = accommodation;
+        this.transportation = transportation;
+        this.nights = nights;
+        this.accommodationCost = accommodationCost;
+        this.transportationCost = transportationCost;
+        this.totalCost = accommodationCost.add(transportationCost);
+        this.score = score;
+    }
+    
+    // Getters and Setters
+    public Accommodation getAccommodation() {
+        return accommodation;
+    }
+    
+    public void setAccommodation(Accommodation accommodation) {
+        this.accommodation = accommodation;
+    }
+    
+    public Transportation getTransportation() {
+        return transportation;
+    }
+    
+    public void setTransportation(Transportation transportation) {
+        this.transportation = transportation;
+    }
+    
+    public int getNights() {
+        return nights;
+    }
+    
+    public void setNights(int nights) {
+        this.nights = nights;
+    }
+    
+    public BigDecimal getAccommodationCost() {
+        return accommodationCost;
+    }
+    
+    public void setAccommodationCost(BigDecimal accommodationCost) {
+        this.accommodationCost = accommodationCost;
+    }
+    
+    public BigDecimal getTransportationCost() {
+        return transportationCost;
+    }
+    
+    public void setTransportationCost(BigDecimal transportationCost) {
+        this.transportationCost = transportationCost;
+    }
+    
+    public BigDecimal getTotalCost() {
+        return totalCost;
+    }
+    
+    public void setTotalCost(BigDecimal totalCost) {
+        this.totalCost = totalCost;
+    }
+    
+    public double getScore() {
+        return score;
+    }
+    
+    public void setScore(double score) {
+        this.score = score;
+    }
+}
@@ -0,0 +1,31 @@
+package com.travelapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import java.time.LocalDate;
+
+/**
+ * Another trip that a member of the trip being saved is already on during
+ * the same days.
+ */
+@JsonPropertyOrder({"userId", "tripId", "title", "startDate", "endDate"})
+public class TripConflict extends CalendarEntry {
+    
+    private Long userId;
+    
+    // Constructors
+    public TripConflict() {}
+    
+    public TripConflict(Long userId, Long tripId, String title, LocalDate startDate, LocalDate endDate) {
+        super(tripId, title, startDate, endDate);
+        this.userId = userId;
+    }
+    
+    // Getters and Setters
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+}
@@ -0,0 +1,26 @@
+package com.travelapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One trip line of the NDJSON export.
+ */
+@JsonPropertyOrder({"type", "tripId", "title", "startDate", "endDate", "totalBudget"})
+public interface TripExport {
+    
+    default String getType() {
+        return "trip";
+    }
+    
+    Long getTripId();
+    
+    String getTitle();
+    
+    LocalDate getStartDate();
+    
+    LocalDate getEndDate();
+    
+    BigDecimal getTotalBudget();
+}
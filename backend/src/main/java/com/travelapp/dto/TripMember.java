@@ -0,0 +1,16 @@
+package com.travelapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.travelapp.entity.TripUser;
+import java.time.Instant;
+
+/**
+ * A member of one trip, as listed by the members endpoint.
+ */
+@JsonPropertyOrder({"userId", "name", "email", "role", "joinedAt"})
+public interface TripMember extends UserSummary {
+    
+    TripUser.Role getRole();
+    
+    Instant getJoinedAt();
+}
@@ -0,0 +1,22 @@
+package com.travelapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * One trip membership line of the NDJSON export.
+ */
+@JsonPropertyOrder({"type", "tripId", "userId", "name", "email"})
+public interface TripMemberExport {
+    
+    default String getType() {
+        return "member";
+    }
+    
+    Long getTripId();
+    
+    Long getUserId();
+    
+    String getName();
+    
+    String getEmail();
+}
@@ -0,0 +1,22 @@
+package com.travelapp.dto;
+
+import java.time.LocalDate;
+
+/**
+ * One membership row joined with its trip's dates and version, as read to
+ * build the calendar index.
+ */
+public interface TripMemberSpan {
+    
+    Long getUserId();
+    
+    Long getTripId();
+    
+    String getTitle();
+    
+    LocalDate getStartDate();
+    
+    LocalDate getEndDate();
+    
+    Long getVersion();
+}
@@ -0,0 +1,12 @@
+package com.travelapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * A member row of a trip list page; the trip id only groups rows by trip.
+ */
+public interface TripMemberSummary extends UserSummary {
+    
+    @JsonIgnore
+    Long getTripId();
+}
@@ -0,0 +1,90 @@
+package com.travelapp.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A trip as shown in lists. Built by a constructor expression, so it is
+ * never managed; members are attached afterwards as {@link UserSummary} rows.
+ */
+public class TripSummary {
+    
+    private Long tripId;
+    private String title;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private BigDecimal totalBudget;
+    private Long version;
+    private List<UserSummary> users = new ArrayList<>();
+    
+    // Constructors
+    public TripSummary() {}
+    
+    public TripSummary(Long tripId, String title, LocalDate startDate, LocalDate endDate, BigDecimal totalBudget, Long version) {
+        this.tripId = tripId;
+        this.title = title;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.totalBudget = totalBudget;
+        this.version = version;
+    }
+    
+    // Getters and Setters
+    public Long getTripId() {
+        return tripId;
+    }
+    
+    public void setTripId(Long tripId) {
+        this.tripId = tripId;
+    }
+    
+    public String getTitle() {
+        return title;
+    }
+    
+    public void setTitle(String title) {
+        this.title = title;
+    }
+    
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+    
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+    
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+    
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+    
+    public BigDecimal getTotalBudget() {
+        return totalBudget;
+    }
+    
+    public void setTotalBudget(BigDecimal totalBudget) {
+        this.totalBudget = totalBudget;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+    
+    public List<UserSummary> getUsers() {
+        return users;
+    }
+    
+    public void setUsers(List<UserSummary> users) {
+        this.users = users;
+    }
+}
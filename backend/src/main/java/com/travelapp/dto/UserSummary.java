@@ -0,0 +1,16 @@
+package com.travelapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * A user as shown in lists: no password hash, no audit columns.
+ */
+@JsonPropertyOrder({"userId", "name", "email"})
+public interface UserSummary {
+    
+    Long getUserId();
+    
+    String getName();
+    
+    String getEmail();
+}
@@ -1,6 +1,10 @@
 package com.travelapp.entity;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.travelapp.search.SuggestionIndexListener;
 import jakarta.persistence.*;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Max;
@@ -9,6 +13,7 @@ import java.math.BigDecimal;
 
 @Entity
 @Table(name = "accommodations")
+@EntityListeners(SuggestionIndexListener.class)
 public class Accommodation {
     
     @Id
@@ -33,6 +38,23 @@ public class Accommodation {
     @Column(name = "rating")
     private Integer rating;
     
+    // WGS84 degrees
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    @Column(name = "latitude")
+    private Double latitude;
+    
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    @Column(name = "longitude")
+    private Double longitude;
+    
+    // The ETag of /api/accommodations/{id}; bumped by every update
+    @Version
+    @Column(name = "version", nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+    
     // Constructors
     public Accommodation() {}
     
@@ -83,4 +105,28 @@ public class Accommodation {
     public void setRating(Integer rating) {
         this.rating = rating;
     }
-}
\ No newline at end of file
+    
+    public Double getLatitude() {
+        return latitude;
+    }
+    
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+    
+    public Double getLongitude() {
+        return longitude;
+    }
+    
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
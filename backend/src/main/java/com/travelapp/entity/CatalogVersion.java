@@ -0,0 +1,40 @@
+package com.travelapp.entity;
+
+import jakarta.persistence.*;
+
+// Version of a whole catalog, bumped by every write to it; see CatalogVersions
+@Entity
+@Table(name = "catalog_versions")
+public class CatalogVersion {
+    
+    @Id
+    @Column(name = "catalog", length = 32)
+    private String catalog;
+    
+    @Column(name = "version", nullable = false)
+    private Long version = 0L;
+    
+    // Constructors
+    public CatalogVersion() {}
+    
+    public CatalogVersion(String catalog) {
+        this.catalog = catalog;
+    }
+    
+    // Getters and Setters
+    public String getCatalog() {
+        return catalog;
+    }
+    
+    public void setCatalog(String catalog) {
+        this.catalog = catalog;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
@@ -1,10 +1,15 @@
 package com.travelapp.entity;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.travelapp.search.SuggestionIndexListener;
 import jakarta.persistence.*;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 
 @Entity
 @Table(name = "destinations")
+@EntityListeners(SuggestionIndexListener.class)
 public class Destination {
     
     @Id
@@ -23,6 +28,23 @@ public class Destination {
     @Column(name = "description", columnDefinition = "TEXT")
     private String description;
     
+    // WGS84 degrees; destinations without coordinates cannot be routed or found by nearby searches
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    @Column(name = "latitude")
+    private Double latitude;
+    
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    @Column(name = "longitude")
+    private Double longitude;
+    
+    // The ETag of /api/destinations/{id}; bumped by every update
+    @Version
+    @Column(name = "version", nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+    
     // Constructors
     public Destination() {}
     
@@ -64,4 +86,28 @@ public class Destination {
     public void setDescription(String description) {
         this.description = description;
     }
-}
\ No newline at end of file
+    
+    public Double getLatitude() {
+        return latitude;
+    }
+    
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+    
+    public Double getLongitude() {
+        return longitude;
+    }
+    
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
@@ -2,6 +2,7 @@ package com.travelapp.entity;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -10,11 +11,18 @@ import java.time.LocalDate;
 @Table(name = "expenses")
 public class Expense {
     
+    // Ids are reserved in blocks from id_generators so inserts can be JDBC-batched (IDENTITY cannot)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "expense_id")
+    @TableGenerator(name = "expense_id", table = "id_generators", pkColumnName = "name",
+                    valueColumnName = "next_val", pkColumnValue = "expenses", allocationSize = 100)
     @Column(name = "expense_id")
     private Long expenseId;
     
+    @NotNull(message = "Trip is required")
+    @Column(name = "trip_id", nullable = false)
+    private Long tripId;
+    
     @NotBlank(message = "Category is required")
     @Column(name = "category", nullable = false, length = 50)
     private String category;
@@ -26,10 +34,18 @@ public class Expense {
     @Column(name = "date", nullable = false)
     private LocalDate date;
     
+    @Column(name = "description", columnDefinition = "TEXT")
+    private String description;
+    
+    // Trip member who paid; expenses without a payer are not split in settle-up
+    @Column(name = "paid_by")
+    private Long paidBy;
+    
     // Constructors
     public Expense() {}
     
-    public Expense(String category, BigDecimal amount, LocalDate date) {
+    public Expense(Long tripId, String category, BigDecimal amount, LocalDate date) {
+        this.tripId = tripId;
         this.category = category;
         this.amount = amount;
         this.date = date;
@@ -44,6 +60,14 @@ public class Expense {
         this.expenseId = expenseId;
     }
     
+    public Long getTripId() {
+        return tripId;
+    }
+    
+    public void setTripId(Long tripId) {
+        this.tripId = tripId;
+    }
+    
     public String getCategory() {
         return category;
     }
@@ -67,4 +91,20 @@ public class Expense {
     public void setDate(LocalDate date) {
         this.date = date;
     }
-}
\ No newline at end of file
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public void setDescription(String description) {
+        this.description = description;
+    }
+    
+    public Long getPaidBy() {
+        return paidBy;
+    }
+    
+    public void setPaidBy(Long paidBy) {
+        this.paidBy = paidBy;
+    }
+}
@@ -1,10 +1,14 @@
 package com.travelapp.entity;
 
+import com.travelapp.search.SuggestionIndexListener;
 import jakarta.persistence.*;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 
 @Entity
 @Table(name = "local_services")
+@EntityListeners(SuggestionIndexListener.class)
 public class LocalService {
     
     @Id
@@ -23,6 +27,17 @@ public class LocalService {
     @Column(name = "contact", length = 100)
     private String contact;
     
+    // WGS84 degrees; services without coordinates are left out of nearby searches
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    @Column(name = "latitude")
+    private Double latitude;
+    
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    @Column(name = "longitude")
+    private Double longitude;
+    
     // Constructors
     public LocalService() {}
     
@@ -64,4 +79,20 @@ public class LocalService {
     public void setContact(String contact) {
         this.contact = contact;
     }
+    
+    public Double getLatitude() {
+        return latitude;
+    }
+    
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+    
+    public Double getLongitude() {
+        return longitude;
+    }
+    
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
 }
\ No newline at end of file
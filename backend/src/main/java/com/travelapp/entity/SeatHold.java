@@ -0,0 +1,109 @@
+package com.travelapp.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "seat_holds")
+public class SeatHold {
+    
+    public enum Status {
+        HELD,
+        CONFIRMED,
+        RELEASED,
+        EXPIRED
+    }
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "hold_id")
+    private Long holdId;
+    
+    @Column(name = "transportation_id", nullable = false)
+    private Long transportationId;
+    
+    @Column(name = "travel_date", nullable = false)
+    private LocalDate travelDate;
+    
+    @Column(name = "user_id")
+    private Long userId;
+    
+    @Column(name = "seats", nullable = false)
+    private Integer seats;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status = Status.HELD;
+    
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+    
+    // Constructors
+    public SeatHold() {}
+    
+    public SeatHold(Long transportationId, LocalDate travelDate, Long userId, Integer seats, Instant expiresAt) {
+        this.transportationId = transportationId;
+        this.travelDate = travelDate;
+        this.userId = userId;
+        this.seats = seats;
+        this.expiresAt = expiresAt;
+    }
+    
+    // Getters and Setters
+    public Long getHoldId() {
+        return holdId;
+    }
+    
+    public void setHoldId(Long holdId) {
+        this.holdId = holdId;
+    }
+    
+    public Long getTransportationId() {
+        return transportationId;
+    }
+    
+    public void setTransportationId(Long transportationId) {
+        this.transportationId = transportationId;
+    }
+    
+    public LocalDate getTravelDate() {
+        return travelDate;
+    }
+    
+    public void setTravelDate(LocalDate travelDate) {
+        this.travelDate = travelDate;
+    }
+    
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+    
+    public Integer getSeats() {
+        return seats;
+    }
+    
+    public void setSeats(Integer seats) {
+        this.seats = seats;
+    }
+    
+    public Status getStatus() {
+        return status;
+    }
+    
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+    
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+    
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
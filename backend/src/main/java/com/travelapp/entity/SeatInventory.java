@@ -0,0 +1,105 @@
+package com.travelapp.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "seat_inventory",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"transportation_id", "travel_date"}))
+public class SeatInventory {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "inventory_id")
+    private Long inventoryId;
+    
+    @Column(name = "transportation_id", nullable = false)
+    private Long transportationId;
+    
+    @Column(name = "travel_date", nullable = false)
+    private LocalDate travelDate;
+    
+    @Column(name = "total_seats", nullable = false)
+    private Integer totalSeats;
+    
+    @Column(name = "held_seats", nullable = false)
+    private Integer heldSeats = 0;
+    
+    @Column(name = "booked_seats", nullable = false)
+    private Integer bookedSeats = 0;
+    
+    // Bumped by every guarded seat update in SeatInventoryRepository
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+    
+    // Constructors
+    public SeatInventory() {}
+    
+    public SeatInventory(Long transportationId, LocalDate travelDate, Integer totalSeats) {
+        this.transportationId = transportationId;
+        this.travelDate = travelDate;
+        this.totalSeats = totalSeats;
+    }
+    
+    public int getAvailableSeats() {
+        return totalSeats - heldSeats - bookedSeats;
+    }
+    
+    // Getters and Setters
+    public Long getInventoryId() {
+        return inventoryId;
+    }
+    
+    public void setInventoryId(Long inventoryId) {
+        this.inventoryId = inventoryId;
+    }
+    
+    public Long getTransportationId() {
+        return transportationId;
+    }
+    
+    public void setTransportationId(Long transportationId) {
+        this.transportationId = transportationId;
+    }
+    
+    public LocalDate getTravelDate() {
+        return travelDate;
+    }
+    
+    public void setTravelDate(LocalDate travelDate) {
+        this.travelDate = travelDate;
+    }
+    
+    public Integer getTotalSeats() {
+        return totalSeats;
+    }
+    
+    public void setTotalSeats(Integer totalSeats) {
+        this.totalSeats = totalSeats;
+    }
+    
+    public Integer getHeldSeats() {
+        return heldSeats;
+    }
+    
+    public void setHeldSeats(Integer heldSeats) {
+        this.heldSeats = heldSeats;
+    }
+    
+    public Integer getBookedSeats() {
+        return bookedSeats;
+    }
+    
+    public void setBookedSeats(Integer bookedSeats) {
+        this.bookedSeats = bookedSeats;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
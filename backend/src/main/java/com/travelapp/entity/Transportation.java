@@ -1,5 +1,6 @@
 package com.travelapp.entity;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
@@ -29,6 +30,17 @@ public class Transportation {
     @Column(name = "availability")
     private Boolean availability;
     
+    @Positive(message = "Seat capacity must be positive")
+    @Column(name = "seat_capacity")
+    private Integer seatCapacity;
+    
+    // The ETag of /api/transportation/{id}; transportation is edited outside the application,
+    // so those edits must bump it (see create-tables-direct.sql)
+    @Version
+    @Column(name = "version", nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+    
     // Constructors
     public Transportation() {}
     
@@ -79,4 +91,20 @@ public class Transportation {
     public void setAvailability(Boolean availability) {
         this.availability = availability;
     }
-}
\ No newline at end of file
+    
+    public Integer getSeatCapacity() {
+        return seatCapacity;
+    }
+    
+    public void setSeatCapacity(Integer seatCapacity) {
+        this.seatCapacity = seatCapacity;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
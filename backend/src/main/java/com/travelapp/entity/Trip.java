@@ -1,5 +1,8 @@
 package com.travelapp.entity;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.travelapp.dto.TripConflict;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -7,12 +10,16 @@ import jakarta.validation.constraints.Positive;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 @Entity
 @Table(name = "trips")
+@NamedEntityGraph(name = Trip.WITH_USERS, attributeNodes = @NamedAttributeNode("users"))
 public class Trip {
     
+    public static final String WITH_USERS = "Trip.withUsers";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "trip_id")
@@ -34,6 +41,14 @@ public class Trip {
     @Column(name = "total_budget", precision = 10, scale = 2)
     private BigDecimal totalBudget;
     
+    // The ETag of /api/trips/{id}; bumped by updates and by membership or member profile changes
+    @Version
+    @Column(name = "version", nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+    
+    // Read side of trip_users; memberships are written through TripMembershipService, never via this set
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
         name = "trip_users",
@@ -42,6 +57,12 @@ public class Trip {
     )
     private Set<User> users = new HashSet<>();
     
+    // Double bookings found when the trip was created or updated; only present in those responses
+    @Transient
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private List<TripConflict> conflicts = List.of();
+    
     // Constructors
     public Trip() {}
     
@@ -93,6 +114,14 @@ public class Trip {
         this.totalBudget = totalBudget;
     }
     
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+    
     public Set<User> getUsers() {
         return users;
     }
@@ -100,4 +129,12 @@ public class Trip {
     public void setUsers(Set<User> users) {
         this.users = users;
     }
-}
\ No newline at end of file
+    
+    public List<TripConflict> getConflicts() {
+        return conflicts;
+    }
+    
+    public void setConflicts(List<TripConflict> conflicts) {
+        this.conflicts = conflicts;
+    }
+}
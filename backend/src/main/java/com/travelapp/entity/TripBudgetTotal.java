@@ -0,0 +1,48 @@
+package com.travelapp.entity;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+
+// Running expense totals per trip, maintained by ExpenseService on every expense write
+@Entity
+@Table(name = "trip_budget_totals")
+public class TripBudgetTotal {
+    
+    @Id
+    @Column(name = "trip_id")
+    private Long tripId;
+    
+    @Column(name = "total_spent", nullable = false, precision = 12, scale = 2)
+    private BigDecimal totalSpent = BigDecimal.ZERO;
+    
+    @Column(name = "expense_count", nullable = false)
+    private Long expenseCount = 0L;
+    
+    // Constructors
+    public TripBudgetTotal() {}
+    
+    // Getters and Setters
+    public Long getTripId() {
+        return tripId;
+    }
+    
+    public void setTripId(Long tripId) {
+        this.tripId = tripId;
+    }
+    
+    public BigDecimal getTotalSpent() {
+        return totalSpent;
+    }
+    
+    public void setTotalSpent(BigDecimal totalSpent) {
+        this.totalSpent = totalSpent;
+    }
+    
+    public Long getExpenseCount() {
+        return expenseCount;
+    }
+    
+    public void setExpenseCount(Long expenseCount) {
+        this.expenseCount = expenseCount;
+    }
+}
@@ -0,0 +1,88 @@
+package com.travelapp.entity;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+// Running expense totals per trip and category, maintained alongside TripBudgetTotal
+@Entity
+@Table(name = "trip_category_totals")
+@IdClass(TripCategoryTotal.Key.class)
+public class TripCategoryTotal {
+    
+    @Id
+    @Column(name = "trip_id")
+    private Long tripId;
+    
+    @Id
+    @Column(name = "category", length = 50)
+    private String category;
+    
+    @Column(name = "total_spent", nullable = false, precision = 12, scale = 2)
+    private BigDecimal totalSpent = BigDecimal.ZERO;
+    
+    @Column(name = "expense_count", nullable = false)
+    private Long expenseCount = 0L;
+    
+    // Constructors
+    public TripCategoryTotal() {}
+    
+    // Getters and Setters
+    public Long getTripId() {
+        return tripId;
+    }
+    
+    public void setTripId(Long tripId) {
+        this.tripId = tripId;
+    }
+    
+    public String getCategory() {
+        return category;
+    }
+    
+    public void setCategory(String category) {
+        this.category = category;
+    }
+    
+    public BigDecimal getTotalSpent() {
+        return totalSpent;
+    }
+    
+    public void setTotalSpent(BigDecimal totalSpent) {
+        this.totalSpent = totalSpent;
+    }
+    
+    public Long getExpenseCount() {
+        return expenseCount;
+    }
+    
+    public void setExpenseCount(Long expenseCount) {
+        this.expenseCount = expenseCount;
+    }
+    
+    public static class Key implements Serializable {
+        private Long tripId;
+        private String category;
+        
+        public Key() {}
+        
+        public Key(Long tripId, String category) {
+            this.tripId = tripId;
+            this.category = category;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return Objects.equals(tripId, key.tripId) && Objects.equals(category, key.category);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(tripId, category);
+        }
+    }
+}
@@ -1,29 +1,48 @@
 package com.travelapp.entity;
 
 import jakarta.persistence.*;
+import java.time.Instant;
 
+/**
+ * One row of the trip_users join table. Trip.users reads the same rows as a
+ * collection; memberships are only ever written through this entity's
+ * repository, one statement per add or remove.
+ */
 @Entity
-@Table(name = "trip_user")
+@Table(name = "trip_users",
+       uniqueConstraints = @UniqueConstraint(name = "unique_trip_user", columnNames = {"trip_id", "user_id"}))
 public class TripUser {
     
+    public enum Role {
+        ORGANIZER,
+        MEMBER
+    }
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
     private Long id;
     
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "trip_id", nullable = false)
-    private Trip trip;
+    @Column(name = "trip_id", nullable = false)
+    private Long tripId;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
     
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
-    private User user;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "role", length = 50)
+    private Role role = Role.MEMBER;
+    
+    @Column(name = "joined_at")
+    private Instant joinedAt;
     
     // Constructors
     public TripUser() {}
     
-    public TripUser(Trip trip, User user) {
-        this.trip = trip;
-        this.user = user;
+    public TripUser(Long tripId, Long userId, Role role) {
+        this.tripId = tripId;
+        this.userId = userId;
+        this.role = role;
     }
     
     // Getters and Setters
@@ -35,19 +54,35 @@ public class TripUser {
         this.id = id;
     }
     
-    public Trip getTrip() {
-        return trip;
+    public Long getTripId() {
+        return tripId;
+    }
+    
+    public void setTripId(Long tripId) {
+        this.tripId = tripId;
+    }
+    
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+    
+    public Role getRole() {
+        return role;
     }
     
-    public void setTrip(Trip trip) {
-        this.trip = trip;
+    public void setRole(Role role) {
+        this.role = role;
     }
     
-    public User getUser() {
-        return user;
+    public Instant getJoinedAt() {
+        return joinedAt;
     }
     
-    public void setUser(User user) {
-        this.user = user;
+    public void setJoinedAt(Instant joinedAt) {
+        this.joinedAt = joinedAt;
     }
-}
\ No newline at end of file
+}
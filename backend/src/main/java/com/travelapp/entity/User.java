@@ -1,6 +1,7 @@
 package com.travelapp.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -27,11 +28,19 @@ public class User {
     @Column(name = "email", nullable = false, unique = true, length = 100)
     private String email;
     
+    // Accepted on register/update but never serialized, including inside trip member lists
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     @NotBlank(message = "Password is required")
     @Size(min = 6, message = "Password must be at least 6 characters")
     @Column(name = "password", nullable = false)
     private String password;
     
+    // The ETag of /api/users/{id}; bumped by profile updates but not by password rehashing at login
+    @Version
+    @Column(name = "version", nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+    
     @JsonIgnore
     @ManyToMany(mappedBy = "users", fetch = FetchType.LAZY)
     private Set<Trip> trips = new HashSet<>();
@@ -78,6 +87,14 @@ public class User {
         this.password = password;
     }
     
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+    
     public Set<Trip> getTrips() {
         return trips;
     }
@@ -0,0 +1,286 @@
+package com.travelapp.geo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * In-memory grid of points bucketed into fixed latitude/longitude cells.
+ * A query visits rings of cells outward from the query point and stops as
+ * soon as nothing outside the visited box can be closer than the k-th hit
+ * (or farther than the radius), so the work done depends on how crowded the
+ * neighbourhood is rather than on the total number of points.
+ */
+public class GeoIndex<T> {
+    
+    // About 28 km north-south; a city and its surroundings span a handful of cells
+    private static final double CELL_DEGREES = 0.25;
+    private static final int ROWS = (int) Math.round(180 / CELL_DEGREES);
+    private static final int COLUMNS = (int) Math.round(360 / CELL_DEGREES);
+    private static final double KM_PER_DEGREE = Math.toRadians(1) * GeoDistance.EARTH_RADIUS_KM;
+    
+    private final Map<Integer, Cell> cells = new HashMap<>();
+    private final Map<Long, Integer> cellOf = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    public record Hit<T>(T value, double distanceKm) {}
+    
+    /**
+     * Adds or moves a point. A null coordinate takes the id out of the index,
+     * since there is nowhere to put it.
+     */
+    public void put(long id, Double latitude, Double longitude, T value) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            if (latitude != null && longitude != null) {
+                int key = cellKey(row(latitude), column(longitude));
+                cells.computeIfAbsent(key, k -> new Cell()).add(id, latitude, longitude, value);
+                cellOf.put(id, key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            cells.clear();
+            cellOf.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return cellOf.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Up to {@code limit} points matching {@code filter} within
+     * {@code radiusKm} of the given position, nearest first; equal distances
+     * are ordered by id. A null radius means no limit on distance.
+     */
+    public List<Hit<T>> nearest(double latitude, double longitude, Double radiusKm, int limit, Predicate<? super T> filter) {
+        if (!(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180)) {
+            throw new IllegalArgumentException("Coordinates out of range: " + latitude + ", " + longitude);
+        }
+        if (radiusKm != null && !(radiusKm >= 0)) {
+            throw new IllegalArgumentException("radiusKm must not be negative");
+        }
+        double maxKm = radiusKm == null ? Double.POSITIVE_INFINITY : radiusKm;
+        if (limit < 1) {
+            return List.of();
+        }
+        if (longitude == 180) {
+            longitude = -180;
+        }
+        Collector collector = new Collector(latitude, longitude, maxKm, limit, filter);
+        int row = row(latitude);
+        int column = column(longitude);
+        
+        lock.readLock().lock();
+        try {
+            int visited = 0;
+            for (int ring = 0; ; ring++) {
+                // Past this point the rings cost more than looking at every occupied cell
+                if (2 * ring + 1 >= COLUMNS || visited > cells.size()) {
+                    collector.reset();
+                    cells.values().forEach(collector::scan);
+                    break;
+                }
+                visited += visitRing(row, column, ring, collector);
+                double bound = distanceOutside(latitude, longitude, row, column, ring);
+                if (bound > maxKm || collector.full() && collector.worst() <= bound) {
+                    break;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return collector.sorted();
+    }
+    
+    private int visitRing(int row, int column, int ring, Collector collector) {
+        int visited = 0;
+        for (int r = Math.max(0, row - ring); r <= Math.min(ROWS - 1, row + ring); r++) {
+            boolean edgeRow = r == row - ring || r == row + ring;
+            int step = edgeRow || ring == 0 ? 1 : 2 * ring;
+            for (int c = column - ring; c <= column + ring; c += step) {
+                Cell cell = cells.get(cellKey(r, Math.floorMod(c, COLUMNS)));
+                if (cell != null) {
+                    collector.scan(cell);
+                }
+                visited++;
+            }
+        }
+        return visited;
+    }
+    
+    /**
+     * Lower bound on the distance from the query point to anything outside
+     * the box of cells within {@code ring} of its own cell.
+     */
+    private static double distanceOutside(double latitude, double longitude, int row, int column, int ring) {
+        double south = (row - ring) * CELL_DEGREES - 90;
+        double north = (row + ring + 1) * CELL_DEGREES - 90;
+        double latitudeGap = Math.min(
+                south <= -90 ? Double.POSITIVE_INFINITY : latitude - south,
+                north >= 90 ? Double.POSITIVE_INFINITY : north - latitude);
+        
+        double west = (column - ring) * CELL_DEGREES - 180;
+        double east = (column + ring + 1) * CELL_DEGREES - 180;
+        double longitudeGap = Math.min(Math.min(longitude - west, east - longitude), 90);
+        // Shortest way from the point to the meridian longitudeGap degrees away
+        double meridianKm = GeoDistance.EARTH_RADIUS_KM * Math.asin(
+                Math.min(1.0, Math.cos(Math.toRadians(latitude)) * Math.sin(Math.toRadians(longitudeGap))));
+        return Math.min(latitudeGap * KM_PER_DEGREE, meridianKm);
+    }
+    
+    private void removeLocked(long id) {
+        Integer key = cellOf.remove(id);
+        if (key != null) {
+            Cell cell = cells.get(key);
+            cell.remove(id);
+            if (cell.size == 0) {
+                cells.remove(key);
+            }
+        }
+    }
+    
+    private static int row(double latitude) {
+        return Math.min(ROWS - 1, Math.max(0, (int) Math.floor((latitude + 90) / CELL_DEGREES)));
+    }
+    
+    private static int column(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / CELL_DEGREES), COLUMNS);
+    }
+    
+    private static int cellKey(int row, int column) {
+        return row * COLUMNS + column;
+    }
+    
+    private static final class Cell {
+        private long[] ids = new long[4];
+        private double[] latitudes = new double[4];
+        private double[] longitudes = new double[4];
+        private Object[] values = new Object[4];
+        private int size;
+        
+        private void add(long id, double latitude, double longitude, Object value) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                latitudes = Arrays.copyOf(latitudes, size * 2);
+                longitudes = Arrays.copyOf(longitudes, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            ids[size] = id;
+            latitudes[size] = latitude;
+            longitudes[size] = longitude;
+            values[size] = value;
+            size++;
+        }
+        
+        private void remove(long id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    size--;
+                    ids[i] = ids[size];
+                    latitudes[i] = latitudes[size];
+                    longitudes[i] = longitudes[size];
+                    values[i] = values[size];
+                    values[size] = null;
+                    return;
+                }
+            }
+        }
+    }
+    
+    private record Candidate(long id, Object value, double distanceKm) {}
+    
+    private static final Comparator<Candidate> NEAREST_FIRST =
+            Comparator.comparingDouble(Candidate::distanceKm).thenComparingLong(Candidate::id);
+    
+    /** Keeps the best {@code limit} candidates seen so far, worst on top. */
+    private final class Collector {
+        private final double latitude;
+        private final double longitude;
+        private final double maxKm;
+        private final int limit;
+        private final Predicate<? super T> filter;
+        private final PriorityQueue<Candidate> best = new PriorityQueue<>(NEAREST_FIRST.reversed());
+        
+        private Collector(double latitude, double longitude, double maxKm, int limit, Predicate<? super T> filter) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.maxKm = maxKm;
+            this.limit = limit;
+            this.filter = filter;
+        }
+        
+        @SuppressWarnings("unchecked")
+        private void scan(Cell cell) {
+            for (int i = 0; i < cell.size; i++) {
+                double km = GeoDistance.km(latitude, longitude, cell.latitudes[i], cell.longitudes[i]);
+                if (km > maxKm || full() && km > worst()) {
+                    continue;
+                }
+                if (filter != null && !filter.test((T) cell.values[i])) {
+                    continue;
+                }
+                Candidate candidate = new Candidate(cell.ids[i], cell.values[i], km);
+                if (!full()) {
+                    best.add(candidate);
+                } else if (NEAREST_FIRST.compare(candidate, best.peek()) < 0) {
+                    best.poll();
+                    best.add(candidate);
+                }
+            }
+        }
+        
+        private void reset() {
+            best.clear();
+        }
+        
+        private boolean full() {
+            return best.size() >= limit;
+        }
+        
+        private double worst() {
+            return best.peek().distanceKm();
+        }
+        
+        @SuppressWarnings("unchecked")
+        private List<Hit<T>> sorted() {
+            List<Candidate> candidates = new ArrayList<>(best);
+            candidates.sort(NEAREST_FIRST);
+            List<Hit<T>> hits = new ArrayList<>(candidates.size());
+            for (Candidate candidate : candidates) {
+                hits.add(new Hit<>((T) candidate.value(), candidate.distanceKm()));
+            }
+            return hits;
+        }
+    }
+}
@@ -1,13 +1,24 @@
 package com.travelapp.repository;
 
+import com.travelapp.dto.PackageCandidate;
 import com.travelapp.entity.Accommodation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface AccommodationRepository extends JpaRepository<Accommodation, Long> {
-    List<Accommodation> findByType(String type);
-    List<Accommodation> findByRatingGreaterThanEqual(Integer rating);
-    List<Accommodation> findByNameContainingIgnoreCase(String name);
-}
\ No newline at end of file
+public interface AccommodationRepository extends JpaRepository<Accommodation, Long>, JpaSpecificationExecutor<Accommodation> {
+    // Rated hotels no dearer than maxPrice a night, cheapest first (idx_accommodations_price)
+    @Query("SELECT new com.travelapp.dto.PackageCandidate(a.hotelId, a.pricePerNight, a.rating, a.latitude, a.longitude) " +
+           "FROM Accommodation a WHERE a.rating IS NOT NULL AND a.pricePerNight <= :maxPrice " +
+           "ORDER BY a.pricePerNight, a.hotelId")
+    List<PackageCandidate> findPackageCandidates(@Param("maxPrice") BigDecimal maxPrice);
+    
+    @Query("SELECT a.version FROM Accommodation a WHERE a.hotelId = :hotelId")
+    Optional<Long> findVersionByHotelId(@Param("hotelId") Long hotelId);
+}
@@ -0,0 +1,78 @@
+package com.travelapp.repository;
+
+import com.travelapp.dto.AccommodationFilter;
+import com.travelapp.entity.Accommodation;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import java.math.BigDecimal;
+
+/**
+ * Composable predicates for accommodation queries. All of them combine into
+ * one WHERE clause, so filtering, sorting and limiting happen in SQL.
+ */
+public final class AccommodationSpecifications {
+    
+    private AccommodationSpecifications() {}
+    
+    public static Specification<Accommodation> matching(AccommodationFilter filter) {
+        return Specification.allOf(
+                hasType(filter.getType()),
+                priceAtLeast(filter.getMinPrice()),
+                priceAtMost(filter.getMaxPrice()),
+                ratingAtLeast(filter.getMinRating()),
+                nameStartsWith(filter.getName()));
+    }
+    
+    public static Specification<Accommodation> hasType(String type) {
+        return (root, query, cb) -> isBlank(type) ? null : cb.equal(root.get("type"), type);
+    }
+    
+    public static Specification<Accommodation> priceAtLeast(BigDecimal minPrice) {
+        return (root, query, cb) -> minPrice == null ? null : cb.greaterThanOrEqualTo(root.get("pricePerNight"), minPrice);
+    }
+    
+    public static Specification<Accommodation> priceAtMost(BigDecimal maxPrice) {
+        return (root, query, cb) -> maxPrice == null ? null : cb.lessThanOrEqualTo(root.get("pricePerNight"), maxPrice);
+    }
+    
+    public static Specification<Accommodation> ratingAtLeast(Integer minRating) {
+        return (root, query, cb) -> minRating == null ? null : cb.greaterThanOrEqualTo(root.get("rating"), minRating);
+    }
+    
+    // Prefix match keeps the name index usable; the column collation makes it case-insensitive
+    public static Specification<Accommodation> nameStartsWith(String name) {
+        return (root, query, cb) -> isBlank(name) ? null : cb.like(root.get("name"), escapeLike(name.trim()) + "%", '\\');
+    }
+    
+    public static Specification<Accommodation> hasValue(String property) {
+        return (root, query, cb) -> cb.isNotNull(root.get(property));
+    }
+    
+    /**
+     * Keyset predicate: rows strictly after ({@code value}, {@code hotelId})
+     * in an ORDER BY property direction, hotelId ASC.
+     */
+    public static <C extends Comparable<? super C>> Specification<Accommodation> after(
+            String property, Sort.Direction direction, C value, Long hotelId) {
+        return (root, query, cb) -> {
+            Path<C> path = root.get(property);
+            Path<Long> id = root.get("hotelId");
+            Predicate beyond = direction.isAscending() ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+            return cb.or(beyond, cb.and(cb.equal(path, value), cb.greaterThan(id, hotelId)));
+        };
+    }
+    
+    public static Specification<Accommodation> idAfter(Long hotelId) {
+        return (root, query, cb) -> cb.greaterThan(root.get("hotelId"), hotelId);
+    }
+    
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+    
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
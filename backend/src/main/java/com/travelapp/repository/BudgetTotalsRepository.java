@@ -0,0 +1,40 @@
+package com.travelapp.repository;
+
+import com.travelapp.entity.TripBudgetTotal;
+import com.travelapp.entity.TripCategoryTotal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Atomic upserts that add a signed delta to the running totals, so totals
+ * stay exact under concurrent expense writes without reading them first.
+ */
+@Repository
+public interface BudgetTotalsRepository extends JpaRepository<TripBudgetTotal, Long> {
+    
+    @Modifying
+    @Query(value = "INSERT INTO trip_budget_totals (trip_id, total_spent, expense_count) VALUES (:tripId, :amount, :count) " +
+                   "ON DUPLICATE KEY UPDATE total_spent = total_spent + :amount, expense_count = expense_count + :count",
+           nativeQuery = true)
+    int addToTrip(@Param("tripId") Long tripId, @Param("amount") BigDecimal amount, @Param("count") long count);
+    
+    @Modifying
+    @Query(value = "INSERT INTO trip_category_totals (trip_id, category, total_spent, expense_count) " +
+                   "VALUES (:tripId, :category, :amount, :count) " +
+                   "ON DUPLICATE KEY UPDATE total_spent = total_spent + :amount, expense_count = expense_count + :count",
+           nativeQuery = true)
+    int addToCategory(@Param("tripId") Long tripId, @Param("category") String category,
+                      @Param("amount") BigDecimal amount, @Param("count") long count);
+    
+    @Query("SELECT b FROM TripBudgetTotal b WHERE b.tripId IN " +
+           "(SELECT t.tripId FROM Trip t JOIN t.users u WHERE u.userId = :userId)")
+    List<TripBudgetTotal> findByMember(@Param("userId") Long userId);
+    
+    @Query("SELECT c FROM TripCategoryTotal c WHERE c.tripId = :tripId AND c.expenseCount > 0 ORDER BY c.category")
+    List<TripCategoryTotal> findCategoryTotals(@Param("tripId") Long tripId);
+}
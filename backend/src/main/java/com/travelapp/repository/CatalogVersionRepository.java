@@ -0,0 +1,23 @@
+package com.travelapp.repository;
+
+import com.travelapp.entity.CatalogVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Optional;
+
+@Repository
+public interface CatalogVersionRepository extends JpaRepository<CatalogVersion, String> {
+    
+    @Query("SELECT c.version FROM CatalogVersion c WHERE c.catalog = :catalog")
+    Optional<Long> findVersion(@Param("catalog") String catalog);
+    
+    // Joins the caller's transaction, so the bump commits or rolls back with the write it stands for
+    @Modifying
+    @Transactional
+    @Query("UPDATE CatalogVersion c SET c.version = c.version + 1 WHERE c.catalog = :catalog")
+    int increment(@Param("catalog") String catalog);
+}
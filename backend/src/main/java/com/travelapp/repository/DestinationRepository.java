@@ -2,11 +2,23 @@ package com.travelapp.repository;
 
 import com.travelapp.entity.Destination;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import java.util.List;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface DestinationRepository extends JpaRepository<Destination, Long> {
-    List<Destination> findByNameContainingIgnoreCase(String name);
-    List<Destination> findByLocationContainingIgnoreCase(String location);
-}
\ No newline at end of file
+    
+    // Compare-and-set on the version the client last saw (null skips the check); 0 means missing or stale
+    @Modifying
+    @Transactional
+    @Query("UPDATE Destination d SET d.name = :name, d.location = :location, d.description = :description, " +
+           "d.latitude = :latitude, d.longitude = :longitude, d.version = d.version + 1 " +
+           "WHERE d.destinationId = :destinationId AND (:version IS NULL OR d.version = :version)")
+    int updateDetails(@Param("destinationId") Long destinationId, @Param("name") String name,
+                      @Param("location") String location, @Param("description") String description,
+                      @Param("latitude") Double latitude, @Param("longitude") Double longitude,
+                      @Param("version") Long version);
+}
@@ -1,15 +1,42 @@
 package com.travelapp.repository;
 
+import com.travelapp.dto.ExpenseExport;
+import com.travelapp.dto.PayerTotal;
 import com.travelapp.entity.Expense;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ExpenseRepository extends JpaRepository<Expense, Long> {
     List<Expense> findByCategory(String category);
     List<Expense> findByDateBetween(LocalDate startDate, LocalDate endDate);
     List<Expense> findByAmountGreaterThan(BigDecimal amount);
-}
\ No newline at end of file
+    List<Expense> findByTripIdOrderByDateDescExpenseIdDesc(Long tripId);
+    
+    // Held until commit, so a concurrent update or delete can't reverse the same old amount twice
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Expense e WHERE e.expenseId = :expenseId")
+    Optional<Expense> findForUpdate(@Param("expenseId") Long expenseId);
+    
+    @Query("SELECT e.paidBy AS userId, SUM(e.amount) AS total FROM Expense e " +
+           "WHERE e.tripId = :tripId AND e.paidBy IS NOT NULL GROUP BY e.paidBy ORDER BY e.paidBy")
+    List<PayerTotal> findPayerTotals(@Param("tripId") Long tripId);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = TripRepository.EXPORT_FETCH_SIZE))
+    @Query("SELECT e.expenseId AS expenseId, e.tripId AS tripId, e.category AS category, e.amount AS amount, " +
+           "e.date AS date, e.description AS description FROM Expense e JOIN Trip t ON t.tripId = e.tripId " +
+           "WHERE " + TripRepository.IN_DATE_RANGE + " ORDER BY e.tripId, e.expenseId")
+    Stream<ExpenseExport> streamExpensesInDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,39 @@
+package com.travelapp.repository;
+
+import com.travelapp.entity.SeatHold;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Hold state transitions are conditional on the current status, so exactly
+ * one of confirm, release or expiry wins for any hold.
+ */
+@Repository
+public interface SeatHoldRepository extends JpaRepository<SeatHold, Long> {
+    List<SeatHold> findByStatusAndExpiresAtLessThanEqualOrderByExpiresAtAsc(SeatHold.Status status, Instant now, Limit limit);
+    
+    List<SeatHold> findByTransportationIdAndTravelDateAndStatusAndExpiresAtLessThanEqual(
+            Long transportationId, LocalDate travelDate, SeatHold.Status status, Instant now);
+    
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE SeatHold h SET h.status = :confirmed WHERE h.holdId = :holdId AND h.status = :held AND h.expiresAt > :now")
+    int markConfirmed(@Param("holdId") Long holdId, @Param("now") Instant now,
+                      @Param("held") SeatHold.Status held, @Param("confirmed") SeatHold.Status confirmed);
+    
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE SeatHold h SET h.status = :released WHERE h.holdId = :holdId AND h.status = :held")
+    int markReleased(@Param("holdId") Long holdId,
+                     @Param("held") SeatHold.Status held, @Param("released") SeatHold.Status released);
+    
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE SeatHold h SET h.status = :expired WHERE h.holdId = :holdId AND h.status = :held AND h.expiresAt <= :now")
+    int markExpired(@Param("holdId") Long holdId, @Param("now") Instant now,
+                    @Param("held") SeatHold.Status held, @Param("expired") SeatHold.Status expired);
+}
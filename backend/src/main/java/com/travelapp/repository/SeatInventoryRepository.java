@@ -0,0 +1,48 @@
+package com.travelapp.repository;
+
+import com.travelapp.entity.SeatInventory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Seat counters only change through the guarded UPDATEs below. Each is a
+ * single-row compare-and-set on the (transportation_id, travel_date) unique
+ * key that returns 0 instead of overselling, so concurrent bookings never
+ * need a table lock or a read-modify-write.
+ */
+@Repository
+public interface SeatInventoryRepository extends JpaRepository<SeatInventory, Long> {
+    Optional<SeatInventory> findByTransportationIdAndTravelDate(Long transportationId, LocalDate travelDate);
+    
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO seat_inventory (transportation_id, travel_date, total_seats, held_seats, booked_seats, version) " +
+                   "VALUES (:transportationId, :travelDate, :totalSeats, 0, 0, 0)", nativeQuery = true)
+    int createIfAbsent(@Param("transportationId") Long transportationId,
+                       @Param("travelDate") LocalDate travelDate,
+                       @Param("totalSeats") int totalSeats);
+    
+    @Modifying
+    @Query("UPDATE SeatInventory s SET s.heldSeats = s.heldSeats + :seats, s.version = s.version + 1 " +
+           "WHERE s.transportationId = :transportationId AND s.travelDate = :travelDate " +
+           "AND s.totalSeats - s.heldSeats - s.bookedSeats >= :seats")
+    int hold(@Param("transportationId") Long transportationId, @Param("travelDate") LocalDate travelDate,
+             @Param("seats") int seats);
+    
+    @Modifying
+    @Query("UPDATE SeatInventory s SET s.heldSeats = s.heldSeats - :seats, s.bookedSeats = s.bookedSeats + :seats, " +
+           "s.version = s.version + 1 WHERE s.transportationId = :transportationId AND s.travelDate = :travelDate " +
+           "AND s.heldSeats >= :seats")
+    int confirm(@Param("transportationId") Long transportationId, @Param("travelDate") LocalDate travelDate,
+                @Param("seats") int seats);
+    
+    @Modifying
+    @Query("UPDATE SeatInventory s SET s.heldSeats = s.heldSeats - :seats, s.version = s.version + 1 " +
+           "WHERE s.transportationId = :transportationId AND s.travelDate = :travelDate AND s.heldSeats >= :seats")
+    int release(@Param("transportationId") Long transportationId, @Param("travelDate") LocalDate travelDate,
+                @Param("seats") int seats);
+}
@@ -1,13 +1,28 @@
 package com.travelapp.repository;
 
+import com.travelapp.dto.PackageCandidate;
 import com.travelapp.entity.Transportation;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TransportationRepository extends JpaRepository<Transportation, Long> {
     List<Transportation> findByType(String type);
     List<Transportation> findByProvider(String provider);
     List<Transportation> findByAvailability(Boolean availability);
+    List<Transportation> findByAvailabilityTrueOrderByPriceAscTransportationIdAsc(Limit limit);
+    
+    // Available fares no dearer than maxPrice, cheapest first
+    @Query("SELECT new com.travelapp.dto.PackageCandidate(t.transportationId, t.price) FROM Transportation t " +
+           "WHERE t.availability = true AND t.price <= :maxPrice ORDER BY t.price, t.transportationId")
+    List<PackageCandidate> findPackageCandidates(@Param("maxPrice") BigDecimal maxPrice);
+    
+    @Query("SELECT t.version FROM Transportation t WHERE t.transportationId = :transportationId")
+    Optional<Long> findVersionByTransportationId(@Param("transportationId") Long transportationId);
 }
\ No newline at end of file
@@ -1,19 +1,111 @@
 package com.travelapp.repository;
 
+import com.travelapp.dto.TripExport;
+import com.travelapp.dto.TripMemberExport;
+import com.travelapp.dto.TripMemberSummary;
+import com.travelapp.dto.TripSummary;
 import com.travelapp.entity.Trip;
 import com.travelapp.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TripRepository extends JpaRepository<Trip, Long> {
+    
+    // Trips that lie entirely within [startDate, endDate]; shared by the list and export queries
+    String IN_DATE_RANGE = "t.startDate >= :startDate AND t.endDate <= :endDate";
+    
+    // Rows per round trip for export streams (MySQL only honours it on the streaming pool, see StreamingDataSource)
+    String EXPORT_FETCH_SIZE = "500";
+    
+    @Override
+    @EntityGraph(Trip.WITH_USERS)
+    List<Trip> findAll();
+    
+    @EntityGraph(Trip.WITH_USERS)
     List<Trip> findByUsersContaining(User user);
-    List<Trip> findByStartDateBetween(LocalDate startDate, LocalDate endDate);
     
-    @Query("SELECT t FROM Trip t WHERE t.startDate >= :startDate AND t.endDate <= :endDate")
+    @EntityGraph(Trip.WITH_USERS)
+    @Query("SELECT t FROM Trip t WHERE " + IN_DATE_RANGE)
     List<Trip> findTripsInDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
-}
\ No newline at end of file
+    
+    // Trips intersecting [startDate, endDate]. Each bound is a range on its own index
+    // (idx_trips_dates, idx_trips_end_start) and the planner scans the more selective one
+    @EntityGraph(Trip.WITH_USERS)
+    @Query("SELECT t FROM Trip t WHERE t.startDate <= :endDate AND t.endDate >= :startDate")
+    List<Trip> findTripsOverlapping(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    
+    // List views select only the columns a trip card shows; constructor results are never managed
+    String SUMMARY = "SELECT new com.travelapp.dto.TripSummary(t.tripId, t.title, t.startDate, t.endDate, t.totalBudget, t.version) " +
+                     "FROM Trip t ";
+    
+    // Keyset pagination: seek past the last row of the previous page instead of using OFFSET
+    @Query(SUMMARY + "WHERE t.tripId > :tripId ORDER BY t.tripId ASC")
+    List<TripSummary> findSummariesAfterId(@Param("tripId") Long tripId, Limit limit);
+    
+    @Query(SUMMARY + "ORDER BY t.startDate ASC, t.tripId ASC")
+    List<TripSummary> findSummariesByStartDate(Limit limit);
+    
+    @Query(SUMMARY + "WHERE t.startDate > :startDate OR (t.startDate = :startDate AND t.tripId > :tripId) " +
+           "ORDER BY t.startDate ASC, t.tripId ASC")
+    List<TripSummary> findSummariesByStartDateAfter(@Param("startDate") LocalDate startDate, @Param("tripId") Long tripId, Limit limit);
+    
+    @Query(SUMMARY + "WHERE t.tripId = :tripId")
+    Optional<TripSummary> findSummaryByTripId(@Param("tripId") Long tripId);
+    
+    // Members of a whole page in one query, straight from the join table and users columns
+    @Query("SELECT t.tripId AS tripId, u.userId AS userId, u.name AS name, u.email AS email " +
+           "FROM Trip t JOIN t.users u WHERE t.tripId IN :tripIds ORDER BY u.userId")
+    List<TripMemberSummary> findMemberSummaries(@Param("tripIds") Collection<Long> tripIds);
+    
+    // Fetch plan for detail views: load members together with the trip instead of one lazy SELECT
+    @EntityGraph(Trip.WITH_USERS)
+    Optional<Trip> findWithUsersByTripId(Long tripId);
+    
+    // Export streams: projections are not managed, so the persistence context stays empty while streaming
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query("SELECT t.tripId AS tripId, t.title AS title, t.startDate AS startDate, t.endDate AS endDate, " +
+           "t.totalBudget AS totalBudget FROM Trip t WHERE " + IN_DATE_RANGE + " ORDER BY t.tripId")
+    Stream<TripExport> streamTripsInDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query("SELECT t.tripId AS tripId, u.userId AS userId, u.name AS name, u.email AS email " +
+           "FROM Trip t JOIN t.users u WHERE " + IN_DATE_RANGE + " ORDER BY t.tripId, u.userId")
+    Stream<TripMemberExport> streamMembersInDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    
+    @Query("SELECT t.version FROM Trip t WHERE t.tripId = :tripId")
+    Optional<Long> findVersionByTripId(@Param("tripId") Long tripId);
+    
+    // Compare-and-set on the version the client last saw (null skips the check); 0 means missing or stale
+    @Modifying
+    @Query("UPDATE Trip t SET t.title = :title, t.startDate = :startDate, t.endDate = :endDate, " +
+           "t.totalBudget = :totalBudget, t.version = t.version + 1 " +
+           "WHERE t.tripId = :tripId AND (:version IS NULL OR t.version = :version)")
+    int updateDetails(@Param("tripId") Long tripId, @Param("title") String title,
+                      @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate,
+                      @Param("totalBudget") BigDecimal totalBudget, @Param("version") Long version);
+    
+    // The member list is part of a trip's representation, so membership changes bump its version too
+    @Modifying
+    @Query("UPDATE Trip t SET t.version = t.version + 1 WHERE t.tripId = :tripId")
+    int incrementVersion(@Param("tripId") Long tripId);
+    
+    @Modifying
+    @Query("UPDATE Trip t SET t.version = t.version + 1 " +
+           "WHERE t.tripId IN (SELECT m.tripId FROM TripUser m WHERE m.userId = :userId)")
+    int incrementVersionsOfMember(@Param("userId") Long userId);
+}
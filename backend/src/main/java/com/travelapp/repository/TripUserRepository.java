@@ -1,14 +1,54 @@
 package com.travelapp.repository;
 
+import com.travelapp.dto.TripMember;
+import com.travelapp.dto.TripMemberSpan;
 import com.travelapp.entity.TripUser;
-import com.travelapp.entity.Trip;
-import com.travelapp.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface TripUserRepository extends JpaRepository<TripUser, Long> {
-    List<TripUser> findByTrip(Trip trip);
-    List<TripUser> findByUser(User user);
-}
\ No newline at end of file
+    
+    // One statement for any number of users: unknown user ids select no row and
+    // existing memberships are skipped by the unique (trip_id, user_id) key
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO trip_users (trip_id, user_id, role, joined_at) " +
+                   "SELECT :tripId, u.user_id, :role, CURRENT_TIMESTAMP FROM users u WHERE u.user_id IN (:userIds)",
+           nativeQuery = true)
+    int addMembers(@Param("tripId") Long tripId, @Param("userIds") Collection<Long> userIds, @Param("role") String role);
+    
+    @Modifying
+    @Query("DELETE FROM TripUser m WHERE m.tripId = :tripId AND m.userId IN :userIds")
+    int removeMembers(@Param("tripId") Long tripId, @Param("userIds") Collection<Long> userIds);
+    
+    // Keyset page over the unique (trip_id, user_id) index
+    @Query("SELECT m.userId AS userId, u.name AS name, u.email AS email, m.role AS role, m.joinedAt AS joinedAt " +
+           "FROM TripUser m JOIN User u ON u.userId = m.userId " +
+           "WHERE m.tripId = :tripId AND m.userId > :afterUserId ORDER BY m.userId ASC")
+    List<TripMember> findMembersPage(@Param("tripId") Long tripId, @Param("afterUserId") Long afterUserId, Limit limit);
+    
+    @Query("SELECT m.userId FROM TripUser m WHERE m.tripId = :tripId ORDER BY m.userId")
+    List<Long> findUserIds(@Param("tripId") Long tripId);
+    
+    @Query("SELECT m.userId FROM TripUser m WHERE m.tripId = :tripId AND m.userId IN :userIds")
+    List<Long> findUserIdsIn(@Param("tripId") Long tripId, @Param("userIds") Collection<Long> userIds);
+    
+    boolean existsByTripIdAndUserId(Long tripId, Long userId);
+    
+    // Every membership with its trip's dates, read once at startup to build the calendar index
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = TripRepository.EXPORT_FETCH_SIZE))
+    @Query("SELECT m.userId AS userId, t.tripId AS tripId, t.title AS title, t.startDate AS startDate, t.endDate AS endDate, " +
+           "t.version AS version " +
+           "FROM TripUser m JOIN Trip t ON t.tripId = m.tripId")
+    Stream<TripMemberSpan> streamMemberSpans();
+}
@@ -1,12 +1,34 @@
 package com.travelapp.repository;
 
+import com.travelapp.dto.UserSummary;
 import com.travelapp.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+    // Closed projection: selects only the summary columns, never the password hash
+    List<UserSummary> findByUserIdGreaterThanOrderByUserIdAsc(Long userId, Limit limit);
+    
+    // Only replaces the hash it was computed from, so a concurrent password change wins
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.userId = :userId AND u.password = :oldHash")
+    int replacePasswordHash(@Param("userId") Long userId, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
+    
+    // Compare-and-set on the version the client last saw (null skips the check); a null passwordHash keeps the old one
+    @Modifying
+    @Query("UPDATE User u SET u.name = :name, u.email = :email, u.password = COALESCE(CAST(:passwordHash AS String), u.password), " +
+           "u.version = u.version + 1 WHERE u.userId = :userId AND (:version IS NULL OR u.version = :version)")
+    int updateProfile(@Param("userId") Long userId, @Param("name") String name, @Param("email") String email,
+                      @Param("passwordHash") String passwordHash, @Param("version") Long version);
+}
@@ -0,0 +1,279 @@
+package com.travelapp.route;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Near-optimal visiting order over a symmetric weight matrix, with stop 0
+ * fixed as the start and an optional return leg to it.
+ *
+ * Each restart builds a tour by (randomised) nearest neighbour, improves it
+ * with 2-opt and Or-opt until neither finds a better move, and then runs
+ * iterated local search: a double-bridge kick followed by the same local
+ * search, keeping the result whenever it is shorter. Restarts are forked
+ * onto a fork/join pool, so they run in parallel, and all of them stop at
+ * the shared deadline or once they go a while without improving. The best
+ * tour found wins.
+ */
+public final class TourSolver {
+    
+    private static final double EPSILON = 1e-9;
+    private static final int MAX_SEGMENT = 3;
+    private static final int IDLE_KICKS_PER_STOP = 20;
+    
+    private final double[] weights;
+    private final int n;
+    private final boolean roundTrip;
+    
+    // weights is row-major n x n and must be symmetric
+    public TourSolver(double[] weights, int n, boolean roundTrip) {
+        this.weights = weights;
+        this.n = n;
+        this.roundTrip = roundTrip;
+    }
+    
+    public int[] solve(ForkJoinPool pool, int restarts, long deadlineNanos) {
+        if (n <= 3) {
+            int[] order = new int[n];
+            for (int i = 0; i < n; i++) {
+                order[i] = i;
+            }
+            // With three stops only an open path can be improved, by swapping the last two
+            if (n == 3 && !roundTrip && weight(0, 2) + weight(2, 1) < weight(0, 1) + weight(1, 2)) {
+                order[1] = 2;
+                order[2] = 1;
+            }
+            return order;
+        }
+        return pool.invoke(new Restarts(0, Math.max(1, restarts), deadlineNanos)).order;
+    }
+    
+    public double cost(int[] order) {
+        double total = 0;
+        for (int i = 1; i < order.length; i++) {
+            total += weight(order[i - 1], order[i]);
+        }
+        if (roundTrip && order.length > 1) {
+            total += weight(order[order.length - 1], order[0]);
+        }
+        return total;
+    }
+    
+    private final class Restarts extends RecursiveTask<Tour> {
+        private final int from;
+        private final int to;
+        private final long deadlineNanos;
+        
+        Restarts(int from, int to, long deadlineNanos) {
+            this.from = from;
+            this.to = to;
+            this.deadlineNanos = deadlineNanos;
+        }
+        
+        @Override
+        protected Tour compute() {
+            if (to - from == 1) {
+                return search(from, deadlineNanos);
+            }
+            int mid = (from + to) >>> 1;
+            Restarts left = new Restarts(from, mid, deadlineNanos);
+            left.fork();
+            Tour right = new Restarts(mid, to, deadlineNanos).compute();
+            Tour other = left.join();
+            return other.cost <= right.cost ? other : right;
+        }
+    }
+    
+    private record Tour(int[] order, double cost) {}
+    
+    private Tour search(int restart, long deadlineNanos) {
+        SplittableRandom random = new SplittableRandom(restart * 0x9E3779B97F4A7C15L);
+        int[] best = construct(restart == 0 ? null : random);
+        improve(best, deadlineNanos);
+        double bestCost = cost(best);
+        
+        int idle = 0;
+        int maxIdle = IDLE_KICKS_PER_STOP * n;
+        while (n >= 5 && idle < maxIdle && System.nanoTime() < deadlineNanos) {
+            int[] candidate = doubleBridge(best, random);
+            improve(candidate, deadlineNanos);
+            double candidateCost = cost(candidate);
+            if (candidateCost < bestCost - EPSILON) {
+                best = candidate;
+                bestCost = candidateCost;
+                idle = 0;
+            } else {
+                idle++;
+            }
+        }
+        return new Tour(best, bestCost);
+    }
+    
+    // Nearest neighbour from stop 0; with a random source each step picks one of the three nearest
+    private int[] construct(SplittableRandom random) {
+        int[] order = new int[n];
+        boolean[] visited = new boolean[n];
+        visited[0] = true;
+        int[] nearest = new int[3];
+        for (int position = 1; position < n; position++) {
+            int current = order[position - 1];
+            int found = 0;
+            for (int candidate = 0; candidate < n; candidate++) {
+                if (visited[candidate]) {
+                    continue;
+                }
+                // Keep the three nearest unvisited stops, closest first
+                int at = Math.min(found, nearest.length - 1);
+                if (found < nearest.length || weight(current, candidate) < weight(current, nearest[at])) {
+                    while (at > 0 && weight(current, candidate) < weight(current, nearest[at - 1])) {
+                        nearest[at] = nearest[at - 1];
+                        at--;
+                    }
+                    nearest[at] = candidate;
+                    found = Math.min(found + 1, nearest.length);
+                }
+            }
+            int next = random == null ? nearest[0] : nearest[random.nextInt(found)];
+            order[position] = next;
+            visited[next] = true;
+        }
+        return order;
+    }
+    
+    private void improve(int[] order, long deadlineNanos) {
+        boolean improved = true;
+        while (improved && System.nanoTime() < deadlineNanos) {
+            improved = twoOpt(order);
+            improved |= orOpt(order);
+        }
+    }
+    
+    // Reverses order[i..j] whenever that shortens the tour
+    private boolean twoOpt(int[] order) {
+        boolean improved = false;
+        for (int i = 1; i < n - 1; i++) {
+            for (int j = i + 1; j < n; j++) {
+                int a = order[i - 1];
+                int b = order[i];
+                int c = order[j];
+                int d = next(order, j);
+                double delta = weight(a, c) + weight(b, d) - weight(a, b) - weight(c, d);
+                if (delta < -EPSILON) {
+                    reverse(order, i, j);
+                    improved = true;
+                }
+            }
+        }
+        return improved;
+    }
+    
+    // Moves a run of up to three stops, possibly reversed, to wherever it is cheapest
+    private boolean orOpt(int[] order) {
+        boolean improved = false;
+        for (int length = 1; length <= MAX_SEGMENT; length++) {
+            for (int start = 1; start + length <= n; start++) {
+                int end = start + length - 1;
+                int first = order[start];
+                int last = order[end];
+                int before = order[start - 1];
+                int after = next(order, end);
+                double removed = weight(before, first) + weight(last, after) - weight(before, after);
+                
+                int bestAfter = -1;
+                boolean bestReversed = false;
+                double bestDelta = -EPSILON;
+                for (int k = 0; k < n; k++) {
+                    if (k >= start - 1 && k <= end) {
+                        continue;
+                    }
+                    int x = order[k];
+                    int y = next(order, k);
+                    double forward = weight(x, first) + weight(last, y) - weight(x, y) - removed;
+                    double backward = weight(x, last) + weight(first, y) - weight(x, y) - removed;
+                    if (forward < bestDelta) {
+                        bestDelta = forward;
+                        bestAfter = k;
+                        bestReversed = false;
+                    }
+                    if (backward < bestDelta) {
+                        bestDelta = backward;
+                        bestAfter = k;
+                        bestReversed = true;
+                    }
+                }
+                if (bestAfter >= 0) {
+                    moveSegment(order, start, end, order[bestAfter], bestReversed);
+                    improved = true;
+                }
+            }
+        }
+        return improved;
+    }
+    
+    private void moveSegment(int[] order, int start, int end, int insertAfter, boolean reversed) {
+        int length = end - start + 1;
+        int[] segment = new int[length];
+        for (int i = 0; i < length; i++) {
+            segment[i] = order[reversed ? end - i : start + i];
+        }
+        int[] rest = new int[n - length];
+        int size = 0;
+        for (int i = 0; i < n; i++) {
+            if (i < start || i > end) {
+                rest[size++] = order[i];
+            }
+        }
+        int position = 0;
+        for (int i = 0; i < rest.length; i++) {
+            order[position++] = rest[i];
+            if (rest[i] == insertAfter) {
+                for (int stop : segment) {
+                    order[position++] = stop;
+                }
+            }
+        }
+    }
+    
+    // Cuts the movable part into A B C D and reconnects it as A C B D
+    private int[] doubleBridge(int[] order, SplittableRandom random) {
+        int p1 = 1 + random.nextInt(n - 3);
+        int p2 = p1 + 1 + random.nextInt(n - p1 - 2);
+        int p3 = p2 + 1 + random.nextInt(n - p2 - 1);
+        int[] kicked = new int[n];
+        int position = 0;
+        for (int i = 0; i < p1; i++) {
+            kicked[position++] = order[i];
+        }
+        for (int i = p2; i < p3; i++) {
+            kicked[position++] = order[i];
+        }
+        for (int i = p1; i < p2; i++) {
+            kicked[position++] = order[i];
+        }
+        for (int i = p3; i < n; i++) {
+            kicked[position++] = order[i];
+        }
+        return kicked;
+    }
+    
+    // Stop after position i, or -1 at the end of an open path
+    private int next(int[] order, int i) {
+        if (i + 1 < n) {
+            return order[i + 1];
+        }
+        return roundTrip ? order[0] : -1;
+    }
+    
+    private double weight(int from, int to) {
+        return from < 0 || to < 0 ? 0 : weights[from * n + to];
+    }
+    
+    private static void reverse(int[] order, int i, int j) {
+        while (i < j) {
+            int swap = order[i];
+            order[i++] = order[j];
+            order[j--] = swap;
+        }
+    }
+}
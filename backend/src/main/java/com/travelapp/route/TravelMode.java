@@ -0,0 +1,55 @@
+package com.travelapp.route;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Door-to-door travel profile for each transportation type: average speed,
+ * fixed time per leg (check-in, boarding, waiting) and the longest leg the
+ * mode is used for. Transportation rows carry a fare but no speed or route,
+ * so these defaults turn a leg's distance into travel time and decide which
+ * fares apply to it.
+ */
+public enum TravelMode {
+    
+    TAXI(45, 0.1, 150),
+    CAR(70, 0.0, 1500),
+    BUS(55, 0.25, 1200),
+    TRAIN(90, 0.5, 2500),
+    FERRY(30, 1.0, 800),
+    FLIGHT(700, 3.0, 20000);
+    
+    private final double speedKmh;
+    private final double overheadHours;
+    private final double maxLegKm;
+    
+    TravelMode(double speedKmh, double overheadHours, double maxLegKm) {
+        this.speedKmh = speedKmh;
+        this.overheadHours = overheadHours;
+        this.maxLegKm = maxLegKm;
+    }
+    
+    // Matches Transportation.type case-insensitively; unknown types have no profile
+    public static Optional<TravelMode> of(String type) {
+        if (type == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(valueOf(type.trim().toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+    
+    public double hours(double km) {
+        return overheadHours + km / speedKmh;
+    }
+    
+    public boolean covers(double km) {
+        return km <= maxLegKm;
+    }
+    
+    public double getMaxLegKm() {
+        return maxLegKm;
+    }
+}
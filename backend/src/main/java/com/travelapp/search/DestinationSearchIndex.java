@@ -0,0 +1,209 @@
+package com.travelapp.search;
+
+import com.travelapp.entity.Destination;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Inverted index over destination name, location and description, ranked
+ * with BM25 summed across the three fields. The index holds its own copy of
+ * every document and is kept current by DestinationService writes, so a
+ * search never reaches the database.
+ */
+@Component
+public class DestinationSearchIndex {
+    
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    
+    private final FieldIndex name = new FieldIndex(3.0, Destination::getName);
+    private final FieldIndex location = new FieldIndex(2.0, Destination::getLocation);
+    private final FieldIndex description = new FieldIndex(1.0, Destination::getDescription);
+    private final List<FieldIndex> fields = List.of(name, location, description);
+    
+    private final Map<Long, Destination> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    public void rebuild(Collection<Destination> destinations) {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            fields.forEach(FieldIndex::clear);
+            destinations.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void index(Destination destination) {
+        lock.writeLock().lock();
+        try {
+            remove(destination.getDestinationId());
+            add(destination);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void delete(Long destinationId) {
+        lock.writeLock().lock();
+        try {
+            remove(destinationId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Every term of {@code query} must appear in some field, every term of
+     * {@code nameFilter} in the name and every term of {@code locationFilter}
+     * in the location. Matches are ordered by descending score.
+     */
+    public List<Destination> search(String query, String nameFilter, String locationFilter, int limit) {
+        List<String> queryTerms = Tokenizer.tokenize(query);
+        List<String> nameTerms = Tokenizer.tokenize(nameFilter);
+        List<String> locationTerms = Tokenizer.tokenize(locationFilter);
+        if (queryTerms.isEmpty() && nameTerms.isEmpty() && locationTerms.isEmpty()) {
+            return List.of();
+        }
+        
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = null;
+            for (String term : queryTerms) {
+                Set<Long> matches = new HashSet<>();
+                fields.forEach(field -> matches.addAll(field.postings(term).keySet()));
+                candidates = intersect(candidates, matches);
+            }
+            for (String term : nameTerms) {
+                candidates = intersect(candidates, name.postings(term).keySet());
+            }
+            for (String term : locationTerms) {
+                candidates = intersect(candidates, location.postings(term).keySet());
+            }
+            
+            List<String> scoredTerms = new ArrayList<>(queryTerms);
+            scoredTerms.addAll(nameTerms);
+            scoredTerms.addAll(locationTerms);
+            
+            Map<Long, Double> scores = new HashMap<>();
+            for (Long id : candidates) {
+                double score = 0;
+                for (String term : scoredTerms) {
+                    for (FieldIndex field : fields) {
+                        score += field.score(term, id, documents.size());
+                    }
+                }
+                scores.put(id, score);
+            }
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .limit(limit)
+                    .map(entry -> documents.get(entry.getKey()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private static Set<Long> intersect(Set<Long> candidates, Set<Long> matches) {
+        if (candidates == null) {
+            return new HashSet<>(matches);
+        }
+        candidates.retainAll(matches);
+        return candidates;
+    }
+    
+    private void add(Destination destination) {
+        Long id = destination.getDestinationId();
+        documents.put(id, destination);
+        fields.forEach(field -> field.add(id, destination));
+    }
+    
+    private void remove(Long id) {
+        if (documents.remove(id) != null) {
+            fields.forEach(field -> field.remove(id));
+        }
+    }
+    
+    private static final class FieldIndex {
+        private final double weight;
+        private final Function<Destination, String> extractor;
+        private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+        private final Map<Long, List<String>> terms = new HashMap<>();
+        private long totalLength;
+        
+        private FieldIndex(double weight, Function<Destination, String> extractor) {
+            this.weight = weight;
+            this.extractor = extractor;
+        }
+        
+        private Map<Long, Integer> postings(String term) {
+            return postings.getOrDefault(term, Map.of());
+        }
+        
+        private void add(Long id, Destination destination) {
+            List<String> tokens = Tokenizer.tokenize(extractor.apply(destination));
+            for (String token : tokens) {
+                postings.computeIfAbsent(token, key -> new HashMap<>()).merge(id, 1, Integer::sum);
+            }
+            terms.put(id, tokens);
+            totalLength += tokens.size();
+        }
+        
+        private void remove(Long id) {
+            List<String> tokens = terms.remove(id);
+            if (tokens == null) {
+                return;
+            }
+            totalLength -= tokens.size();
+            for (String token : new HashSet<>(tokens)) {
+                Map<Long, Integer> docs = postings.get(token);
+                if (docs != null) {
+                    docs.remove(id);
+                    if (docs.isEmpty()) {
+                        postings.remove(token);
+                    }
+                }
+            }
+        }
+        
+        private void clear() {
+            postings.clear();
+            terms.clear();
+            totalLength = 0;
+        }
+        
+        private double score(String term, Long id, int documentCount) {
+            Map<Long, Integer> docs = postings.get(term);
+            Integer tf = docs == null ? null : docs.get(id);
+            if (tf == null) {
+                return 0;
+            }
+            double idf = Math.log(1 + (documentCount - docs.size() + 0.5) / (docs.size() + 0.5));
+            double averageLength = terms.isEmpty() ? 1 : (double) totalLength / terms.size();
+            double norm = 1 - B + B * terms.get(id).size() / Math.max(averageLength, 1);
+            return weight * idf * tf * (K1 + 1) / (tf + K1 * norm);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.travelapp.search;
+
+public class Suggestion {
+    
+    public enum Type {
+        DESTINATION,
+        ACCOMMODATION,
+        LOCAL_SERVICE
+    }
+    
+    private final Type type;
+    private final Long id;
+    private final String text;
+    
+    public Suggestion(Type type, Long id, String text) {
+        this.type = type;
+        this.id = id;
+        this.text = text;
+    }
+    
+    // Getters
+    public Type getType() {
+        return type;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public String getText() {
+        return text;
+    }
+}
@@ -0,0 +1,208 @@
+package com.travelapp.search;
+
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Prefix index for typeahead. Every label is stored once per word it
+ * contains (so "Cox's Bazar" answers both "cox" and "baz") in a sorted
+ * skip list; a query is a range scan over the keys starting with the prefix.
+ * Prefixes of up to {@value #TOP_PREFIX_LENGTH} characters would match much
+ * of the catalog, so their top {@value #MAX_LIMIT} are kept ready instead:
+ * writes and views adjust the lists of the prefixes they touch, and only a
+ * removal from a full list rescans its range. Reads are lock-free.
+ */
+@Component
+public class SuggestionIndex {
+    
+    public static final int MAX_LIMIT = 20;
+    private static final int TOP_PREFIX_LENGTH = 3;
+    private static final char KEY_SEPARATOR = '\u0000';
+    
+    // Most viewed first; ties go by label, then entity, so the lists and the scans rank alike
+    private static final Comparator<Ranked> BEST_FIRST = Comparator.<Ranked>comparingLong(ranked -> ranked.popularity)
+            .reversed()
+            .thenComparing(ranked -> ranked.entry.suggestion.getText())
+            .thenComparing(ranked -> ranked.entry.entity);
+    
+    private final ConcurrentSkipListMap<String, Entry> keys = new ConcurrentSkipListMap<>();
+    private final Map<String, List<String>> keysByEntity = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> popularity = new ConcurrentHashMap<>();
+    private final Map<String, List<Ranked>> topByPrefix = new ConcurrentHashMap<>();
+    
+    public synchronized void put(Suggestion.Type type, Long id, List<String> labels) {
+        String entity = entityKey(type, id);
+        removeKeys(entity);
+        
+        List<String> entityKeys = new ArrayList<>();
+        for (String label : new LinkedHashSet<>(labels)) {
+            if (label == null || label.isBlank()) {
+                continue;
+            }
+            Entry entry = new Entry(new Suggestion(type, id, label), entity);
+            List<String> words = Tokenizer.tokenize(label);
+            for (int i = 0; i < words.size(); i++) {
+                String key = String.join(" ", words.subList(i, words.size())) + KEY_SEPARATOR + entity + KEY_SEPARATOR + label;
+                keys.put(key, entry);
+                entityKeys.add(key);
+            }
+        }
+        keysByEntity.put(entity, entityKeys);
+        AtomicLong views = popularity.get(entity);
+        offer(entityKeys, views == null ? 0 : views.get());
+    }
+    
+    public synchronized void remove(Suggestion.Type type, Long id) {
+        String entity = entityKey(type, id);
+        removeKeys(entity);
+        popularity.remove(entity);
+    }
+    
+    public void recordView(Suggestion.Type type, Long id) {
+        String entity = entityKey(type, id);
+        long views = popularity.computeIfAbsent(entity, key -> new AtomicLong()).incrementAndGet();
+        List<String> entityKeys = keysByEntity.get(entity);
+        if (entityKeys != null) {
+            offer(entityKeys, views);
+        }
+    }
+    
+    /**
+     * Top {@code limit} distinct labels having a word that starts with the
+     * query, most popular first.
+     */
+    public List<Suggestion> suggest(String query, int limit) {
+        String prefix = String.join(" ", Tokenizer.tokenize(query));
+        if (prefix.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        List<Ranked> top = prefix.length() <= TOP_PREFIX_LENGTH && limit <= MAX_LIMIT
+                ? topByPrefix.getOrDefault(prefix, List.of())
+                : scan(prefix, limit);
+        return top.stream().limit(limit).map(ranked -> ranked.entry.suggestion).toList();
+    }
+    
+    private List<Ranked> scan(String prefix, int limit) {
+        PriorityQueue<Ranked> top = new PriorityQueue<>(BEST_FIRST.reversed());
+        Set<Entry> seen = new HashSet<>();
+        
+        ConcurrentNavigableMap<String, Entry> range = keys.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        for (Entry entry : range.values()) {
+            if (!seen.add(entry)) {
+                continue;
+            }
+            AtomicLong views = popularity.get(entry.entity);
+            top.offer(new Ranked(entry, views == null ? 0 : views.get()));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        
+        List<Ranked> ranked = new ArrayList<>(top);
+        ranked.sort(BEST_FIRST);
+        return ranked;
+    }
+    
+    // The skip list changes first, so a view racing a write never puts back an entry the write removed
+    private void offer(List<String> entityKeys, long views) {
+        for (String key : entityKeys) {
+            Entry entry = keys.get(key);
+            if (entry == null) {
+                continue;
+            }
+            Ranked candidate = new Ranked(entry, views);
+            for (String prefix : topPrefixes(key)) {
+                topByPrefix.compute(prefix, (p, top) -> keys.get(key) == entry ? withCandidate(top, candidate) : top);
+            }
+        }
+    }
+    
+    private static List<Ranked> withCandidate(List<Ranked> top, Ranked candidate) {
+        if (top == null) {
+            return List.of(candidate);
+        }
+        List<Ranked> merged = new ArrayList<>(top.size() + 1);
+        for (Ranked ranked : top) {
+            if (ranked.entry == candidate.entry) {
+                if (ranked.popularity >= candidate.popularity) {
+                    return top;
+                }
+                continue;
+            }
+            merged.add(ranked);
+        }
+        if (merged.size() == MAX_LIMIT && BEST_FIRST.compare(candidate, merged.get(MAX_LIMIT - 1)) > 0) {
+            return top;
+        }
+        merged.add(candidate);
+        merged.sort(BEST_FIRST);
+        return List.copyOf(merged.subList(0, Math.min(merged.size(), MAX_LIMIT)));
+    }
+    
+    private void removeKeys(String entity) {
+        List<String> previous = keysByEntity.remove(entity);
+        if (previous == null) {
+            return;
+        }
+        previous.forEach(keys::remove);
+        Set<String> prefixes = new HashSet<>();
+        previous.forEach(key -> prefixes.addAll(topPrefixes(key)));
+        for (String prefix : prefixes) {
+            topByPrefix.computeIfPresent(prefix, (p, top) -> withoutEntity(p, top, entity));
+        }
+    }
+    
+    // A full list doesn't know what ranks next, so it is refilled from the skip list
+    private List<Ranked> withoutEntity(String prefix, List<Ranked> top, String entity) {
+        List<Ranked> kept = top.stream().filter(ranked -> !ranked.entry.entity.equals(entity)).toList();
+        if (kept.size() == top.size()) {
+            return top;
+        }
+        List<Ranked> remaining = top.size() < MAX_LIMIT ? kept : scan(prefix, MAX_LIMIT);
+        return remaining.isEmpty() ? null : remaining;
+    }
+    
+    private static List<String> topPrefixes(String key) {
+        String words = key.substring(0, key.indexOf(KEY_SEPARATOR));
+        List<String> prefixes = new ArrayList<>(TOP_PREFIX_LENGTH);
+        for (int length = 1; length <= Math.min(TOP_PREFIX_LENGTH, words.length()); length++) {
+            prefixes.add(words.substring(0, length));
+        }
+        return prefixes;
+    }
+    
+    private static String entityKey(Suggestion.Type type, Long id) {
+        return type.name() + ":" + id;
+    }
+    
+    private static final class Entry {
+        private final Suggestion suggestion;
+        private final String entity;
+        
+        private Entry(Suggestion suggestion, String entity) {
+            this.suggestion = suggestion;
+            this.entity = entity;
+        }
+    }
+    
+    private static final class Ranked {
+        private final Entry entry;
+        private final long popularity;
+        
+        private Ranked(Entry entry, long popularity) {
+            this.entry = entry;
+            this.popularity = popularity;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.travelapp.search;
+
+import com.travelapp.cache.AfterCommit;
+import com.travelapp.entity.Accommodation;
+import com.travelapp.entity.Destination;
+import com.travelapp.entity.LocalService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import java.util.List;
+
+/**
+ * JPA entity listener that keeps {@link SuggestionIndex} in step with every
+ * repository write to the indexed entities, whichever code path issues it.
+ * The callbacks fire at flush, before the transaction commits, so the
+ * change is read from the entity right away and applied once it commits.
+ */
+@Component
+public class SuggestionIndexListener {
+    
+    @Autowired
+    private SuggestionIndex suggestionIndex;
+    
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        if (entity instanceof Destination destination) {
+            put(Suggestion.Type.DESTINATION, destination.getDestinationId(),
+                    List.of(nonNull(destination.getName()), nonNull(destination.getLocation())));
+        } else if (entity instanceof Accommodation accommodation) {
+            put(Suggestion.Type.ACCOMMODATION, accommodation.getHotelId(), List.of(nonNull(accommodation.getName())));
+        } else if (entity instanceof LocalService service) {
+            put(Suggestion.Type.LOCAL_SERVICE, service.getServiceId(), List.of(nonNull(service.getName())));
+        }
+    }
+    
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (entity instanceof Destination destination) {
+            remove(Suggestion.Type.DESTINATION, destination.getDestinationId());
+        } else if (entity instanceof Accommodation accommodation) {
+            remove(Suggestion.Type.ACCOMMODATION, accommodation.getHotelId());
+        } else if (entity instanceof LocalService service) {
+            remove(Suggestion.Type.LOCAL_SERVICE, service.getServiceId());
+        }
+    }
+    
+    private void put(Suggestion.Type type, Long id, List<String> labels) {
+        AfterCommit.run(() -> suggestionIndex.put(type, id, labels));
+    }
+    
+    private void remove(Suggestion.Type type, Long id) {
+        AfterCommit.run(() -> suggestionIndex.remove(type, id));
+    }
+    
+    private static String nonNull(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,39 @@
+package com.travelapp.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Splits free text into lower-case, accent-folded terms. Possessive "'s" is
+ * dropped so that "Cox's Bazar" indexes as [cox, bazar].
+ */
+public final class Tokenizer {
+    
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern POSSESSIVE = Pattern.compile("['’]s\\b");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    
+    private Tokenizer() {}
+    
+    public static String normalize(String text) {
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFD);
+        folded = COMBINING_MARKS.matcher(folded).replaceAll("");
+        return POSSESSIVE.matcher(folded.toLowerCase(Locale.ROOT)).replaceAll("");
+    }
+    
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        for (String token : NON_WORD.split(normalize(text))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,40 @@
+package com.travelapp.security;
+
+import java.time.Instant;
+
+/**
+ * Principal built from verified token claims, so authenticated requests
+ * never need to load the user from the database.
+ */
+public class AuthenticatedUser {
+    
+    private final Long userId;
+    private final String email;
+    private final String name;
+    private final Instant expiresAt;
+    
+    // Constructors
+    public AuthenticatedUser(Long userId, String email, String name, Instant expiresAt) {
+        this.userId = userId;
+        this.email = email;
+        this.name = name;
+        this.expiresAt = expiresAt;
+    }
+    
+    // Getters
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
@@ -0,0 +1,45 @@
+package com.travelapp.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Authenticates requests carrying "Authorization: Bearer &lt;token&gt;".
+ * Requests without a valid token continue anonymously; the authorization
+ * rules in SecurityConfig decide whether that is allowed.
+ *
+ * Created by SecurityConfig rather than as a bean, so Spring Boot does not
+ * also register it as a plain servlet filter.
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final List<SimpleGrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+    
+    private final JwtService jwtService;
+    
+    public JwtAuthenticationFilter(JwtService jwtService) {
+        this.jwtService = jwtService;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            jwtService.verify(header.substring(BEARER_PREFIX.length()).trim()).ifPresent(user ->
+                    SecurityContextHolder.getContext().setAuthentication(
+                            new UsernamePasswordAuthenticationToken(user, null, AUTHORITIES)));
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,169 @@
+package com.travelapp.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.travelapp.entity.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Issues and verifies HS256 access tokens. Tokens carry the id of the key
+ * that signed them ("kid"), so keys can be rotated without downtime: sign
+ * with a new jwt.secret / jwt.key-id and list the old key in
+ * jwt.previous-keys ("id:secret,...") until its tokens have expired.
+ *
+ * Verified tokens are cached with their principal for a short time, so a
+ * repeat request skips the signature check. The cache TTL bounds how long a
+ * key removed from configuration is still honoured.
+ */
+@Component
+public class JwtService implements MeterBinder {
+    
+    private static final int MIN_SECRET_BYTES = 32;
+    
+    private final String keyId;
+    private final SecretKey signingKey;
+    private final Map<String, SecretKey> verificationKeys = new HashMap<>();
+    private final Duration expiration;
+    private final JwtParser parser;
+    private final Cache<String, AuthenticatedUser> verified;
+    
+    public JwtService(@Value("${jwt.secret}") String secret,
+                      @Value("${jwt.key-id:k1}") String keyId,
+                      @Value("${jwt.previous-keys:}") String previousKeys,
+                      @Value("${jwt.expiration}") long expirationMs,
+                      @Value("${jwt.cache.maximum-size:10000}") long cacheSize,
+                      @Value("${jwt.cache.ttl-seconds:300}") long cacheTtlSeconds) {
+        this.keyId = keyId;
+        this.signingKey = toKey(keyId, secret);
+        this.verificationKeys.put(keyId, signingKey);
+        for (String entry : previousKeys.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalStateException("jwt.previous-keys entries must look like id:secret");
+            }
+            String id = entry.substring(0, separator).trim();
+            verificationKeys.putIfAbsent(id, toKey(id, entry.substring(separator + 1).trim()));
+        }
+        this.expiration = Duration.ofMillis(expirationMs);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    // jjwt 0.11 declares the header raw, so JwsHeader<?> would not override it
+                    @Override
+                    @SuppressWarnings("rawtypes")
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        SecretKey key = header.getKeyId() == null ? null : verificationKeys.get(header.getKeyId());
+                        if (key == null) {
+                            throw new JwtException("Unknown signing key");
+                        }
+                        return key;
+                    }
+                })
+                .build();
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .recordStats()
+                .build();
+    }
+    
+    private static SecretKey toKey(String id, String secret) {
+        byte[] bytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("JWT key '" + id + "' must be at least " + MIN_SECRET_BYTES + " bytes");
+        }
+        return Keys.hmacShaKeyFor(bytes);
+    }
+    
+    public IssuedToken issue(User user) {
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(expiration);
+        String token = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyId)
+                .setSubject(String.valueOf(user.getUserId()))
+                .claim("email", user.getEmail())
+                .claim("name", user.getName())
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(expiresAt))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .compact();
+        return new IssuedToken(token, expiresAt);
+    }
+    
+    public Optional<AuthenticatedUser> verify(String token) {
+        AuthenticatedUser cached = verified.getIfPresent(token);
+        if (cached != null) {
+            if (cached.getExpiresAt().isAfter(Instant.now())) {
+                return Optional.of(cached);
+            }
+            verified.invalidate(token);
+            return Optional.empty();
+        }
+        
+        Claims claims;
+        try {
+            claims = parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        AuthenticatedUser user;
+        try {
+            user = new AuthenticatedUser(Long.valueOf(claims.getSubject()), claims.get("email", String.class),
+                    claims.get("name", String.class), claims.getExpiration().toInstant());
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+        verified.put(token, user);
+        return Optional.of(user);
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, verified, "jwt.verified");
+        Gauge.builder("cache.hit.ratio", verified, cache -> cache.stats().hitRate())
+                .tag("cache", "jwt.verified")
+                .register(registry);
+    }
+    
+    public static class IssuedToken {
+        private final String token;
+        private final Instant expiresAt;
+        
+        public IssuedToken(String token, Instant expiresAt) {
+            this.token = token;
+            this.expiresAt = expiresAt;
+        }
+        
+        public String getToken() {
+            return token;
+        }
+        
+        public Instant getExpiresAt() {
+            return expiresAt;
+        }
+    }
+}
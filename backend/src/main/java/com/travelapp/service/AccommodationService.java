@@ -0,0 +1,149 @@
+package com.travelapp.service;
+
+import com.travelapp.cache.CatalogVersions;
+import com.travelapp.dto.AccommodationFilter;
+import com.travelapp.dto.CursorPage;
+import com.travelapp.entity.Accommodation;
+import com.travelapp.repository.AccommodationRepository;
+import com.travelapp.repository.AccommodationSpecifications;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Service
+public class AccommodationService {
+    
+    // Public sort names mapped to entity properties; prefix with "-" for descending
+    private static final Map<String, String> SORT_PROPERTIES = Map.of(
+            "id", "hotelId",
+            "price", "pricePerNight",
+            "rating", "rating",
+            "name", "name");
+    
+    @Autowired
+    private AccommodationRepository accommodationRepository;
+    
+    @Autowired
+    private CatalogVersions catalogVersions;
+    
+    /**
+     * Filters, orders and limits in a single SQL statement, paging by keyset
+     * on (sort value, hotel_id). Rows without a value for the sort property
+     * are left out when sorting by price, rating or name.
+     */
+    public CursorPage<Accommodation> searchAccommodations(AccommodationFilter filter, String cursor, Integer limit) {
+        int size = CursorPage.clampLimit(limit);
+        Ordering ordering = Ordering.parse(filter.getSort());
+        
+        Specification<Accommodation> spec = AccommodationSpecifications.matching(filter);
+        if (!ordering.byId()) {
+            spec = spec.and(AccommodationSpecifications.hasValue(ordering.property));
+        }
+        if (cursor != null && !cursor.isEmpty()) {
+            spec = spec.and(ordering.after(cursor));
+        }
+        
+        Sort sort = ordering.toSort();
+        List<Accommodation> rows = accommodationRepository.findBy(spec, query -> query.sortBy(sort).limit(size + 1).all());
+        return CursorPage.of(rows, size, ordering::cursorOf);
+    }
+    
+    public Optional<Accommodation> getAccommodationById(Long id) {
+        return accommodationRepository.findById(id);
+    }
+    
+    public Optional<Long> getAccommodationVersion(Long id) {
+        return accommodationRepository.findVersionByHotelId(id);
+    }
+    
+    @Transactional
+    public Accommodation createAccommodation(Accommodation accommodation) {
+        catalogVersions.bump(CatalogVersions.Catalog.ACCOMMODATIONS);
+        return accommodationRepository.save(accommodation);
+    }
+    
+    @Transactional
+    public Accommodation updateAccommodation(Long id, Accommodation accommodationDetails) {
+        Accommodation accommodation = accommodationRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Accommodation not found"));
+        
+        accommodation.setName(accommodationDetails.getName());
+        accommodation.setType(accommodationDetails.getType());
+        accommodation.setPricePerNight(accommodationDetails.getPricePerNight());
+        accommodation.setRating(accommodationDetails.getRating());
+        accommodation.setLatitude(accommodationDetails.getLatitude());
+        accommodation.setLongitude(accommodationDetails.getLongitude());
+        
+        catalogVersions.bump(CatalogVersions.Catalog.ACCOMMODATIONS);
+        return accommodationRepository.save(accommodation);
+    }
+    
+    @Transactional
+    public void deleteAccommodation(Long id) {
+        catalogVersions.bump(CatalogVersions.Catalog.ACCOMMODATIONS);
+        accommodationRepository.deleteById(id);
+    }
+    
+    private static final class Ordering {
+        private final String property;
+        private final Sort.Direction direction;
+        
+        private Ordering(String property, Sort.Direction direction) {
+            this.property = property;
+            this.direction = direction;
+        }
+        
+        private static Ordering parse(String sort) {
+            if (sort == null || sort.isBlank()) {
+                return new Ordering("hotelId", Sort.Direction.ASC);
+            }
+            boolean descending = sort.startsWith("-");
+            String property = SORT_PROPERTIES.get(descending ? sort.substring(1) : sort);
+            if (property == null || (descending && property.equals("hotelId"))) {
+                throw new IllegalArgumentException("Unsupported sort: " + sort);
+            }
+            return new Ordering(property, descending ? Sort.Direction.DESC : Sort.Direction.ASC);
+        }
+        
+        private boolean byId() {
+            return property.equals("hotelId");
+        }
+        
+        private Sort toSort() {
+            Sort byHotelId = Sort.by(Sort.Direction.ASC, "hotelId");
+            return byId() ? byHotelId : Sort.by(direction, property).and(byHotelId);
+        }
+        
+        private Specification<Accommodation> after(String cursor) {
+            if (byId()) {
+                return AccommodationSpecifications.idAfter(CursorCodec.decodeId(cursor));
+            }
+            String[] keys = CursorCodec.decode(cursor, 2);
+            try {
+                Long hotelId = Long.parseLong(keys[0]);
+                return switch (property) {
+                    case "pricePerNight" -> AccommodationSpecifications.after(property, direction, new BigDecimal(keys[1]), hotelId);
+                    case "rating" -> AccommodationSpecifications.after(property, direction, Integer.valueOf(keys[1]), hotelId);
+                    default -> AccommodationSpecifications.after(property, direction, keys[1], hotelId);
+                };
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+        
+        private String cursorOf(Accommodation last) {
+            return switch (property) {
+                case "pricePerNight" -> CursorCodec.encode(last.getHotelId(), last.getPricePerNight().toPlainString());
+                case "rating" -> CursorCodec.encode(last.getHotelId(), last.getRating());
+                case "name" -> CursorCodec.encode(last.getHotelId(), last.getName());
+                default -> CursorCodec.encode(last.getHotelId());
+            };
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.travelapp.service;
+
+public class BookingException extends RuntimeException {
+    
+    public enum Reason {
+        NOT_FOUND,
+        INVALID_REQUEST,
+        SOLD_OUT,
+        HOLD_EXPIRED,
+        HOLD_NOT_ACTIVE,
+        INVENTORY_MISMATCH
+    }
+    
+    private final Reason reason;
+    
+    public BookingException(Reason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+    
+    public Reason getReason() {
+        return reason;
+    }
+}
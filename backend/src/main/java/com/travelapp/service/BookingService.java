@@ -0,0 +1,167 @@
+package com.travelapp.service;
+
+import com.travelapp.entity.SeatHold;
+import com.travelapp.entity.SeatInventory;
+import com.travelapp.entity.Transportation;
+import com.travelapp.repository.SeatHoldRepository;
+import com.travelapp.repository.SeatInventoryRepository;
+import com.travelapp.repository.TransportationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Seat holds and confirmations for transportation. A hold moves seats from
+ * available to held, a confirmation moves them from held to booked, and a
+ * release or expiry returns them. Every move is a guarded single-row UPDATE,
+ * so concurrent requests for the last seats cannot oversell.
+ *
+ * Transactions that touch both tables lock the hold row before the inventory
+ * row; a new hold only locks the inventory row. Expiry therefore runs one
+ * hold per transaction and never inside a hold attempt, keeping the lock
+ * order acyclic.
+ */
+@Service
+public class BookingService {
+    
+    private static final int EXPIRY_BATCH_SIZE = 500;
+    
+    @Autowired
+    private SeatInventoryRepository inventoryRepository;
+    
+    @Autowired
+    private SeatHoldRepository holdRepository;
+    
+    @Autowired
+    private TransportationRepository transportationRepository;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Value("${booking.hold-ttl-seconds:600}")
+    private long holdTtlSeconds;
+    
+    @Value("${booking.max-seats-per-hold:10}")
+    private int maxSeatsPerHold;
+    
+    @Value("${booking.default-seat-capacity:40}")
+    private int defaultSeatCapacity;
+    
+    public SeatHold holdSeats(Long transportationId, LocalDate travelDate, int seats, Long userId) {
+        if (seats < 1 || seats > maxSeatsPerHold) {
+            throw new BookingException(BookingException.Reason.INVALID_REQUEST,
+                    "Seats must be between 1 and " + maxSeatsPerHold);
+        }
+        if (travelDate == null || travelDate.isBefore(LocalDate.now())) {
+            throw new BookingException(BookingException.Reason.INVALID_REQUEST, "Travel date must not be in the past");
+        }
+        Transportation transportation = findTransportation(transportationId);
+        if (Boolean.FALSE.equals(transportation.getAvailability())) {
+            throw new BookingException(BookingException.Reason.SOLD_OUT, "Transportation is not available");
+        }
+        
+        SeatHold hold = transactionTemplate.execute(status -> tryHold(transportationId, travelDate, seats, userId));
+        if (hold == null) {
+            // Either the first booking for this date, or seats tied up by holds the sweeper has not reached yet.
+            // INSERT IGNORE lets concurrent first bookings race harmlessly on the unique key.
+            transactionTemplate.executeWithoutResult(status ->
+                    inventoryRepository.createIfAbsent(transportationId, travelDate, capacityOf(transportation)));
+            Instant now = Instant.now();
+            holdRepository.findByTransportationIdAndTravelDateAndStatusAndExpiresAtLessThanEqual(
+                    transportationId, travelDate, SeatHold.Status.HELD, now)
+                    .forEach(expired -> expire(expired, now));
+            hold = transactionTemplate.execute(status -> tryHold(transportationId, travelDate, seats, userId));
+        }
+        if (hold == null) {
+            throw new BookingException(BookingException.Reason.SOLD_OUT, "Not enough seats available");
+        }
+        return hold;
+    }
+    
+    private SeatHold tryHold(Long transportationId, LocalDate travelDate, int seats, Long userId) {
+        if (inventoryRepository.hold(transportationId, travelDate, seats) == 0) {
+            return null;
+        }
+        Instant expiresAt = Instant.now().plus(Duration.ofSeconds(holdTtlSeconds));
+        return holdRepository.save(new SeatHold(transportationId, travelDate, userId, seats, expiresAt));
+    }
+    
+    @Transactional
+    public SeatHold confirmHold(Long holdId) {
+        SeatHold hold = getHold(holdId);
+        if (holdRepository.markConfirmed(holdId, Instant.now(), SeatHold.Status.HELD, SeatHold.Status.CONFIRMED) == 0) {
+            throw inactive(getHold(holdId));
+        }
+        requireSeatsMoved(inventoryRepository.confirm(hold.getTransportationId(), hold.getTravelDate(), hold.getSeats()));
+        hold.setStatus(SeatHold.Status.CONFIRMED);
+        return hold;
+    }
+    
+    @Transactional
+    public SeatHold releaseHold(Long holdId) {
+        SeatHold hold = getHold(holdId);
+        if (holdRepository.markReleased(holdId, SeatHold.Status.HELD, SeatHold.Status.RELEASED) == 0) {
+            throw inactive(getHold(holdId));
+        }
+        requireSeatsMoved(inventoryRepository.release(hold.getTransportationId(), hold.getTravelDate(), hold.getSeats()));
+        hold.setStatus(SeatHold.Status.RELEASED);
+        return hold;
+    }
+    
+    public SeatHold getHold(Long holdId) {
+        return holdRepository.findById(holdId)
+                .orElseThrow(() -> new BookingException(BookingException.Reason.NOT_FOUND, "Hold not found"));
+    }
+    
+    public SeatInventory getAvailability(Long transportationId, LocalDate travelDate) {
+        return inventoryRepository.findByTransportationIdAndTravelDate(transportationId, travelDate)
+                .orElseGet(() -> new SeatInventory(transportationId, travelDate, capacityOf(findTransportation(transportationId))));
+    }
+    
+    @Scheduled(fixedDelayString = "${booking.expiry-sweep-ms:5000}")
+    public void expireHolds() {
+        Instant now = Instant.now();
+        holdRepository.findByStatusAndExpiresAtLessThanEqualOrderByExpiresAtAsc(
+                SeatHold.Status.HELD, now, Limit.of(EXPIRY_BATCH_SIZE))
+                .forEach(hold -> expire(hold, now));
+    }
+    
+    private void expire(SeatHold hold, Instant now) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (holdRepository.markExpired(hold.getHoldId(), now, SeatHold.Status.HELD, SeatHold.Status.EXPIRED) == 1) {
+                inventoryRepository.release(hold.getTransportationId(), hold.getTravelDate(), hold.getSeats());
+            }
+        });
+    }
+    
+    private Transportation findTransportation(Long transportationId) {
+        return transportationRepository.findById(transportationId)
+                .orElseThrow(() -> new BookingException(BookingException.Reason.NOT_FOUND, "Transportation not found"));
+    }
+    
+    private int capacityOf(Transportation transportation) {
+        return transportation.getSeatCapacity() != null ? transportation.getSeatCapacity() : defaultSeatCapacity;
+    }
+    
+    // A hold whose seats are not counted as held means the two tables disagree; roll the status change back
+    private static void requireSeatsMoved(int updated) {
+        if (updated == 0) {
+            throw new BookingException(BookingException.Reason.INVENTORY_MISMATCH,
+                    "Seat inventory does not hold the seats of this hold");
+        }
+    }
+    
+    private BookingException inactive(SeatHold hold) {
+        if (hold.getStatus() == SeatHold.Status.HELD || hold.getStatus() == SeatHold.Status.EXPIRED) {
+            return new BookingException(BookingException.Reason.HOLD_EXPIRED, "Hold has expired");
+        }
+        return new BookingException(BookingException.Reason.HOLD_NOT_ACTIVE, "Hold is already " + hold.getStatus());
+    }
+}
@@ -0,0 +1,53 @@
+package com.travelapp.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * Encodes keyset positions (the sort key values and the primary key of the
+ * last row) as opaque URL-safe cursors. Keys come back in the order they
+ * were encoded; only the last one may contain the separator, so a free-text
+ * sort value has to go last, after the primary key.
+ */
+public final class CursorCodec {
+    
+    private static final String SEPARATOR = "|";
+    
+    private CursorCodec() {}
+    
+    public static String encode(Object... keys) {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                raw.append(SEPARATOR);
+            }
+            raw.append(keys[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public static String[] decode(String cursor, int expectedKeys) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        // The last key may itself contain the separator (free-text sort values go last)
+        String[] keys = raw.split(Pattern.quote(SEPARATOR), expectedKeys);
+        if (keys.length != expectedKeys) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return keys;
+    }
+    
+    public static long decodeId(String cursor) {
+        try {
+            return Long.parseLong(decode(cursor, 1)[0]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.travelapp.service;
+
+import com.travelapp.dto.AccommodationFilter;
+import com.travelapp.dto.DashboardSummary;
+import com.travelapp.entity.Accommodation;
+import com.travelapp.entity.Destination;
+import com.travelapp.entity.Transportation;
+import com.travelapp.entity.Trip;
+import com.travelapp.entity.TripBudgetTotal;
+import com.travelapp.repository.BudgetTotalsRepository;
+import com.travelapp.repository.TransportationRepository;
+import com.travelapp.repository.TripRepository;
+import com.travelapp.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Builds the dashboard from independent sections that run concurrently on
+ * virtual threads, so the response takes as long as the slowest section
+ * rather than the sum of all of them. All sections share one deadline; a
+ * section that fails or misses it is cancelled, left empty and reported in
+ * DashboardSummary.unavailable instead of failing the whole response.
+ */
+@Service
+public class DashboardService {
+    
+    private static final Logger log = LoggerFactory.getLogger(DashboardService.class);
+    
+    @Autowired
+    private TripRepository tripRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private BudgetTotalsRepository budgetTotalsRepository;
+    
+    @Autowired
+    private DestinationService destinationService;
+    
+    @Autowired
+    private AccommodationService accommodationService;
+    
+    @Autowired
+    private TransportationRepository transportationRepository;
+    
+    @Value("${dashboard.timeout-ms:2000}")
+    private long timeoutMs;
+    
+    @Value("${dashboard.section-size:5}")
+    private int sectionSize;
+    
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    
+    public DashboardSummary getDashboard(Long userId) {
+        Future<List<Trip>> trips = executor.submit(
+                () -> tripRepository.findByUsersContaining(userRepository.getReferenceById(userId)));
+        Future<List<TripBudgetTotal>> budgets = executor.submit(() -> budgetTotalsRepository.findByMember(userId));
+        Future<List<Destination>> destinations = executor.submit(this::destinationHighlights);
+        Future<List<Accommodation>> accommodations = executor.submit(this::accommodationHighlights);
+        Future<List<Transportation>> transportation = executor.submit(
+                () -> transportationRepository.findByAvailabilityTrueOrderByPriceAscTransportationIdAsc(Limit.of(sectionSize)));
+        
+        DashboardSummary summary = new DashboardSummary();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        
+        List<Trip> userTrips = await(trips, deadline, "trips", summary);
+        if (userTrips != null) {
+            summarizeTrips(userTrips, summary);
+        }
+        List<TripBudgetTotal> totals = await(budgets, deadline, "budgets", summary);
+        if (totals != null) {
+            Map<Long, BigDecimal> spentByTrip = new LinkedHashMap<>();
+            totals.forEach(total -> spentByTrip.put(total.getTripId(), total.getTotalSpent()));
+            summary.setSpentByTrip(spentByTrip);
+            summary.setTotalSpent(spentByTrip.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add));
+        }
+        summary.setDestinations(await(destinations, deadline, "destinations", summary));
+        summary.setAccommodations(await(accommodations, deadline, "accommodations", summary));
+        summary.setTransportation(await(transportation, deadline, "transportation", summary));
+        return summary;
+    }
+    
+    private void summarizeTrips(List<Trip> trips, DashboardSummary summary) {
+        LocalDate today = LocalDate.now();
+        List<Trip> upcoming = trips.stream()
+                .filter(trip -> !trip.getEndDate().isBefore(today))
+                .sorted(Comparator.comparing(Trip::getStartDate).thenComparing(Trip::getTripId))
+                .toList();
+        
+        summary.setTripCount(trips.size());
+        summary.setTripsThisYear((int) trips.stream().filter(trip -> trip.getStartDate().getYear() == today.getYear()).count());
+        summary.setUpcomingCount(upcoming.size());
+        summary.setUpcomingTrips(upcoming.subList(0, Math.min(sectionSize, upcoming.size())));
+        summary.setTotalBudget(trips.stream()
+                .map(Trip::getTotalBudget)
+                .filter(Objects::nonNull)
+                .reduce(BigDecimal.ZERO, BigDecimal::add));
+    }
+    
+    // Served from the destination cache, so usually no database round-trip
+    private List<Destination> destinationHighlights() {
+        List<Destination> all = destinationService.getAllDestinations();
+        return all.subList(0, Math.min(sectionSize, all.size()));
+    }
+    
+    private List<Accommodation> accommodationHighlights() {
+        AccommodationFilter topRated = new AccommodationFilter();
+        topRated.setSort("-rating");
+        return accommodationService.searchAccommodations(topRated, null, sectionSize).getItems();
+    }
+    
+    private <T> T await(Future<T> section, long deadline, String name, DashboardSummary summary) {
+        try {
+            return section.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            section.cancel(true);
+            log.warn("Dashboard section {} timed out", name);
+        } catch (ExecutionException e) {
+            log.warn("Dashboard section {} failed", name, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            section.cancel(true);
+        }
+        summary.getUnavailable().add(name);
+        return null;
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
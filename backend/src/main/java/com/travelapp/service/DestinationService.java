@@ -1,10 +1,22 @@
 package com.travelapp.service;
 
+import com.travelapp.cache.CatalogVersions;
+import com.travelapp.cache.DestinationCache;
+import com.travelapp.dto.CursorPage;
+import com.travelapp.dto.NearbyResult;
 import com.travelapp.entity.Destination;
+import com.travelapp.geo.GeoIndex;
 import com.travelapp.repository.DestinationRepository;
+import com.travelapp.search.DestinationSearchIndex;
+import com.travelapp.search.SuggestionIndexListener;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -13,38 +25,134 @@ public class DestinationService {
     @Autowired
     private DestinationRepository destinationRepository;
     
+    @Autowired
+    private DestinationCache destinationCache;
+    
+    @Autowired
+    private DestinationSearchIndex searchIndex;
+    
+    @Autowired
+    private SuggestionIndexListener suggestionIndexListener;
+    
+    @Autowired
+    private CatalogVersions catalogVersions;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    private final GeoIndex<Destination> geoIndex = new GeoIndex<>();
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildSearchIndex() {
+        List<Destination> destinations = getAllDestinations();
+        searchIndex.rebuild(destinations);
+        geoIndex.clear();
+        destinations.forEach(this::locate);
+    }
+    
     public List<Destination> getAllDestinations() {
-        return destinationRepository.findAll();
+        return getAllDestinations(catalogVersions.current(CatalogVersions.Catalog.DESTINATIONS));
+    }
+    
+    // The cached snapshot is only served while it was loaded at catalogVersion
+    public List<Destination> getAllDestinations(long catalogVersion) {
+        return destinationCache.all(catalogVersion, () -> destinationRepository.findAll(Sort.by("destinationId")));
+    }
+    
+    public CursorPage<Destination> getDestinationsPage(String cursor, Integer limit) {
+        return getDestinationsPage(cursor, limit, catalogVersions.current(CatalogVersions.Catalog.DESTINATIONS));
+    }
+    
+    // Pages are cut from the cached snapshot, which is ordered by destinationId
+    public CursorPage<Destination> getDestinationsPage(String cursor, Integer limit, long catalogVersion) {
+        int size = CursorPage.clampLimit(limit);
+        long afterId = cursor == null || cursor.isEmpty() ? 0L : CursorCodec.decodeId(cursor);
+        List<Destination> all = getAllDestinations(catalogVersion);
+        int from = firstIndexAfter(all, afterId);
+        List<Destination> rows = all.subList(from, Math.min(all.size(), from + size + 1));
+        return CursorPage.of(rows, size, last -> CursorCodec.encode(last.getDestinationId()));
+    }
+    
+    private static int firstIndexAfter(List<Destination> sorted, long afterId) {
+        int low = 0;
+        int high = sorted.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted.get(mid).getDestinationId() <= afterId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
     }
     
     public Optional<Destination> getDestinationById(Long id) {
-        return destinationRepository.findById(id);
+        return destinationCache.get(id, destinationRepository::findById);
     }
     
-    public List<Destination> searchByName(String name) {
-        return destinationRepository.findByNameContainingIgnoreCase(name);
+    public List<Destination> search(String query, String name, String location, Integer limit) {
+        return searchIndex.search(query, name, location, CursorPage.clampLimit(limit));
     }
     
-    public List<Destination> searchByLocation(String location) {
-        return destinationRepository.findByLocationContainingIgnoreCase(location);
+    // Nearest first; radiusKm is optional
+    public List<NearbyResult<Destination>> nearby(double latitude, double longitude, Double radiusKm, Integer limit) {
+        return NearbyResult.of(geoIndex.nearest(latitude, longitude, radiusKm, CursorPage.clampLimit(limit), null));
     }
     
     public Destination createDestination(Destination destination) {
-        return destinationRepository.save(destination);
+        Destination saved = transactionTemplate.execute(status -> {
+            catalogVersions.bump(CatalogVersions.Catalog.DESTINATIONS);
+            return destinationRepository.save(destination);
+        });
+        destinationCache.put(saved);
+        searchIndex.index(saved);
+        locate(saved);
+        return saved;
     }
     
-    public Destination updateDestination(Long id, Destination destinationDetails) {
-        Destination destination = destinationRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Destination not found"));
-        
-        destination.setName(destinationDetails.getName());
-        destination.setLocation(destinationDetails.getLocation());
-        destination.setDescription(destinationDetails.getDescription());
-        
-        return destinationRepository.save(destination);
+    /**
+     * One guarded UPDATE; with an expectedVersion the row only changes if it
+     * is still at that version, null updates whatever is there.
+     */
+    public Destination updateDestination(Long id, Destination destinationDetails, Long expectedVersion) {
+        Destination saved = transactionTemplate.execute(status -> {
+            int updated = destinationRepository.updateDetails(id, destinationDetails.getName(),
+                    destinationDetails.getLocation(), destinationDetails.getDescription(),
+                    destinationDetails.getLatitude(), destinationDetails.getLongitude(), expectedVersion);
+            if (updated == 0) {
+                if (expectedVersion != null) {
+                    throw new PreconditionFailedException("Destination has been changed or deleted");
+                }
+                throw new ResourceNotFoundException("Destination not found");
+            }
+            catalogVersions.bump(CatalogVersions.Catalog.DESTINATIONS);
+            return destinationRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Destination not found"));
+        });
+        // Bulk updates skip entity callbacks
+        suggestionIndexListener.onSave(saved);
+        destinationCache.put(saved);
+        searchIndex.index(saved);
+        locate(saved);
+        return saved;
     }
     
     public void deleteDestination(Long id) {
-        destinationRepository.deleteById(id);
+        transactionTemplate.executeWithoutResult(status -> {
+            catalogVersions.bump(CatalogVersions.Catalog.DESTINATIONS);
+            destinationRepository.deleteById(id);
+        });
+        destinationCache.evict(id);
+        searchIndex.delete(id);
+        geoIndex.remove(id);
+    }
+    
+    private void locate(Destination destination) {
+        geoIndex.put(destination.getDestinationId(), destination.getLatitude(), destination.getLongitude(), destination);
+    }
+    
+    public Map<String, Object> getCacheStats() {
+        return destinationCache.stats();
     }
-}
\ No newline at end of file
+}
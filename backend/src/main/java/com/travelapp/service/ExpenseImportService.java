@@ -0,0 +1,298 @@
+package com.travelapp.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelapp.dto.ImportResult;
+import com.travelapp.entity.Expense;
+import com.travelapp.repository.TripRepository;
+import com.travelapp.repository.TripUserRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk expense import from CSV or NDJSON. The upload is read one line at a
+ * time and valid rows are written in fixed-size batches, so memory stays
+ * bounded by the batch size whatever the length of the upload. Invalid rows
+ * are skipped and reported by line number.
+ *
+ * CSV needs a header row naming the columns tripId, category, amount and
+ * optionally date, description and paidBy (snake_case is accepted too). Quoted
+ * fields may contain commas and doubled quotes but not line breaks.
+ */
+@Service
+public class ExpenseImportService {
+    
+    public enum Format { CSV, NDJSON }
+    
+    private static final String TRIP_ID = "tripid";
+    private static final String CATEGORY = "category";
+    private static final String AMOUNT = "amount";
+    private static final String DATE = "date";
+    private static final String DESCRIPTION = "description";
+    private static final String PAID_BY = "paidby";
+    
+    @Autowired
+    private ExpenseService expenseService;
+    
+    @Autowired
+    private TripRepository tripRepository;
+    
+    @Autowired
+    private TripUserRepository membershipRepository;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private Validator validator;
+    
+    @Value("${expenses.import.batch-size:500}")
+    private int batchSize;
+    
+    @Value("${expenses.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+    
+    public ImportResult importExpenses(InputStream input, Format format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        Run run = new Run();
+        
+        Map<String, Integer> columns = null;
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == Format.CSV && columns == null) {
+                columns = parseHeader(line);
+                continue;
+            }
+            try {
+                Expense expense = format == Format.CSV ? parseCsvRow(line, columns) : parseJsonRow(line);
+                validate(expense, run);
+                run.add(expense, lineNumber);
+            } catch (InvalidRowException e) {
+                run.reject(lineNumber, e.getMessage());
+            }
+        }
+        if (format == Format.CSV && columns == null) {
+            throw new IllegalArgumentException("Missing CSV header");
+        }
+        run.flush();
+        return run.result;
+    }
+    
+    private Map<String, Integer> parseHeader(String line) {
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> names;
+        try {
+            names = splitCsv(line);
+        } catch (InvalidRowException e) {
+            throw new IllegalArgumentException("Invalid CSV header: " + e.getMessage());
+        }
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT);
+            columns.putIfAbsent(name, i);
+        }
+        for (String required : List.of(TRIP_ID, CATEGORY, AMOUNT)) {
+            if (!columns.containsKey(required)) {
+                throw new IllegalArgumentException("CSV header is missing column: " + required);
+            }
+        }
+        return columns;
+    }
+    
+    private Expense parseCsvRow(String line, Map<String, Integer> columns) {
+        List<String> fields = splitCsv(line);
+        Expense expense = new Expense();
+        
+        String tripId = field(fields, columns, TRIP_ID);
+        try {
+            expense.setTripId(tripId == null ? null : Long.valueOf(tripId));
+        } catch (NumberFormatException e) {
+            throw new InvalidRowException("Invalid tripId: " + tripId);
+        }
+        expense.setCategory(field(fields, columns, CATEGORY));
+        
+        String amount = field(fields, columns, AMOUNT);
+        try {
+            expense.setAmount(amount == null ? null : new BigDecimal(amount));
+        } catch (NumberFormatException e) {
+            throw new InvalidRowException("Invalid amount: " + amount);
+        }
+        
+        String date = field(fields, columns, DATE);
+        try {
+            expense.setDate(date == null ? null : LocalDate.parse(date));
+        } catch (DateTimeParseException e) {
+            throw new InvalidRowException("Invalid date: " + date);
+        }
+        expense.setDescription(field(fields, columns, DESCRIPTION));
+        
+        String paidBy = field(fields, columns, PAID_BY);
+        try {
+            expense.setPaidBy(paidBy == null ? null : Long.valueOf(paidBy));
+        } catch (NumberFormatException e) {
+            throw new InvalidRowException("Invalid paidBy: " + paidBy);
+        }
+        return expense;
+    }
+    
+    private String field(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+    
+    private Expense parseJsonRow(String line) {
+        try {
+            Expense expense = objectMapper.readValue(line, Expense.class);
+            expense.setExpenseId(null);
+            return expense;
+        } catch (JsonProcessingException e) {
+            throw new InvalidRowException("Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+    
+    private void validate(Expense expense, Run run) {
+        Set<ConstraintViolation<Expense>> violations = validator.validate(expense);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<Expense> first = violations.iterator().next();
+            throw new InvalidRowException(first.getPropertyPath() + ": " + first.getMessage());
+        }
+        if (!run.knownTrips.computeIfAbsent(expense.getTripId(), tripRepository::existsById)) {
+            throw new InvalidRowException("Trip not found: " + expense.getTripId());
+        }
+        if (expense.getPaidBy() != null && !run.members(expense.getTripId()).contains(expense.getPaidBy())) {
+            throw new InvalidRowException("Payer is not a member of trip " + expense.getTripId() + ": " + expense.getPaidBy());
+        }
+    }
+    
+    /**
+     * Splits one CSV record. Quoted fields may contain separators and
+     * doubled quotes.
+     */
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new InvalidRowException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+    
+    /**
+     * State of one import: the pending batch with the line each row came
+     * from, the trips already checked with their members, and the result so
+     * far.
+     */
+    private class Run {
+        private final ImportResult result = new ImportResult();
+        private final Map<Long, Boolean> knownTrips = new HashMap<>();
+        private final Map<Long, Set<Long>> tripMembers = new HashMap<>();
+        private final List<Expense> batch = new ArrayList<>(batchSize);
+        private final List<Long> lines = new ArrayList<>(batchSize);
+        
+        void add(Expense expense, long lineNumber) {
+            batch.add(expense);
+            lines.add(lineNumber);
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+        
+        Set<Long> members(Long tripId) {
+            return tripMembers.computeIfAbsent(tripId, id -> new HashSet<>(membershipRepository.findUserIds(id)));
+        }
+        
+        void reject(long lineNumber, String message) {
+            result.setFailed(result.getFailed() + 1);
+            if (result.getErrors().size() < maxReportedErrors) {
+                result.getErrors().add(new ImportResult.RowError(lineNumber, message));
+            }
+        }
+        
+        /**
+         * Writes the pending batch. If the database rejects it (for example a
+         * trip deleted mid-import), the rows are retried one by one so only
+         * the offending ones are reported.
+         */
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                expenseService.saveBatch(batch);
+                result.setImported(result.getImported() + batch.size());
+            } catch (DataAccessException e) {
+                for (int i = 0; i < batch.size(); i++) {
+                    Expense expense = batch.get(i);
+                    expense.setExpenseId(null);
+                    try {
+                        expenseService.saveBatch(List.of(expense));
+                        result.setImported(result.getImported() + 1);
+                    } catch (DataAccessException rowFailure) {
+                        knownTrips.remove(expense.getTripId());
+                        reject(lines.get(i), NestedExceptionUtils.getMostSpecificCause(rowFailure).getMessage());
+                    }
+                }
+            }
+            batch.clear();
+            lines.clear();
+        }
+    }
+    
+    private static class InvalidRowException extends RuntimeException {
+        InvalidRowException(String message) {
+            super(message);
+        }
+    }
+}
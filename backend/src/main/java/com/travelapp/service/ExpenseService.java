@@ -0,0 +1,219 @@
+package com.travelapp.service;
+
+import com.travelapp.cache.SettleUpLedger;
+import com.travelapp.dto.BudgetSummary;
+import com.travelapp.entity.Expense;
+import com.travelapp.entity.Trip;
+import com.travelapp.entity.TripBudgetTotal;
+import com.travelapp.repository.BudgetTotalsRepository;
+import com.travelapp.repository.ExpenseRepository;
+import com.travelapp.repository.TripRepository;
+import com.travelapp.repository.TripUserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Expense ledger. Every write adjusts the trip and category running totals in
+ * the same transaction, so reading spent vs budget never sums expense rows,
+ * and folds the payer's amount into the cached settle-up balances. Updates
+ * and deletes lock the expense row first, so the amount they take back out
+ * is the one they replace.
+ */
+@Service
+public class ExpenseService {
+    
+    @Autowired
+    private ExpenseRepository expenseRepository;
+    
+    @Autowired
+    private BudgetTotalsRepository budgetTotalsRepository;
+    
+    @Autowired
+    private TripRepository tripRepository;
+    
+    @Autowired
+    private TripUserRepository membershipRepository;
+    
+    @Autowired
+    private SettleUpLedger settleUpLedger;
+    
+    public List<Expense> getExpensesByTripId(Long tripId) {
+        return expenseRepository.findByTripIdOrderByDateDescExpenseIdDesc(tripId);
+    }
+    
+    public Optional<Expense> getExpenseById(Long id) {
+        return expenseRepository.findById(id);
+    }
+    
+    @Transactional
+    public Expense createExpense(Expense expense) {
+        requireTrip(expense.getTripId());
+        requirePayer(expense.getTripId(), expense.getPaidBy());
+        if (expense.getDate() == null) {
+            expense.setDate(LocalDate.now());
+        }
+        Expense saved = expenseRepository.save(expense);
+        
+        Deltas deltas = new Deltas();
+        deltas.add(saved.getTripId(), saved.getCategory(), saved.getAmount(), 1);
+        deltas.apply();
+        recordPayment(saved, 1);
+        return saved;
+    }
+    
+    /**
+     * Inserts already validated expenses in one transaction. Ids come from a
+     * table generator, so Hibernate sends the inserts as JDBC batches, and the
+     * running totals get one upsert per trip and category touched.
+     */
+    @Transactional
+    public List<Expense> saveBatch(List<Expense> batch) {
+        Deltas deltas = new Deltas();
+        for (Expense expense : batch) {
+            if (expense.getDate() == null) {
+                expense.setDate(LocalDate.now());
+            }
+            deltas.add(expense.getTripId(), expense.getCategory(), expense.getAmount(), 1);
+        }
+        List<Expense> saved = expenseRepository.saveAll(batch);
+        deltas.apply();
+        saved.forEach(expense -> recordPayment(expense, 1));
+        return saved;
+    }
+    
+    @Transactional
+    public Expense updateExpense(Long id, Expense expenseDetails) {
+        Expense expense = expenseRepository.findForUpdate(id)
+                .orElseThrow(() -> new RuntimeException("Expense not found"));
+        if (!expense.getTripId().equals(expenseDetails.getTripId())) {
+            requireTrip(expenseDetails.getTripId());
+        }
+        requirePayer(expenseDetails.getTripId(), expenseDetails.getPaidBy());
+        
+        Deltas deltas = new Deltas();
+        deltas.add(expense.getTripId(), expense.getCategory(), expense.getAmount().negate(), -1);
+        recordPayment(expense, -1);
+        
+        expense.setTripId(expenseDetails.getTripId());
+        expense.setCategory(expenseDetails.getCategory());
+        expense.setAmount(expenseDetails.getAmount());
+        expense.setDescription(expenseDetails.getDescription());
+        expense.setPaidBy(expenseDetails.getPaidBy());
+        if (expenseDetails.getDate() != null) {
+            expense.setDate(expenseDetails.getDate());
+        }
+        Expense saved = expenseRepository.save(expense);
+        
+        deltas.add(saved.getTripId(), saved.getCategory(), saved.getAmount(), 1);
+        deltas.apply();
+        recordPayment(saved, 1);
+        return saved;
+    }
+    
+    @Transactional
+    public void deleteExpense(Long id) {
+        Expense expense = expenseRepository.findForUpdate(id)
+                .orElseThrow(() -> new RuntimeException("Expense not found"));
+        expenseRepository.delete(expense);
+        
+        Deltas deltas = new Deltas();
+        deltas.add(expense.getTripId(), expense.getCategory(), expense.getAmount().negate(), -1);
+        deltas.apply();
+        recordPayment(expense, -1);
+    }
+    
+    /**
+     * Two primary-key reads for the trip totals plus one range read over the
+     * trip's category rows; cost does not grow with the number of expenses.
+     */
+    @Transactional(readOnly = true)
+    public Optional<BudgetSummary> getBudgetSummary(Long tripId) {
+        return tripRepository.findById(tripId).map(trip -> {
+            Optional<TripBudgetTotal> total = budgetTotalsRepository.findById(tripId);
+            return new BudgetSummary(
+                    tripId,
+                    trip.getTotalBudget(),
+                    total.map(TripBudgetTotal::getTotalSpent).orElse(BigDecimal.ZERO),
+                    total.map(TripBudgetTotal::getExpenseCount).orElse(0L),
+                    budgetTotalsRepository.findCategoryTotals(tripId));
+        });
+    }
+    
+    private Trip requireTrip(Long tripId) {
+        if (tripId == null) {
+            throw new RuntimeException("Trip is required");
+        }
+        return tripRepository.findById(tripId)
+                .orElseThrow(() -> new RuntimeException("Trip not found"));
+    }
+    
+    // The payer must be a member of the trip the expense is recorded against
+    private void requirePayer(Long tripId, Long paidBy) {
+        if (paidBy != null && !membershipRepository.existsByTripIdAndUserId(tripId, paidBy)) {
+            throw new IllegalArgumentException("Payer is not a member of the trip");
+        }
+    }
+    
+    private void recordPayment(Expense expense, int sign) {
+        if (expense.getPaidBy() != null) {
+            settleUpLedger.addPaid(expense.getTripId(), expense.getPaidBy(), sign * SettleUpService.toCents(expense.getAmount()));
+        }
+    }
+    
+    /**
+     * Net changes to the running totals for one write. Opposite changes to the
+     * same row cancel out, and rows are updated in key order (trip rows first,
+     * then category rows) so concurrent writers always lock in the same order.
+     */
+    private class Deltas {
+        private final Map<Long, Delta> trips = new TreeMap<>();
+        private final Map<String, Delta> categories = new TreeMap<>();
+        
+        void add(Long tripId, String category, BigDecimal amount, long count) {
+            trips.computeIfAbsent(tripId, k -> new Delta(tripId, null)).merge(amount, count);
+            categories.computeIfAbsent(String.format("%019d|%s", tripId, category), k -> new Delta(tripId, category))
+                    .merge(amount, count);
+        }
+        
+        void apply() {
+            for (Delta delta : trips.values()) {
+                if (delta.isChange()) {
+                    budgetTotalsRepository.addToTrip(delta.tripId, delta.amount, delta.count);
+                }
+            }
+            for (Delta delta : categories.values()) {
+                if (delta.isChange()) {
+                    budgetTotalsRepository.addToCategory(delta.tripId, delta.category, delta.amount, delta.count);
+                }
+            }
+        }
+    }
+    
+    private static class Delta {
+        private final Long tripId;
+        private final String category;
+        private BigDecimal amount = BigDecimal.ZERO;
+        private long count;
+        
+        Delta(Long tripId, String category) {
+            this.tripId = tripId;
+            this.category = category;
+        }
+        
+        void merge(BigDecimal amount, long count) {
+            this.amount = this.amount.add(amount);
+            this.count += count;
+        }
+        
+        boolean isChange() {
+            return amount.signum() != 0 || count != 0;
+        }
+    }
+}
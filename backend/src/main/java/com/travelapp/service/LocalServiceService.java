@@ -0,0 +1,73 @@
+package com.travelapp.service;
+
+import com.travelapp.dto.CursorPage;
+import com.travelapp.dto.NearbyResult;
+import com.travelapp.entity.LocalService;
+import com.travelapp.geo.GeoIndex;
+import com.travelapp.repository.LocalServiceRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public class LocalServiceService {
+    
+    @Autowired
+    private LocalServiceRepository localServiceRepository;
+    
+    private final GeoIndex<LocalService> geoIndex = new GeoIndex<>();
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildGeoIndex() {
+        geoIndex.clear();
+        localServiceRepository.findAll().forEach(this::locate);
+    }
+    
+    public List<LocalService> getAllLocalServices() {
+        return localServiceRepository.findAll(Sort.by("serviceId"));
+    }
+    
+    public Optional<LocalService> getLocalServiceById(Long id) {
+        return localServiceRepository.findById(id);
+    }
+    
+    // Nearest first; radiusKm and type are optional
+    public List<NearbyResult<LocalService>> nearby(double latitude, double longitude, Double radiusKm, String type, Integer limit) {
+        return NearbyResult.of(geoIndex.nearest(latitude, longitude, radiusKm, CursorPage.clampLimit(limit),
+                type == null || type.isBlank() ? null : service -> type.equalsIgnoreCase(service.getType())));
+    }
+    
+    public LocalService createLocalService(LocalService service) {
+        LocalService saved = localServiceRepository.save(service);
+        locate(saved);
+        return saved;
+    }
+    
+    public LocalService updateLocalService(Long id, LocalService serviceDetails) {
+        LocalService service = localServiceRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Local service not found"));
+        
+        service.setName(serviceDetails.getName());
+        service.setType(serviceDetails.getType());
+        service.setContact(serviceDetails.getContact());
+        service.setLatitude(serviceDetails.getLatitude());
+        service.setLongitude(serviceDetails.getLongitude());
+        
+        LocalService saved = localServiceRepository.save(service);
+        locate(saved);
+        return saved;
+    }
+    
+    public void deleteLocalService(Long id) {
+        localServiceRepository.deleteById(id);
+        geoIndex.remove(id);
+    }
+    
+    private void locate(LocalService service) {
+        geoIndex.put(service.getServiceId(), service.getLatitude(), service.getLongitude(), service);
+    }
+}
@@ -0,0 +1,200 @@
+package com.travelapp.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Best hotel x transport x nights combinations under a budget, scored by
+ * rating-nights per unit of total cost.
+ *
+ * Hotels are grouped by rating and kept in nightly-price order, transports
+ * in fare order, so walking either list the best score still reachable only
+ * falls. Every branch therefore stops at the first hotel, or fare, whose
+ * optimistic score is already below the k-th best package any worker has
+ * found. Groups are split into ranges and searched on a fork/join pool; the
+ * workers share that k-th best score so one worker's finds prune the others.
+ */
+final class PackageSearch {
+    
+    private static final int LEAF_SIZE = 256;
+    
+    static final Comparator<Combo> BEST_FIRST = Comparator.comparingDouble(Combo::score).reversed()
+            .thenComparingLong(Combo::cost)
+            .thenComparingInt(Combo::hotel)
+            .thenComparingInt(Combo::transport)
+            .thenComparingInt(Combo::nights);
+    
+    // hotel and transport are positions in the arrays given to the constructor
+    record Combo(int hotel, int transport, int nights, long hotelCents, long transportCents, double score) {
+        long cost() {
+            return hotelCents + transportCents;
+        }
+    }
+    
+    private final long[] nightlyCents;
+    private final int[] ratings;
+    private final long[] transportCents;
+    private final int rooms;
+    private final long budgetCents;
+    private final int limit;
+    private final List<int[]> ratingGroups;
+    // Bits of the best k-th score published so far; positive doubles order like their bits
+    private final AtomicLong threshold = new AtomicLong(Double.doubleToLongBits(0.0));
+    
+    /**
+     * nightlyCents (per room) must be in ascending order and transportCents
+     * (for the whole party) too; hotels with a rating below 1 are ignored.
+     */
+    PackageSearch(long[] nightlyCents, int[] ratings, long[] transportCents, int rooms, long budgetCents, int limit) {
+        this.nightlyCents = nightlyCents;
+        this.ratings = ratings;
+        this.transportCents = transportCents;
+        this.rooms = rooms;
+        this.budgetCents = budgetCents;
+        this.limit = limit;
+        this.ratingGroups = groupByRating(ratings);
+    }
+    
+    List<Combo> search(ForkJoinPool pool, int minNights, int maxNights) {
+        if (transportCents.length == 0 || ratingGroups.isEmpty() || limit < 1 || minNights > maxNights) {
+            return List.of();
+        }
+        List<Branch> branches = new ArrayList<>();
+        for (int nights = maxNights; nights >= minNights; nights--) {
+            for (int[] group : ratingGroups) {
+                branches.add(new Branch(nights, group, 0, group.length));
+            }
+        }
+        return pool.invoke(new Branches(branches, 0, branches.size())).sorted();
+    }
+    
+    private static List<int[]> groupByRating(int[] ratings) {
+        Map<Integer, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < ratings.length; i++) {
+            if (ratings[i] >= 1) {
+                groups.computeIfAbsent(ratings[i], key -> new ArrayList<>()).add(i);
+            }
+        }
+        List<int[]> result = new ArrayList<>(groups.size());
+        for (List<Integer> group : groups.values()) {
+            result.add(group.stream().mapToInt(Integer::intValue).toArray());
+        }
+        return result;
+    }
+    
+    private double threshold() {
+        return Double.longBitsToDouble(threshold.get());
+    }
+    
+    private void publish(double kthScore) {
+        long bits = Double.doubleToLongBits(kthScore);
+        threshold.accumulateAndGet(bits, Math::max);
+    }
+    
+    // Hotels group[from..to) at a fixed number of nights
+    private record Branch(int nights, int[] group, int from, int to) {}
+    
+    private final class Branches extends RecursiveTask<TopK> {
+        private final List<Branch> branches;
+        private final int from;
+        private final int to;
+        
+        Branches(List<Branch> branches, int from, int to) {
+            this.branches = branches;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected TopK compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                Branches left = new Branches(branches, from, mid);
+                left.fork();
+                TopK right = new Branches(branches, mid, to).compute();
+                return right.merge(left.join());
+            }
+            Branch branch = branches.get(from);
+            if (branch.to - branch.from > LEAF_SIZE) {
+                int mid = (branch.from + branch.to) >>> 1;
+                List<Branch> halves = List.of(
+                        new Branch(branch.nights, branch.group, branch.from, mid),
+                        new Branch(branch.nights, branch.group, mid, branch.to));
+                return new Branches(halves, 0, 2).compute();
+            }
+            return explore(branch);
+        }
+    }
+    
+    private TopK explore(Branch branch) {
+        TopK best = new TopK();
+        int nights = branch.nights;
+        long cheapestTransport = transportCents[0];
+        for (int g = branch.from; g < branch.to; g++) {
+            int hotel = branch.group[g];
+            double ratingNights = (double) ratings[hotel] * nights;
+            long hotelCents = nightlyCents[hotel] * nights * rooms;
+            // Everything later in the group costs at least as much for the same rating
+            if (hotelCents + cheapestTransport > budgetCents
+                    || score(ratingNights, hotelCents + cheapestTransport) < threshold()) {
+                break;
+            }
+            for (int transport = 0; transport < transportCents.length; transport++) {
+                long cost = hotelCents + transportCents[transport];
+                if (cost > budgetCents) {
+                    break;
+                }
+                double score = score(ratingNights, cost);
+                if (score < threshold()) {
+                    break;
+                }
+                if (best.offer(new Combo(hotel, transport, nights, hotelCents, transportCents[transport], score))) {
+                    publish(best.kthScore());
+                }
+            }
+        }
+        return best;
+    }
+    
+    private static double score(double ratingNights, long costCents) {
+        return ratingNights / Math.max(costCents, 1);
+    }
+    
+    /** Keeps the best {@code limit} combos seen, worst on top. */
+    private final class TopK {
+        private final PriorityQueue<Combo> heap = new PriorityQueue<>(BEST_FIRST.reversed());
+        
+        // True when the heap is full afterwards, so kthScore() is meaningful
+        boolean offer(Combo combo) {
+            if (heap.size() < limit) {
+                heap.add(combo);
+            } else if (BEST_FIRST.compare(combo, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(combo);
+            }
+            return heap.size() == limit;
+        }
+        
+        double kthScore() {
+            return heap.peek().score();
+        }
+        
+        TopK merge(TopK other) {
+            other.heap.forEach(this::offer);
+            return this;
+        }
+        
+        List<Combo> sorted() {
+            List<Combo> combos = new ArrayList<>(heap);
+            combos.sort(BEST_FIRST);
+            return combos;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.travelapp.service;
+
+import com.travelapp.dto.CursorPage;
+import com.travelapp.dto.PackageCandidate;
+import com.travelapp.dto.PackageSearchRequest;
+import com.travelapp.dto.TravelPackage;
+import com.travelapp.dto.TripSummary;
+import com.travelapp.entity.Accommodation;
+import com.travelapp.entity.Destination;
+import com.travelapp.entity.Transportation;
+import com.travelapp.geo.GeoDistance;
+import com.travelapp.repository.AccommodationRepository;
+import com.travelapp.repository.TransportationRepository;
+import com.travelapp.repository.TripRepository;
+import com.travelapp.repository.TripUserRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Suggests hotel and transport combinations that fit a trip's budget. Both
+ * catalogs are read as bare price columns, cheapest first and cut off in the
+ * query at the most the budget could pay for; {@link PackageSearch} ranks
+ * what remains and only the winning rows are loaded in full.
+ */
+@Service
+public class PackageSearchService {
+    
+    // Scores are reported per 1,000 of currency rather than per cent
+    private static final double SCORE_SCALE = 100_000;
+    
+    @Autowired
+    private TripRepository tripRepository;
+    
+    @Autowired
+    private TripUserRepository tripUserRepository;
+    
+    @Autowired
+    private AccommodationRepository accommodationRepository;
+    
+    @Autowired
+    private TransportationRepository transportationRepository;
+    
+    @Autowired
+    private DestinationService destinationService;
+    
+    @Value("${packages.search.default-radius-km:50}")
+    private double defaultRadiusKm;
+    
+    private final ForkJoinPool pool;
+    
+    public PackageSearchService(@Value("${packages.search.parallelism:0}") int parallelism) {
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+    
+    public List<TravelPackage> search(Long tripId, PackageSearchRequest request) {
+        TripSummary trip = tripRepository.findSummaryByTripId(tripId)
+                .orElseThrow(() -> new RuntimeException("Trip not found"));
+        int maxNights = (int) ChronoUnit.DAYS.between(trip.getStartDate(), trip.getEndDate());
+        if (maxNights < 1) {
+            throw new IllegalArgumentException("Trip must span at least one night");
+        }
+        int minNights = Objects.requireNonNullElse(request.getMinNights(), maxNights);
+        if (minNights < 1 || minNights > maxNights) {
+            throw new IllegalArgumentException("minNights must be between 1 and " + maxNights);
+        }
+        BigDecimal budget = request.getBudget() != null ? request.getBudget() : trip.getTotalBudget();
+        if (budget == null || budget.signum() <= 0) {
+            throw new IllegalArgumentException("A positive budget is required");
+        }
+        int travellers = request.getTravellers() != null
+                ? request.getTravellers()
+                : Math.max(1, tripUserRepository.findUserIds(tripId).size());
+        int rooms = Objects.requireNonNullElse(request.getRooms(), 1);
+        if (travellers < 1 || rooms < 1) {
+            throw new IllegalArgumentException("travellers and rooms must be at least 1");
+        }
+        int legs = Boolean.FALSE.equals(request.getRoundTrip()) ? 1 : 2;
+        int limit = CursorPage.clampLimit(request.getLimit());
+        
+        List<PackageCandidate> transports = transportationRepository.findPackageCandidates(
+                budget.divide(BigDecimal.valueOf((long) travellers * legs), 2, RoundingMode.DOWN));
+        if (transports.isEmpty()) {
+            return List.of();
+        }
+        BigDecimal cheapestTransport = transports.get(0).getPrice().multiply(BigDecimal.valueOf((long) travellers * legs));
+        BigDecimal maxNightly = budget.subtract(cheapestTransport)
+                .divide(BigDecimal.valueOf((long) minNights * rooms), 2, RoundingMode.DOWN);
+        if (maxNightly.signum() < 0) {
+            return List.of();
+        }
+        List<PackageCandidate> hotels = near(request, accommodationRepository.findPackageCandidates(maxNightly));
+        
+        long[] nightlyCents = new long[hotels.size()];
+        int[] ratings = new int[hotels.size()];
+        for (int i = 0; i < hotels.size(); i++) {
+            nightlyCents[i] = SettleUpService.toCents(hotels.get(i).getPrice());
+            ratings[i] = hotels.get(i).getRating();
+        }
+        long[] transportCents = new long[transports.size()];
+        for (int i = 0; i < transports.size(); i++) {
+            transportCents[i] = SettleUpService.toCents(transports.get(i).getPrice()) * travellers * legs;
+        }
+        
+        PackageSearch search = new PackageSearch(nightlyCents, ratings, transportCents, rooms,
+                SettleUpService.toCents(budget), limit);
+        List<PackageSearch.Combo> combos = search.search(pool, minNights, maxNights);
+        Map<Long, Accommodation> hotelRows = accommodationRepository.findAllById(
+                combos.stream().map(combo -> hotels.get(combo.hotel()).getId()).distinct().toList())
+                .stream().collect(Collectors.toMap(Accommodation::getHotelId, Function.identity()));
+        Map<Long, Transportation> transportRows = transportationRepository.findAllById(
+                combos.stream().map(combo -> transports.get(combo.transport()).getId()).distinct().toList())
+                .stream().collect(Collectors.toMap(Transportation::getTransportationId, Function.identity()));
+        
+        List<TravelPackage> packages = new ArrayList<>();
+        for (PackageSearch.Combo combo : combos) {
+            Accommodation hotel = hotelRows.get(hotels.get(combo.hotel()).getId());
+            Transportation transport = transportRows.get(transports.get(combo.transport()).getId());
+            // Deleted since the candidates were read
+            if (hotel == null || transport == null) {
+                continue;
+            }
+            packages.add(new TravelPackage(hotel, transport, combo.nights(),
+                    BigDecimal.valueOf(combo.hotelCents(), 2), BigDecimal.valueOf(combo.transportCents(), 2),
+                    Math.round(combo.score() * SCORE_SCALE * 10_000) / 10_000.0));
+        }
+        return packages;
+    }
+    
+    // Keeps hotels within the radius of the requested destination, if any; order is preserved
+    private List<PackageCandidate> near(PackageSearchRequest request, List<PackageCandidate> hotels) {
+        if (request.getDestinationId() == null) {
+            return hotels;
+        }
+        Destination destination = destinationService.getDestinationById(request.getDestinationId())
+                .orElseThrow(() -> new RuntimeException("Destination not found"));
+        if (destination.getLatitude() == null || destination.getLongitude() == null) {
+            throw new IllegalArgumentException("Destination has no coordinates");
+        }
+        double radiusKm = Objects.requireNonNullElse(request.getRadiusKm(), defaultRadiusKm);
+        return hotels.stream()
+                .filter(hotel -> hotel.getLatitude() != null && hotel.getLongitude() != null
+                        && GeoDistance.km(destination.getLatitude(), destination.getLongitude(),
+                                hotel.getLatitude(), hotel.getLongitude()) <= radiusKm)
+                .toList();
+    }
+}
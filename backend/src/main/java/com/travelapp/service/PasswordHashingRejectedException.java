@@ -0,0 +1,12 @@
+package com.travelapp.service;
+
+/**
+ * Thrown when the password hashing queue is full. Callers should answer
+ * 503 and let the client retry instead of waiting for a worker.
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+    
+    public PasswordHashingRejectedException() {
+        super("Too many concurrent sign-ins, please retry shortly");
+    }
+}
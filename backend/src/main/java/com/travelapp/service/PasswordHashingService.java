@@ -0,0 +1,142 @@
+package com.travelapp.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs BCrypt hashing and verification on a small dedicated pool so that a
+ * burst of sign-ins cannot occupy request threads or every CPU. The queue in
+ * front of the pool is bounded; when it is full the work is rejected at once
+ * with {@link PasswordHashingRejectedException} rather than left to pile up.
+ * The pool is published as executor.* meters under name "password.hashing".
+ */
+@Service
+public class PasswordHashingService implements MeterBinder {
+    
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAccumulator maxQueueWaitNanos = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator maxHashNanos = new LongAccumulator(Math::max, 0);
+    
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Value("${auth.hashing.threads:0}") int threads,
+                                  @Value("${auth.hashing.queue-capacity:64}") int queueCapacity) {
+        // Default to half the cores so hashing always leaves CPU for other requests
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.passwordEncoder = passwordEncoder;
+        this.queueCapacity = queueCapacity;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+    
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+    
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+    
+    // True when the hash was made with a lower work factor than the configured one
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+    
+    private <T> CompletableFuture<T> submit(Supplier<T> work) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long enqueuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                long startedAt = System.nanoTime();
+                record(queueWaitNanos, maxQueueWaitNanos, startedAt - enqueuedAt);
+                T result;
+                try {
+                    result = work.get();
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                    return;
+                } finally {
+                    record(hashNanos, maxHashNanos, System.nanoTime() - startedAt);
+                    completed.increment();
+                }
+                future.complete(result);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            future.completeExceptionally(new PasswordHashingRejectedException());
+        }
+        return future;
+    }
+    
+    private void record(LongAdder total, LongAccumulator max, long nanos) {
+        total.add(nanos);
+        max.accumulate(nanos);
+    }
+    
+    public Map<String, Object> stats() {
+        long done = completed.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("threads", executor.getMaximumPoolSize());
+        stats.put("active", executor.getActiveCount());
+        stats.put("queueDepth", executor.getQueue().size());
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("completed", done);
+        stats.put("rejected", rejected.sum());
+        stats.put("avgQueueWaitMs", done == 0 ? 0.0 : queueWaitNanos.sum() / 1e6 / done);
+        stats.put("maxQueueWaitMs", maxQueueWaitNanos.get() / 1e6);
+        stats.put("avgHashMs", done == 0 ? 0.0 : hashNanos.sum() / 1e6 / done);
+        stats.put("maxHashMs", maxHashNanos.get() / 1e6);
+        return stats;
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(executor, "password.hashing", Tags.empty()).bindTo(registry);
+        FunctionCounter.builder("password.hashing.rejected", rejected, LongAdder::sum)
+                .description("Hashing requests refused because the queue was full")
+                .register(registry);
+        FunctionTimer.builder("password.hashing.queue.wait", this,
+                        service -> service.completed.sum(), service -> service.queueWaitNanos.sum(), TimeUnit.NANOSECONDS)
+                .register(registry);
+        FunctionTimer.builder("password.hashing.duration", this,
+                        service -> service.completed.sum(), service -> service.hashNanos.sum(), TimeUnit.NANOSECONDS)
+                .register(registry);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,13 @@
+package com.travelapp.service;
+
+/**
+ * Thrown when a guarded update finds the row at a different version than
+ * the client expected (or gone). Callers should answer 412 so the client
+ * reloads and reapplies its edit instead of overwriting someone else's.
+ */
+public class PreconditionFailedException extends RuntimeException {
+    
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.travelapp.service;
+
+/**
+ * Thrown when a guarded update finds no row to change and no version was
+ * expected. Callers answer 404, or 412 when the client sent If-Match: *.
+ */
+public class ResourceNotFoundException extends RuntimeException {
+    
+    public ResourceNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,183 @@
+package com.travelapp.service;
+
+import com.travelapp.dto.RoutePlan;
+import com.travelapp.dto.RouteRequest;
+import com.travelapp.entity.Destination;
+import com.travelapp.entity.Transportation;
+import com.travelapp.geo.GeoDistance;
+import com.travelapp.repository.TransportationRepository;
+import com.travelapp.route.TourSolver;
+import com.travelapp.route.TravelMode;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Orders a trip's destinations into a short route. Legs are weighted by
+ * great-circle distance, by door-to-door time with the fastest available
+ * transportation type for that distance, or by the cheapest available fare
+ * that serves it. {@link TourSolver} searches on a dedicated fork/join pool
+ * for at most the configured time budget.
+ */
+@Service
+public class RouteService {
+    
+    // Among equal fares, prefer the shorter leg
+    private static final double COST_DISTANCE_TIE_BREAK = 1e-6;
+    
+    @Autowired
+    private DestinationService destinationService;
+    
+    @Autowired
+    private TransportationRepository transportationRepository;
+    
+    @Value("${routes.max-stops:200}")
+    private int maxStops;
+    
+    @Value("${routes.solver.time-budget-ms:1000}")
+    private long maxTimeBudgetMs;
+    
+    private final ForkJoinPool pool;
+    
+    public RouteService(@Value("${routes.solver.parallelism:0}") int parallelism) {
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+    
+    public RoutePlan optimize(RouteRequest request) {
+        List<Destination> stops = resolve(request.getDestinationIds());
+        RouteRequest.Objective objective = Objects.requireNonNullElse(request.getObjective(), RouteRequest.Objective.DISTANCE);
+        List<Fare> fares = objective == RouteRequest.Objective.DISTANCE ? List.of() : availableFares();
+        
+        int n = stops.size();
+        double[] distances = new double[n * n];
+        double[] weights = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                Destination a = stops.get(i);
+                Destination b = stops.get(j);
+                double km = GeoDistance.km(a.getLatitude(), a.getLongitude(), b.getLatitude(), b.getLongitude());
+                double weight = leg(objective, km, fares).weight;
+                distances[i * n + j] = distances[j * n + i] = km;
+                weights[i * n + j] = weights[j * n + i] = weight;
+            }
+        }
+        
+        long budgetMs = request.getTimeBudgetMs() == null
+                ? maxTimeBudgetMs
+                : Math.max(1, Math.min(request.getTimeBudgetMs(), maxTimeBudgetMs));
+        TourSolver solver = new TourSolver(weights, n, request.isRoundTrip());
+        int[] order = solver.solve(pool, pool.getParallelism(), System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMs));
+        
+        int[] inputOrder = new int[n];
+        for (int i = 0; i < n; i++) {
+            inputOrder[i] = i;
+        }
+        RoutePlan plan = new RoutePlan(objective, request.isRoundTrip());
+        plan.setInputOrderWeight(round(solver.cost(inputOrder)));
+        
+        double totalKm = 0;
+        double totalWeight = 0;
+        int legs = request.isRoundTrip() ? n : n - 1;
+        plan.getStops().add(stop(stops.get(order[0]), 0, 0, null));
+        for (int i = 1; i <= legs; i++) {
+            int from = order[i - 1];
+            int to = order[i % n];
+            double km = distances[from * n + to];
+            Leg leg = leg(objective, km, fares);
+            totalKm += km;
+            totalWeight += weights[from * n + to];
+            plan.getStops().add(stop(stops.get(to), km, leg.weight, leg.mode));
+        }
+        plan.setTotalDistanceKm(round(totalKm));
+        plan.setTotalWeight(round(totalWeight));
+        return plan;
+    }
+    
+    private List<Destination> resolve(List<Long> destinationIds) {
+        Set<Long> ids = new LinkedHashSet<>(Objects.requireNonNullElse(destinationIds, List.of()));
+        ids.remove(null);
+        if (ids.size() < 2 || ids.size() > maxStops) {
+            throw new IllegalArgumentException("destinationIds must contain between 2 and " + maxStops + " ids");
+        }
+        List<Destination> stops = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Destination destination = destinationService.getDestinationById(id)
+                    .orElseThrow(() -> new RuntimeException("Destination not found: " + id));
+            if (destination.getLatitude() == null || destination.getLongitude() == null) {
+                throw new IllegalArgumentException("Destination has no coordinates: " + id);
+            }
+            stops.add(destination);
+        }
+        return stops;
+    }
+    
+    private List<Fare> availableFares() {
+        List<Fare> fares = new ArrayList<>();
+        for (Transportation transportation : transportationRepository.findByAvailability(true)) {
+            Optional<TravelMode> mode = TravelMode.of(transportation.getType());
+            if (mode.isPresent() && transportation.getPrice() != null) {
+                fares.add(new Fare(mode.get(), transportation.getType(), transportation.getPrice().doubleValue()));
+            }
+        }
+        if (fares.isEmpty()) {
+            throw new IllegalArgumentException("No available transportation to weigh legs by");
+        }
+        return fares;
+    }
+    
+    /**
+     * Weight of one leg. Only fares whose mode serves a leg that long are
+     * considered; if none does, the longest-range modes are used anyway.
+     */
+    private static Leg leg(RouteRequest.Objective objective, double km, List<Fare> fares) {
+        if (objective == RouteRequest.Objective.DISTANCE) {
+            return new Leg(km, null);
+        }
+        double longestRange = 0;
+        boolean anyCovers = false;
+        for (Fare fare : fares) {
+            anyCovers |= fare.mode.covers(km);
+            longestRange = Math.max(longestRange, fare.mode.getMaxLegKm());
+        }
+        Leg best = null;
+        for (Fare fare : fares) {
+            if (anyCovers ? !fare.mode.covers(km) : fare.mode.getMaxLegKm() < longestRange) {
+                continue;
+            }
+            double weight = objective == RouteRequest.Objective.TIME
+                    ? fare.mode.hours(km)
+                    : fare.price + COST_DISTANCE_TIE_BREAK * km;
+            if (best == null || weight < best.weight) {
+                best = new Leg(weight, fare.type);
+            }
+        }
+        return best;
+    }
+    
+    private static RoutePlan.RouteStop stop(Destination destination, double km, double weight, String mode) {
+        return new RoutePlan.RouteStop(destination.getDestinationId(), destination.getName(),
+                destination.getLatitude(), destination.getLongitude(), round(km), round(weight), mode);
+    }
+    
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+    
+    private record Fare(TravelMode mode, String type, double price) {}
+    
+    private record Leg(double weight, String mode) {}
+}
@@ -0,0 +1,83 @@
+package com.travelapp.service;
+
+import com.travelapp.cache.SettleUpLedger;
+import com.travelapp.cache.TripBalances;
+import com.travelapp.dto.PayerTotal;
+import com.travelapp.dto.SettleUpPlan;
+import com.travelapp.repository.ExpenseRepository;
+import com.travelapp.repository.TripRepository;
+import com.travelapp.repository.TripUserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * Settle-up for group trips. Balances come from {@link SettleUpLedger}, which
+ * ExpenseService keeps current on every expense write, so a request only
+ * reads the database when a trip's balances are not cached: one grouped
+ * read of payer totals and one of member ids. Amounts are whole cents
+ * until the response is built.
+ */
+@Service
+public class SettleUpService {
+    
+    @Autowired
+    private SettleUpLedger ledger;
+    
+    @Autowired
+    private ExpenseRepository expenseRepository;
+    
+    @Autowired
+    private TripUserRepository membershipRepository;
+    
+    @Autowired
+    private TripRepository tripRepository;
+    
+    public SettleUpPlan getPlan(Long tripId) {
+        TripBalances.Balances balances = ledger.get(tripId, this::load).balances();
+        long[] userIds = balances.userIds();
+        int size = balances.size();
+        
+        SettleUpPlan plan = new SettleUpPlan(tripId, money(balances.shared()));
+        long[] net = new long[size];
+        for (int i = 0; i < size; i++) {
+            net[i] = balances.paid()[i] - balances.share()[i];
+            plan.getBalances().add(new SettleUpPlan.MemberBalance(userIds[i],
+                    money(balances.paid()[i]), money(balances.share()[i]), money(net[i])));
+        }
+        // Without members nobody shares the cost, so there is nothing to settle
+        if (balances.shared() > 0) {
+            Settlement settlement = Settlement.of(net, size);
+            for (int i = 0; i < settlement.size(); i++) {
+                plan.getTransfers().add(new SettleUpPlan.Transfer(userIds[settlement.from(i)],
+                        userIds[settlement.to(i)], money(settlement.amount(i))));
+            }
+        }
+        return plan;
+    }
+    
+    private TripBalances load(Long tripId) {
+        if (!tripRepository.existsById(tripId)) {
+            throw new RuntimeException("Trip not found");
+        }
+        List<PayerTotal> totals = expenseRepository.findPayerTotals(tripId);
+        long[] payerIds = new long[totals.size()];
+        long[] paidCents = new long[totals.size()];
+        for (int i = 0; i < totals.size(); i++) {
+            payerIds[i] = totals.get(i).getUserId();
+            paidCents[i] = toCents(totals.get(i).getTotal());
+        }
+        long[] memberIds = membershipRepository.findUserIds(tripId).stream().mapToLong(Long::longValue).toArray();
+        return new TripBalances(payerIds, paidCents, memberIds);
+    }
+    
+    static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+    
+    private static BigDecimal money(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+}
@@ -0,0 +1,134 @@
+package com.travelapp.service;
+
+import java.util.Arrays;
+
+/**
+ * Turns net balances (positive = is owed, negative = owes, summing to zero)
+ * into transfers. Finding the fewest transfers is NP-hard, so this pairs
+ * every debtor and creditor whose amounts match exactly, which settles both
+ * with one transfer, then lets the largest remaining debtor pay the largest
+ * remaining creditor until everyone is even. For n people with a non-zero
+ * balance that is at most n - 1 transfers.
+ *
+ * Everything runs on primitive arrays; sorting packs amount and position
+ * into one long so no comparator or boxing is involved.
+ */
+final class Settlement {
+    
+    private static final int INDEX_BITS = 21;
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+    private static final long MAX_PACKED_AMOUNT = (1L << (63 - INDEX_BITS)) - 1;
+    
+    private final int[] from;
+    private final int[] to;
+    private final long[] amount;
+    private int count;
+    
+    private Settlement(int capacity) {
+        this.from = new int[capacity];
+        this.to = new int[capacity];
+        this.amount = new long[capacity];
+    }
+    
+    static Settlement of(long[] net, int size) {
+        if (size > INDEX_MASK + 1) {
+            throw new IllegalArgumentException("Too many participants: " + size);
+        }
+        int[] debtors = new int[size];
+        int[] creditors = new int[size];
+        long[] owes = new long[size];
+        long[] owed = new long[size];
+        int debtorCount = 0;
+        int creditorCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (net[i] < 0) {
+                debtors[debtorCount] = i;
+                owes[debtorCount++] = -net[i];
+            } else if (net[i] > 0) {
+                creditors[creditorCount] = i;
+                owed[creditorCount++] = net[i];
+            }
+        }
+        sortDescending(debtors, owes, debtorCount);
+        sortDescending(creditors, owed, creditorCount);
+        
+        Settlement settlement = new Settlement(Math.max(0, debtorCount + creditorCount - 1));
+        
+        // Exact matches: both lists are sorted, so equal amounts are found by one merge pass
+        int d = 0;
+        int c = 0;
+        while (d < debtorCount && c < creditorCount) {
+            if (owes[d] == owed[c]) {
+                settlement.add(debtors[d], creditors[c], owes[d]);
+                owes[d++] = 0;
+                owed[c++] = 0;
+            } else if (owes[d] > owed[c]) {
+                d++;
+            } else {
+                c++;
+            }
+        }
+        
+        // Largest remaining debtor pays largest remaining creditor; order is kept as amounts only shrink to zero
+        d = 0;
+        c = 0;
+        while (true) {
+            while (d < debtorCount && owes[d] == 0) {
+                d++;
+            }
+            while (c < creditorCount && owed[c] == 0) {
+                c++;
+            }
+            if (d == debtorCount || c == creditorCount) {
+                break;
+            }
+            long paid = Math.min(owes[d], owed[c]);
+            settlement.add(debtors[d], creditors[c], paid);
+            owes[d] -= paid;
+            owed[c] -= paid;
+        }
+        return settlement;
+    }
+    
+    int size() {
+        return count;
+    }
+    
+    // Positions in the net array passed to of()
+    int from(int i) {
+        return from[i];
+    }
+    
+    int to(int i) {
+        return to[i];
+    }
+    
+    long amount(int i) {
+        return amount[i];
+    }
+    
+    private void add(int debtor, int creditor, long cents) {
+        from[count] = debtor;
+        to[count] = creditor;
+        amount[count++] = cents;
+    }
+    
+    // Reorders positions and amounts together, largest amount first
+    private static void sortDescending(int[] positions, long[] amounts, int size) {
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            if (amounts[i] > MAX_PACKED_AMOUNT) {
+                throw new IllegalArgumentException("Balance too large to settle: " + amounts[i]);
+            }
+            keys[i] = (amounts[i] << INDEX_BITS) | i;
+        }
+        Arrays.sort(keys);
+        int[] sortedPositions = new int[size];
+        for (int i = 0; i < size; i++) {
+            long key = keys[size - 1 - i];
+            sortedPositions[i] = positions[(int) (key & INDEX_MASK)];
+            amounts[i] = key >>> INDEX_BITS;
+        }
+        System.arraycopy(sortedPositions, 0, positions, 0, size);
+    }
+}
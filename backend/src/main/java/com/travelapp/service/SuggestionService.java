@@ -0,0 +1,59 @@
+package com.travelapp.service;
+
+import com.travelapp.entity.Accommodation;
+import com.travelapp.entity.Destination;
+import com.travelapp.entity.LocalService;
+import com.travelapp.repository.AccommodationRepository;
+import com.travelapp.repository.LocalServiceRepository;
+import com.travelapp.search.Suggestion;
+import com.travelapp.search.SuggestionIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import java.util.List;
+
+@Service
+public class SuggestionService {
+    
+    public static final int DEFAULT_LIMIT = 8;
+    public static final int MAX_LIMIT = SuggestionIndex.MAX_LIMIT;
+    
+    @Autowired
+    private SuggestionIndex suggestionIndex;
+    
+    @Autowired
+    private DestinationService destinationService;
+    
+    @Autowired
+    private AccommodationRepository accommodationRepository;
+    
+    @Autowired
+    private LocalServiceRepository localServiceRepository;
+    
+    // Initial load; later writes reach the index through SuggestionIndexListener
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        for (Destination destination : destinationService.getAllDestinations()) {
+            suggestionIndex.put(Suggestion.Type.DESTINATION, destination.getDestinationId(),
+                    List.of(destination.getName(), destination.getLocation()));
+        }
+        for (Accommodation accommodation : accommodationRepository.findAll()) {
+            suggestionIndex.put(Suggestion.Type.ACCOMMODATION, accommodation.getHotelId(),
+                    List.of(accommodation.getName()));
+        }
+        for (LocalService service : localServiceRepository.findAll()) {
+            suggestionIndex.put(Suggestion.Type.LOCAL_SERVICE, service.getServiceId(),
+                    List.of(service.getName()));
+        }
+    }
+    
+    public List<Suggestion> suggest(String query, Integer limit) {
+        int size = limit == null || limit < 1 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        return suggestionIndex.suggest(query, size);
+    }
+    
+    public void recordView(Suggestion.Type type, Long id) {
+        suggestionIndex.recordView(type, id);
+    }
+}
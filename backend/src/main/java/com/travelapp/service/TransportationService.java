@@ -0,0 +1,27 @@
+package com.travelapp.service;
+
+import com.travelapp.entity.Transportation;
+import com.travelapp.repository.TransportationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public class TransportationService {
+    
+    @Autowired
+    private TransportationRepository transportationRepository;
+    
+    public List<Transportation> getAllTransportation() {
+        return transportationRepository.findAll();
+    }
+    
+    public Optional<Transportation> getTransportationById(Long id) {
+        return transportationRepository.findById(id);
+    }
+    
+    public Optional<Long> getTransportationVersion(Long id) {
+        return transportationRepository.findVersionByTransportationId(id);
+    }
+}
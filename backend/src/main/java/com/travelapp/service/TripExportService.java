@@ -0,0 +1,93 @@
+package com.travelapp.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.travelapp.config.StreamingDataSource;
+import com.travelapp.dto.ExpenseExport;
+import com.travelapp.dto.TripExport;
+import com.travelapp.dto.TripMemberExport;
+import com.travelapp.repository.ExpenseRepository;
+import com.travelapp.repository.TripRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+/**
+ * NDJSON dump of trips, their members and their expenses. Each section is one
+ * database cursor, and every row is written as soon as it is read, so memory
+ * use does not depend on table size. Lines carry a "type" field (trip, member,
+ * expense) and all sections are ordered by trip id.
+ */
+@Service
+public class TripExportService {
+    
+    // Bounds of the MySQL DATE type, used when no date range is requested
+    private static final LocalDate EARLIEST = LocalDate.of(1000, 1, 1);
+    private static final LocalDate LATEST = LocalDate.of(9999, 12, 31);
+    
+    @Autowired
+    private TripRepository tripRepository;
+    
+    @Autowired
+    private ExpenseRepository expenseRepository;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    // Runs on the streaming pool, so the fetch size is honoured
+    public void exportNdjson(OutputStream output, LocalDate startDate, LocalDate endDate) throws IOException {
+        if ((startDate == null) != (endDate == null)) {
+            throw new IllegalArgumentException("startDate and endDate must be given together");
+        }
+        LocalDate from = startDate != null ? startDate : EARLIEST;
+        LocalDate to = endDate != null ? endDate : LATEST;
+        
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        try {
+            StreamingDataSource.streaming(() -> readOnly.executeWithoutResult(status -> writeAll(output, from, to)));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+    
+    private void writeAll(OutputStream output, LocalDate from, LocalDate to) {
+        // Rows go through the generator's buffer; flushing per row would send one chunk per line
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.createGenerator(output, JsonEncoding.UTF8)) {
+            generator.setRootValueSeparator(null);
+            try (Stream<TripExport> trips = tripRepository.streamTripsInDateRange(from, to)) {
+                trips.forEach(row -> writeLine(writer, generator, row));
+            }
+            try (Stream<TripMemberExport> members = tripRepository.streamMembersInDateRange(from, to)) {
+                members.forEach(row -> writeLine(writer, generator, row));
+            }
+            try (Stream<ExpenseExport> expenses = expenseRepository.streamExpensesInDateRange(from, to)) {
+                expenses.forEach(row -> writeLine(writer, generator, row));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private void writeLine(ObjectWriter writer, JsonGenerator generator, Object row) {
+        try {
+            writer.writeValue(generator, row);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.travelapp.service;
+
+import com.travelapp.cache.CatalogVersions;
+import com.travelapp.cache.SettleUpLedger;
+import com.travelapp.calendar.TripCalendarIndex;
+import com.travelapp.dto.CursorPage;
+import com.travelapp.dto.MembershipRequest;
+import com.travelapp.dto.MembershipResult;
+import com.travelapp.dto.TripMember;
+import com.travelapp.dto.TripSummary;
+import com.travelapp.entity.TripUser;
+import com.travelapp.repository.TripRepository;
+import com.travelapp.repository.TripUserRepository;
+import com.travelapp.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Trip membership as rows of trip_users. Adds and removes are single
+ * INSERT/DELETE statements keyed by (trip_id, user_id), so their cost does
+ * not depend on how many members a trip already has, and the member set is
+ * never loaded to change it.
+ */
+@Service
+public class TripMembershipService {
+    
+    @Autowired
+    private TripUserRepository membershipRepository;
+    
+    @Autowired
+    private TripRepository tripRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private TripCalendarIndex calendarIndex;
+    
+    @Autowired
+    private SettleUpLedger settleUpLedger;
+    
+    @Autowired
+    private CatalogVersions catalogVersions;
+    
+    @Value("${trips.members.max-batch:1000}")
+    private int maxBatch;
+    
+    // Idempotent: adding an existing member changes nothing and is not an error
+    @Transactional
+    public void addMember(Long tripId, Long userId, TripUser.Role role) {
+        requireTrip(tripId);
+        if (membershipRepository.addMembers(tripId, List.of(userId), roleOf(role)) == 0) {
+            if (!userRepository.existsById(userId)) {
+                throw new RuntimeException("User not found");
+            }
+            return;
+        }
+        TripSummary trip = markChanged(tripId);
+        calendarIndex.put(List.of(userId), tripId, trip.getVersion(), trip.getTitle(),
+                trip.getStartDate(), trip.getEndDate());
+    }
+    
+    /**
+     * Unknown user ids and existing members are skipped; changed counts the
+     * rows inserted. Other trips the requested members are already on during
+     * the same days come back in conflicts.
+     */
+    @Transactional
+    public MembershipResult addMembers(Long tripId, MembershipRequest request) {
+        Set<Long> userIds = distinct(request.getUserIds());
+        TripSummary trip = requireTrip(tripId);
+        MembershipResult result = new MembershipResult(userIds.size(),
+                membershipRepository.addMembers(tripId, userIds, roleOf(request.getRole())));
+        List<Long> memberIds = membershipRepository.findUserIdsIn(tripId, userIds);
+        if (result.getChanged() > 0) {
+            trip = markChanged(tripId);
+            calendarIndex.put(memberIds, tripId, trip.getVersion(), trip.getTitle(),
+                    trip.getStartDate(), trip.getEndDate());
+        }
+        result.setConflicts(calendarIndex.conflicts(memberIds, tripId, trip.getStartDate(), trip.getEndDate()));
+        return result;
+    }
+    
+    @Transactional
+    public boolean removeMember(Long tripId, Long userId) {
+        if (membershipRepository.removeMembers(tripId, List.of(userId)) == 0) {
+            return false;
+        }
+        calendarIndex.remove(List.of(userId), tripId, markChanged(tripId).getVersion());
+        return true;
+    }
+    
+    @Transactional
+    public MembershipResult removeMembers(Long tripId, List<Long> userIds) {
+        Set<Long> distinctIds = distinct(userIds);
+        MembershipResult result = new MembershipResult(distinctIds.size(),
+                membershipRepository.removeMembers(tripId, distinctIds));
+        if (result.getChanged() > 0) {
+            calendarIndex.remove(distinctIds, tripId, markChanged(tripId).getVersion());
+        }
+        return result;
+    }
+    
+    public CursorPage<TripMember> getMembersPage(Long tripId, String cursor, Integer limit) {
+        int size = CursorPage.clampLimit(limit);
+        long afterUserId = cursor == null || cursor.isEmpty() ? 0L : CursorCodec.decodeId(cursor);
+        requireTrip(tripId);
+        List<TripMember> members = membershipRepository.findMembersPage(tripId, afterUserId, Limit.of(size + 1));
+        return CursorPage.of(members, size, last -> CursorCodec.encode(last.getUserId()));
+    }
+    
+    /**
+     * Who shares a trip's expenses changed, so its cached settle-up balances
+     * and its ETag are stale. The version bump locks the trip row, so the
+     * trip read back is what this change commits with, version included.
+     */
+    private TripSummary markChanged(Long tripId) {
+        settleUpLedger.evict(tripId);
+        tripRepository.incrementVersion(tripId);
+        catalogVersions.bump(CatalogVersions.Catalog.TRIPS);
+        return requireTrip(tripId);
+    }
+    
+    private TripSummary requireTrip(Long tripId) {
+        return tripRepository.findSummaryByTripId(tripId)
+                .orElseThrow(() -> new RuntimeException("Trip not found"));
+    }
+    
+    private Set<Long> distinct(List<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            throw new IllegalArgumentException("userIds must not be empty");
+        }
+        Set<Long> distinctIds = new LinkedHashSet<>(userIds);
+        distinctIds.remove(null);
+        if (distinctIds.isEmpty() || distinctIds.size() > maxBatch) {
+            throw new IllegalArgumentException("userIds must contain between 1 and " + maxBatch + " ids");
+        }
+        return distinctIds;
+    }
+    
+    private static String roleOf(TripUser.Role role) {
+        return Objects.requireNonNullElse(role, TripUser.Role.MEMBER).name();
+    }
+}
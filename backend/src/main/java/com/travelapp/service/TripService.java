@@ -1,26 +1,123 @@
 package com.travelapp.service;
 
+import com.travelapp.cache.CatalogVersions;
+import com.travelapp.cache.SettleUpLedger;
+import com.travelapp.calendar.TripCalendarIndex;
+import com.travelapp.config.StreamingDataSource;
+import com.travelapp.dto.CalendarEntry;
+import com.travelapp.dto.CursorPage;
+import com.travelapp.dto.TripMemberSummary;
+import com.travelapp.dto.TripMemberSpan;
+import com.travelapp.dto.TripSummary;
 import com.travelapp.entity.Trip;
+import com.travelapp.entity.TripUser;
 import com.travelapp.entity.User;
 import com.travelapp.repository.TripRepository;
+import com.travelapp.repository.TripUserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 public class TripService {
     
+    public static final String SORT_BY_ID = "id";
+    public static final String SORT_BY_START_DATE = "startDate";
+    
     @Autowired
     private TripRepository tripRepository;
     
+    @Autowired
+    private TripUserRepository membershipRepository;
+    
+    @Autowired
+    private TripCalendarIndex calendarIndex;
+    
+    @Autowired
+    private SettleUpLedger settleUpLedger;
+    
+    @Autowired
+    private CatalogVersions catalogVersions;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    // Initial load over the streaming pool; later writes keep the index current here and in TripMembershipService
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildCalendarIndex() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        StreamingDataSource.streaming(() -> readOnly.executeWithoutResult(status -> {
+            try (Stream<TripMemberSpan> spans = membershipRepository.streamMemberSpans()) {
+                calendarIndex.rebuild(spans);
+            }
+        }));
+    }
+    
     public List<Trip> getAllTrips() {
         return tripRepository.findAll();
     }
     
+    /**
+     * Trip list page: one keyset query for the trip columns, then one query
+     * for the members of every trip on it. Both return unmanaged projections,
+     * so nothing is hydrated into or dirty-checked by the persistence context.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TripSummary> getTripsPage(String cursor, Integer limit, String sort) {
+        int size = CursorPage.clampLimit(limit);
+        Limit fetch = Limit.of(size + 1);
+        
+        if (SORT_BY_START_DATE.equals(sort)) {
+            List<TripSummary> trips;
+            if (cursor == null || cursor.isEmpty()) {
+                trips = tripRepository.findSummariesByStartDate(fetch);
+            } else {
+                String[] keys = CursorCodec.decode(cursor, 2);
+                try {
+                    trips = tripRepository.findSummariesByStartDateAfter(
+                            LocalDate.parse(keys[0]), Long.parseLong(keys[1]), fetch);
+                } catch (DateTimeParseException | NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid cursor");
+                }
+            }
+            return withMembers(CursorPage.of(trips, size, last -> CursorCodec.encode(last.getStartDate(), last.getTripId())));
+        }
+        if (sort != null && !SORT_BY_ID.equals(sort)) {
+            throw new IllegalArgumentException("Unsupported sort: " + sort);
+        }
+        
+        long afterId = cursor == null || cursor.isEmpty() ? 0L : CursorCodec.decodeId(cursor);
+        List<TripSummary> trips = tripRepository.findSummariesAfterId(afterId, fetch);
+        return withMembers(CursorPage.of(trips, size, last -> CursorCodec.encode(last.getTripId())));
+    }
+    
+    private CursorPage<TripSummary> withMembers(CursorPage<TripSummary> page) {
+        if (page.getItems().isEmpty()) {
+            return page;
+        }
+        Map<Long, TripSummary> byId = new HashMap<>();
+        page.getItems().forEach(trip -> byId.put(trip.getTripId(), trip));
+        for (TripMemberSummary member : tripRepository.findMemberSummaries(byId.keySet())) {
+            byId.get(member.getTripId()).getUsers().add(member);
+        }
+        return page;
+    }
+    
     public Optional<Trip> getTripById(Long id) {
-        return tripRepository.findById(id);
+        return tripRepository.findWithUsersByTripId(id);
     }
     
     public List<Trip> getTripsByUser(User user) {
@@ -31,37 +128,73 @@ public class TripService {
         return tripRepository.findTripsInDateRange(startDate, endDate);
     }
     
-    public Trip createTrip(Trip trip) {
-        return tripRepository.save(trip);
+    public List<Trip> getTripsOverlapping(LocalDate startDate, LocalDate endDate) {
+        return tripRepository.findTripsOverlapping(startDate, endDate);
     }
     
-    public Trip updateTrip(Long id, Trip tripDetails) {
-        Trip trip = tripRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Trip not found"));
-        
-        trip.setTitle(tripDetails.getTitle());
-        trip.setStartDate(tripDetails.getStartDate());
-        trip.setEndDate(tripDetails.getEndDate());
-        trip.setTotalBudget(tripDetails.getTotalBudget());
-        
-        return tripRepository.save(trip);
+    // Trips of one user intersecting [from, to], in start date order, served from the calendar index
+    public List<CalendarEntry> getCalendar(Long userId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        return calendarIndex.calendar(userId, from, to);
     }
     
-    public void deleteTrip(Long id) {
-        tripRepository.deleteById(id);
+    /**
+     * Saves the trip with its creator as organizer. Other trips the creator
+     * is already on during the same days come back in {@code conflicts}.
+     */
+    @Transactional
+    public Trip createTrip(Trip trip, Long creatorId) {
+        catalogVersions.bump(CatalogVersions.Catalog.TRIPS);
+        Trip saved = tripRepository.save(trip);
+        if (creatorId != null && membershipRepository.addMembers(
+                saved.getTripId(), List.of(creatorId), TripUser.Role.ORGANIZER.name()) > 0) {
+            withConflicts(saved, List.of(creatorId));
+        }
+        return saved;
     }
     
-    public Trip addUserToTrip(Long tripId, User user) {
-        Trip trip = tripRepository.findById(tripId)
-                .orElseThrow(() -> new RuntimeException("Trip not found"));
-        trip.getUsers().add(user);
-        return tripRepository.save(trip);
+    public Optional<Long> getTripVersion(Long id) {
+        return tripRepository.findVersionByTripId(id);
     }
     
-    public Trip removeUserFromTrip(Long tripId, User user) {
-        Trip trip = tripRepository.findById(tripId)
-                .orElseThrow(() -> new RuntimeException("Trip not found"));
-        trip.getUsers().remove(user);
-        return tripRepository.save(trip);
+    /**
+     * Writes the new details with one guarded UPDATE, so two members editing
+     * at once can't silently overwrite each other. With an expectedVersion
+     * the row only changes if it is still at that version; null updates
+     * whatever is there.
+     */
+    @Transactional
+    public Trip updateTrip(Long id, Trip tripDetails, Long expectedVersion) {
+        int updated = tripRepository.updateDetails(id, tripDetails.getTitle(), tripDetails.getStartDate(),
+                tripDetails.getEndDate(), tripDetails.getTotalBudget(), expectedVersion);
+        if (updated == 0) {
+            if (expectedVersion != null) {
+                throw new PreconditionFailedException("Trip has been changed or deleted");
+            }
+            throw new ResourceNotFoundException("Trip not found");
+        }
+        catalogVersions.bump(CatalogVersions.Catalog.TRIPS);
+        
+        Trip saved = tripRepository.findWithUsersByTripId(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Trip not found"));
+        return withConflicts(saved, saved.getUsers().stream().map(User::getUserId).toList());
+    }
+    
+    // Records the trip's dates for its members and flags their other trips on the same days
+    private Trip withConflicts(Trip trip, List<Long> memberIds) {
+        calendarIndex.put(memberIds, trip.getTripId(), trip.getVersion(), trip.getTitle(),
+                trip.getStartDate(), trip.getEndDate());
+        trip.setConflicts(calendarIndex.conflicts(memberIds, trip.getTripId(), trip.getStartDate(), trip.getEndDate()));
+        return trip;
+    }
+    
+    @Transactional
+    public void deleteTrip(Long id) {
+        calendarIndex.removeTrip(membershipRepository.findUserIds(id), id);
+        settleUpLedger.evict(id);
+        catalogVersions.bump(CatalogVersions.Catalog.TRIPS);
+        tripRepository.deleteById(id);
     }
-}
\ No newline at end of file
+}
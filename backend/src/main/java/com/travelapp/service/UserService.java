@@ -1,12 +1,23 @@
 package com.travelapp.service;
 
+import com.travelapp.cache.CatalogVersions;
+import com.travelapp.cache.SettleUpLedger;
+import com.travelapp.calendar.TripCalendarIndex;
+import com.travelapp.dto.CursorPage;
+import com.travelapp.dto.UserSummary;
 import com.travelapp.entity.User;
+import com.travelapp.repository.TripRepository;
 import com.travelapp.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Service
 public class UserService {
@@ -15,12 +26,37 @@ public class UserService {
     private UserRepository userRepository;
     
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private TripRepository tripRepository;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+    
+    @Autowired
+    private TripCalendarIndex calendarIndex;
+    
+    @Autowired
+    private SettleUpLedger settleUpLedger;
+    
+    @Autowired
+    private CatalogVersions catalogVersions;
+    
+    // Saves that follow a hash run here, so hashing threads never wait on the database
+    private final ExecutorService databaseExecutor = Executors.newVirtualThreadPerTaskExecutor();
     
     public List<User> getAllUsers() {
         return userRepository.findAll();
     }
     
+    public CursorPage<UserSummary> getUsersPage(String cursor, Integer limit) {
+        int size = CursorPage.clampLimit(limit);
+        long afterId = cursor == null || cursor.isEmpty() ? 0L : CursorCodec.decodeId(cursor);
+        List<UserSummary> users = userRepository.findByUserIdGreaterThanOrderByUserIdAsc(afterId, Limit.of(size + 1));
+        return CursorPage.of(users, size, last -> CursorCodec.encode(last.getUserId()));
+    }
+    
     public Optional<User> getUserById(Long id) {
         return userRepository.findById(id);
     }
@@ -29,36 +65,90 @@ public class UserService {
         return userRepository.findByEmail(email);
     }
     
-    public User createUser(User user) {
+    // Hashing happens on the password hashing pool; the returned future completes once the user is saved
+    public CompletableFuture<User> createUser(User user) {
         if (userRepository.existsByEmail(user.getEmail())) {
             throw new RuntimeException("Email already exists");
         }
-        user.setPassword(passwordEncoder.encode(user.getPassword()));
-        return userRepository.save(user);
+        return passwordHashingService.encode(user.getPassword()).thenApplyAsync(hash -> {
+            user.setPassword(hash);
+            return userRepository.save(user);
+        }, databaseExecutor);
     }
     
-    public User updateUser(Long id, User userDetails) {
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        user.setName(userDetails.getName());
-        user.setEmail(userDetails.getEmail());
+    /**
+     * Writes the profile with one guarded UPDATE once any new password is
+     * hashed. With an expectedVersion the row only changes if it is still at
+     * that version, otherwise the future fails with PreconditionFailedException.
+     */
+    public CompletableFuture<User> updateUser(Long id, User userDetails, Long expectedVersion) {
         if (userDetails.getPassword() != null && !userDetails.getPassword().isEmpty()) {
-            user.setPassword(passwordEncoder.encode(userDetails.getPassword()));
+            return passwordHashingService.encode(userDetails.getPassword())
+                    .thenApplyAsync(hash -> updateProfile(id, userDetails, hash, expectedVersion), databaseExecutor);
         }
         
-        return userRepository.save(user);
+        return CompletableFuture.completedFuture(updateProfile(id, userDetails, null, expectedVersion));
+    }
+    
+    // Trips embed each member's name and email, so the user's trips change version in the same transaction
+    private User updateProfile(Long id, User userDetails, String passwordHash, Long expectedVersion) {
+        return transactionTemplate.execute(status -> {
+            int updated = userRepository.updateProfile(id, userDetails.getName(), userDetails.getEmail(),
+                    passwordHash, expectedVersion);
+            if (updated == 0) {
+                if (expectedVersion != null) {
+                    throw new PreconditionFailedException("User has been changed or deleted");
+                }
+                throw new ResourceNotFoundException("User not found");
+            }
+            tripRepository.incrementVersionsOfMember(id);
+            catalogVersions.bump(CatalogVersions.Catalog.TRIPS);
+            return userRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        });
+    }
+    
+    /**
+     * Checks credentials on the password hashing pool. A hash made with an
+     * older work factor is replaced in the background after a successful
+     * check; if that fails it is simply retried at the next login.
+     */
+    public CompletableFuture<Optional<User>> authenticate(String email, String rawPassword) {
+        Optional<User> found = email == null ? Optional.empty() : userRepository.findByEmail(email);
+        if (found.isEmpty() || rawPassword == null) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        User user = found.get();
+        String storedHash = user.getPassword();
+        return passwordHashingService.matches(rawPassword, storedHash).thenApply(matches -> {
+            if (!matches) {
+                return Optional.empty();
+            }
+            if (passwordHashingService.needsRehash(storedHash)) {
+                passwordHashingService.encode(rawPassword)
+                        .thenAcceptAsync(newHash -> userRepository.replacePasswordHash(user.getUserId(), storedHash, newHash),
+                                databaseExecutor);
+            }
+            return Optional.of(user);
+        });
     }
     
     public void deleteUser(Long id) {
-        userRepository.deleteById(id);
+        transactionTemplate.executeWithoutResult(status -> {
+            tripRepository.incrementVersionsOfMember(id);
+            catalogVersions.bump(CatalogVersions.Catalog.TRIPS);
+            userRepository.deleteById(id);
+        });
+        calendarIndex.removeUser(id);
+        // The user's memberships and payer references are gone from every trip they were on
+        settleUpLedger.evictAll();
     }
     
     public boolean existsByEmail(String email) {
         return userRepository.existsByEmail(email);
     }
     
-    public boolean validatePassword(String rawPassword, String encodedPassword) {
-        return passwordEncoder.matches(rawPassword, encodedPassword);
+    @PreDestroy
+    public void shutdown() {
+        databaseExecutor.shutdown();
     }
-}
\ No newline at end of file
+}
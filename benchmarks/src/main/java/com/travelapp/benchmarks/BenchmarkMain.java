@@ -0,0 +1,28 @@
+package com.travelapp.benchmarks;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs JMH with machine-readable output by default. Any JMH option can be
+ * passed through; -rf and -rff only fall back to JSON in target/ when absent.
+ */
+public class BenchmarkMain {
+    
+    private static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+    
+    public static void main(String[] args) throws Exception {
+        List<String> argv = new ArrayList<>(Arrays.asList(args));
+        if (!argv.contains("-rf")) {
+            argv.addAll(List.of("-rf", "json"));
+        }
+        if (!argv.contains("-rff")) {
+            Files.createDirectories(Path.of(DEFAULT_RESULT_FILE).getParent());
+            argv.addAll(List.of("-rff", DEFAULT_RESULT_FILE));
+        }
+        org.openjdk.jmh.Main.main(argv.toArray(String[]::new));
+    }
+}
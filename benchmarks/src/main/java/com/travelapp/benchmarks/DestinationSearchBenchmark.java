@@ -0,0 +1,112 @@
+package com.travelapp.benchmarks;
+
+import com.travelapp.dto.CursorPage;
+import com.travelapp.entity.Destination;
+import com.travelapp.repository.DestinationRepository;
+import com.travelapp.service.DestinationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Destination read paths through the real service and repository beans:
+ * full-text and field search on the in-memory index, the cached list and
+ * keyset pages, and by-id lookups with and without the cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DestinationSearchBenchmark {
+    
+    private static final String[] WORDS = {
+        "beach", "temple", "mountain", "lake", "market", "castle", "island", "desert",
+        "forest", "museum", "harbour", "valley", "festival", "vineyard", "canyon", "palace"
+    };
+    private static final String[] LOCATIONS = {
+        "Japan", "Italy", "Peru", "Kenya", "Norway", "Vietnam", "Mexico", "Morocco"
+    };
+    
+    @Param({"1000", "10000"})
+    private int destinations;
+    
+    private ConfigurableApplicationContext context;
+    private DestinationService destinationService;
+    private DestinationRepository destinationRepository;
+    private long[] ids;
+    private int next;
+    
+    @Setup(Level.Trial)
+    public void start() {
+        context = EmbeddedBackend.start("destinations" + destinations);
+        destinationService = context.getBean(DestinationService.class);
+        destinationRepository = context.getBean(DestinationRepository.class);
+        
+        SplittableRandom random = new SplittableRandom(42);
+        ids = new long[destinations];
+        for (int i = 0; i < destinations; i++) {
+            String description = WORDS[random.nextInt(WORDS.length)] + " and " + WORDS[random.nextInt(WORDS.length)]
+                    + " near the " + WORDS[random.nextInt(WORDS.length)];
+            Destination destination = new Destination("Destination " + i,
+                    LOCATIONS[random.nextInt(LOCATIONS.length)], description);
+            ids[i] = destinationService.createDestination(destination).getDestinationId();
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+    
+    private long nextId() {
+        next = next + 1 == ids.length ? 0 : next + 1;
+        return ids[next];
+    }
+    
+    @Benchmark
+    public List<Destination> fullTextSearch() {
+        return destinationService.search("temple beach", null, null, 20);
+    }
+    
+    @Benchmark
+    public List<Destination> fieldSearch() {
+        return destinationService.search(null, "Destination 9", "Peru", 20);
+    }
+    
+    @Benchmark
+    public List<Destination> listAll() {
+        return destinationService.getAllDestinations();
+    }
+    
+    @Benchmark
+    public CursorPage<Destination> firstPage() {
+        return destinationService.getDestinationsPage(null, 20);
+    }
+    
+    @Benchmark
+    public Optional<Destination> byIdCached() {
+        return destinationService.getDestinationById(nextId());
+    }
+    
+    @Benchmark
+    public Optional<Destination> byIdDatabase() {
+        return destinationRepository.findById(nextId());
+    }
+}
@@ -0,0 +1,36 @@
+package com.travelapp.benchmarks;
+
+import com.travelapp.TravelBackendApplication;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Boots the backend without a web server against an in-memory H2 database in
+ * MySQL mode. Settings are passed as command-line arguments so they win over
+ * the MySQL configuration in application.properties.
+ */
+final class EmbeddedBackend {
+    
+    private EmbeddedBackend() {}
+    
+    static ConfigurableApplicationContext start(String databaseName) {
+        return new SpringApplicationBuilder(TravelBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run("--spring.datasource.url=jdbc:h2:mem:" + databaseName
+                                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.show-sql=false",
+                        "--booking.expiry-sweep-ms=3600000",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.travelapp=WARN",
+                        "--logging.level.org.springframework.security=WARN");
+    }
+}
@@ -0,0 +1,98 @@
+package com.travelapp.benchmarks;
+
+import com.travelapp.entity.Expense;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Summing expense amounts in memory: BigDecimal through a stream and a
+ * plain loop, per-category totals, and the same total on unscaled cents.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExpenseAggregationBenchmark {
+    
+    private static final String[] CATEGORIES = {
+        "Accommodation", "Transportation", "Food", "Activities", "Shopping", "Other"
+    };
+    
+    @Param({"100", "10000"})
+    private int expenses;
+    
+    private List<Expense> rows;
+    private long[] cents;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(7);
+        rows = new ArrayList<>(expenses);
+        cents = new long[expenses];
+        LocalDate date = LocalDate.of(2025, 6, 1);
+        for (int i = 0; i < expenses; i++) {
+            BigDecimal amount = BigDecimal.valueOf(random.nextLong(100, 5_000_000), 2);
+            rows.add(new Expense(1L, CATEGORIES[random.nextInt(CATEGORIES.length)], amount, date.plusDays(i % 30)));
+            cents[i] = amount.unscaledValue().longValueExact();
+        }
+    }
+    
+    @Benchmark
+    public BigDecimal streamReduce() {
+        return rows.stream().map(Expense::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+    
+    @Benchmark
+    public BigDecimal loopSum() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (Expense expense : rows) {
+            total = total.add(expense.getAmount());
+        }
+        return total;
+    }
+    
+    @Benchmark
+    public Map<String, BigDecimal> groupByCategoryStream() {
+        return rows.stream().collect(Collectors.groupingBy(Expense::getCategory,
+                Collectors.reducing(BigDecimal.ZERO, Expense::getAmount, BigDecimal::add)));
+    }
+    
+    @Benchmark
+    public Map<String, BigDecimal> groupByCategoryLoop() {
+        Map<String, BigDecimal> totals = new HashMap<>();
+        for (Expense expense : rows) {
+            totals.merge(expense.getCategory(), expense.getAmount(), BigDecimal::add);
+        }
+        return totals;
+    }
+    
+    @Benchmark
+    public BigDecimal unscaledCents() {
+        long total = 0;
+        for (long value : cents) {
+            total += value;
+        }
+        return BigDecimal.valueOf(total, 2);
+    }
+}
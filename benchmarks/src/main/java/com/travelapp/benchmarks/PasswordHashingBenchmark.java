@@ -0,0 +1,53 @@
+package com.travelapp.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one BCrypt hash per work factor, which is what sizes the hashing
+ * pool behind auth.bcrypt.strength. Each step up doubles the time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordHashingBenchmark {
+    
+    private static final String PASSWORD = "correct horse battery staple";
+    
+    @Param({"4", "8", "10", "12"})
+    private int strength;
+    
+    private BCryptPasswordEncoder encoder;
+    private String hash;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(strength);
+        hash = encoder.encode(PASSWORD);
+    }
+    
+    @Benchmark
+    public String encode() {
+        return encoder.encode(PASSWORD);
+    }
+    
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(PASSWORD, hash);
+    }
+}
@@ -0,0 +1,81 @@
+package com.travelapp.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelapp.dto.CursorPage;
+import com.travelapp.entity.Trip;
+import com.travelapp.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON encoding of trips with their members, as returned by the trip
+ * endpoints. The mapper is built the way Spring Boot builds the one used by
+ * the controllers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TripSerializationBenchmark {
+    
+    private static final int PAGE_SIZE = 20;
+    
+    @Param({"1", "10", "100"})
+    private int members;
+    
+    private ObjectMapper objectMapper;
+    private Trip trip;
+    private CursorPage<Trip> page;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<Trip> trips = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            trips.add(trip(i));
+        }
+        trip = trips.get(0);
+        page = new CursorPage<>(trips, "next-cursor");
+    }
+    
+    private Trip trip(long tripId) {
+        LocalDate start = LocalDate.of(2025, 6, 1).plusDays(tripId);
+        Trip trip = new Trip("Trip " + tripId, start, start.plusDays(10), new BigDecimal("250000.00"));
+        trip.setTripId(tripId);
+        for (long u = 0; u < members; u++) {
+            User user = new User("Member " + u, "member" + u + "@example.com",
+                    "$2a$10$abcdefghijklmnopqrstuuA1B2C3D4E5F6G7H8I9J0K1L2M3N4O5P6");
+            user.setUserId(u);
+            trip.getUsers().add(user);
+        }
+        return trip;
+    }
+    
+    @Benchmark
+    public byte[] singleTrip() throws Exception {
+        return objectMapper.writeValueAsBytes(trip);
+    }
+    
+    @Benchmark
+    public byte[] tripPage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -4,6 +4,10 @@
 USE travel_app_db;
 
 -- Drop existing tables if they exist (in correct order to avoid foreign key constraints)
+DROP TABLE IF EXISTS trip_category_totals;
+DROP TABLE IF EXISTS trip_budget_totals;
+DROP TABLE IF EXISTS seat_holds;
+DROP TABLE IF EXISTS seat_inventory;
 DROP TABLE IF EXISTS user_ratings;
 DROP TABLE IF EXISTS trip_transportation_expenses;
 DROP TABLE IF EXISTS trip_users;
@@ -17,6 +21,24 @@ DROP TABLE IF EXISTS transportation;
 DROP TABLE IF EXISTS destinations;
 DROP TABLE IF EXISTS trips;
 DROP TABLE IF EXISTS users;
+DROP TABLE IF EXISTS id_generators;
+DROP TABLE IF EXISTS catalog_versions;
+
+-- Id blocks for entities whose inserts are batched; next_val is the first unused id
+CREATE TABLE id_generators (
+    name VARCHAR(64) PRIMARY KEY,
+    next_val BIGINT NOT NULL
+);
+
+-- One row per catalog, bumped in the same transaction as every application write to it, as the
+-- ETag of its list endpoint. Edits made directly in SQL must bump the row (and the edited rows'
+-- version) as well, e.g. UPDATE catalog_versions SET version = version + 1 WHERE catalog = 'TRANSPORTATION'
+CREATE TABLE catalog_versions (
+    catalog VARCHAR(32) PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO catalog_versions (catalog) VALUES ('DESTINATIONS'), ('ACCOMMODATIONS'), ('TRANSPORTATION'), ('TRIPS');
 
 -- Create Users table
 CREATE TABLE users (
@@ -24,6 +46,7 @@ CREATE TABLE users (
     name VARCHAR(100) NOT NULL,
     email VARCHAR(100) NOT NULL UNIQUE,
     password VARCHAR(255) NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
 );
@@ -35,6 +58,7 @@ CREATE TABLE trips (
     start_date DATE NOT NULL,
     end_date DATE NOT NULL,
     total_budget DECIMAL(10,2),
+    version BIGINT NOT NULL DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
 );
@@ -45,6 +69,9 @@ CREATE TABLE destinations (
     name VARCHAR(100) NOT NULL,
     location VARCHAR(200) NOT NULL,
     description TEXT,
+    latitude DOUBLE,
+    longitude DOUBLE,
+    version BIGINT NOT NULL DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
@@ -55,9 +82,39 @@ CREATE TABLE transportation (
     provider VARCHAR(100) NOT NULL,
     price DECIMAL(10,2),
     availability BOOLEAN DEFAULT TRUE,
+    seat_capacity INTEGER,
+    version BIGINT NOT NULL DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
+-- Seat Inventory (seats per transportation and travel date; only changed by guarded UPDATEs)
+CREATE TABLE seat_inventory (
+    inventory_id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    transportation_id BIGINT NOT NULL,
+    travel_date DATE NOT NULL,
+    total_seats INTEGER NOT NULL,
+    held_seats INTEGER NOT NULL DEFAULT 0,
+    booked_seats INTEGER NOT NULL DEFAULT 0,
+    version BIGINT NOT NULL DEFAULT 0,
+    FOREIGN KEY (transportation_id) REFERENCES transportation(transportation_id) ON DELETE CASCADE,
+    UNIQUE KEY unique_seat_inventory (transportation_id, travel_date),
+    CHECK (held_seats >= 0 AND booked_seats >= 0 AND held_seats + booked_seats <= total_seats)
+);
+
+-- Seat Holds (short-lived reservations that are confirmed, released or expired)
+CREATE TABLE seat_holds (
+    hold_id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    transportation_id BIGINT NOT NULL,
+    travel_date DATE NOT NULL,
+    user_id BIGINT,
+    seats INTEGER NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'HELD',
+    expires_at DATETIME(6) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (transportation_id) REFERENCES transportation(transportation_id) ON DELETE CASCADE,
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE SET NULL
+);
+
 -- Create Accommodations table
 CREATE TABLE accommodations (
     hotel_id BIGINT PRIMARY KEY AUTO_INCREMENT,
@@ -65,6 +122,9 @@ CREATE TABLE accommodations (
     type VARCHAR(50) NOT NULL,
     price_per_night DECIMAL(10,2),
     rating INTEGER,
+    latitude DOUBLE,
+    longitude DOUBLE,
+    version BIGINT NOT NULL DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
@@ -74,17 +134,41 @@ CREATE TABLE local_services (
     name VARCHAR(100) NOT NULL,
     type VARCHAR(50) NOT NULL,
     contact VARCHAR(100),
+    latitude DOUBLE,
+    longitude DOUBLE,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
 -- Create Expenses table
 CREATE TABLE expenses (
     expense_id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    trip_id BIGINT NOT NULL,
     category VARCHAR(50) NOT NULL,
     amount DECIMAL(10,2) NOT NULL,
     date DATE NOT NULL,
     description TEXT,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+    paid_by BIGINT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (trip_id) REFERENCES trips(trip_id) ON DELETE CASCADE,
+    FOREIGN KEY (paid_by) REFERENCES users(user_id) ON DELETE SET NULL
+);
+
+-- Running expense totals per trip (kept in step with expenses by the application)
+CREATE TABLE trip_budget_totals (
+    trip_id BIGINT PRIMARY KEY,
+    total_spent DECIMAL(12,2) NOT NULL DEFAULT 0,
+    expense_count BIGINT NOT NULL DEFAULT 0,
+    FOREIGN KEY (trip_id) REFERENCES trips(trip_id) ON DELETE CASCADE
+);
+
+-- Running expense totals per trip and category
+CREATE TABLE trip_category_totals (
+    trip_id BIGINT NOT NULL,
+    category VARCHAR(50) NOT NULL,
+    total_spent DECIMAL(12,2) NOT NULL DEFAULT 0,
+    expense_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (trip_id, category),
+    FOREIGN KEY (trip_id) REFERENCES trips(trip_id) ON DELETE CASCADE
 );
 
 -- Create Ratings table
@@ -163,16 +247,36 @@ INSERT INTO users (name, email, password) VALUES
 ('Jane Smith', 'jane@example.com', '$2a$10$dummyhashedpassword'),
 ('Bob Wilson', 'bob@example.com', '$2a$10$dummyhashedpassword');
 
-INSERT INTO destinations (name, location, description) VALUES 
-('Paris', 'France, Europe', 'City of Light with beautiful architecture and culture'),
-('Tokyo', 'Japan, Asia', 'Modern metropolis with traditional culture'),
-('New York', 'USA, North America', 'The city that never sleeps');
+INSERT INTO destinations (name, location, description, latitude, longitude) VALUES 
+('Paris', 'France, Europe', 'City of Light with beautiful architecture and culture', 48.8566, 2.3522),
+('Tokyo', 'Japan, Asia', 'Modern metropolis with traditional culture', 35.6762, 139.6503),
+('New York', 'USA, North America', 'The city that never sleeps', 40.7128, -74.0060),
+('Cox''s Bazar', 'Chattogram, Bangladesh', 'The longest natural sea beach in the world', 21.4272, 92.0058),
+('Sylhet', 'Sylhet, Bangladesh', 'Tea gardens, hills and waterfalls', 24.8949, 91.8687);
+
+INSERT INTO transportation (type, provider, price, availability, seat_capacity) VALUES 
+('Flight', 'Airlines Inc', 299.99, TRUE, 150),
+('Train', 'Rail Express', 89.50, TRUE, 400),
+('Bus', 'City Bus Co', 45.00, TRUE, 40),
+('Taxi', 'Uber', 25.00, TRUE, 4),
+('Bus', 'Green Line', 1200.00, TRUE, 36),
+('Train', 'Bangladesh Railway', 800.00, TRUE, 500),
+('Flight', 'Biman Bangladesh', 8000.00, TRUE, 160),
+('Boat', 'River Transport', 500.00, TRUE, 80);
 
-INSERT INTO transportation (type, provider, price, availability) VALUES 
-('Flight', 'Airlines Inc', 299.99, TRUE),
-('Train', 'Rail Express', 89.50, TRUE),
-('Bus', 'City Bus Co', 45.00, TRUE),
-('Taxi', 'Uber', 25.00, TRUE);
+INSERT INTO accommodations (name, type, price_per_night, rating, latitude, longitude) VALUES 
+('Hotel Sea Crown', 'Resort', 8000.00, 4, 21.4325, 91.9802),
+('Cox''s Bazar Resort', 'Resort', 12000.00, 5, 21.4205, 91.9835),
+('Sylhet Guest House', 'Hotel', 5000.00, 3, 24.8998, 91.8710),
+('Sajek Hill Resort', 'Resort', 15000.00, 4, 23.3820, 92.2938),
+('Sundarban Lodge', 'Lodge', 6000.00, 3, 22.4916, 89.5926);
+
+INSERT INTO local_services (name, type, contact, latitude, longitude) VALUES 
+('Cox''s Bazar Guide', 'Tour Guide', '+880-1234567890', 21.4394, 91.9761),
+('Sylhet Tea Tours', 'Tour Guide', '+880-1234567891', 24.9045, 91.8611),
+('Sajek Adventure', 'Adventure Guide', '+880-1234567892', 23.3817, 92.2935),
+('Sundarban Wildlife Tours', 'Wildlife Guide', '+880-1234567893', 22.4900, 89.5400),
+('Dhaka City Tours', 'City Guide', '+880-1234567894', 23.8103, 90.4125);
 
 INSERT INTO trips (title, start_date, end_date, total_budget) VALUES 
 ('Weekend in Paris', '2024-06-15', '2024-06-17', 800.00),
@@ -186,9 +290,42 @@ INSERT INTO trip_users (trip_id, user_id, role) VALUES
 (2, 3, 'ORGANIZER'),
 (3, 2, 'ORGANIZER');
 
+INSERT INTO expenses (trip_id, category, amount, date, description) VALUES 
+(1, 'Hotel', 320.00, '2024-06-15', 'Two nights near the Marais'),
+(1, 'Food', 95.50, '2024-06-16', NULL),
+(2, 'Transport', 140.00, '2024-07-20', 'Airport limousine bus'),
+(2, 'Activities', 60.00, '2024-07-22', NULL),
+(3, 'Hotel', 540.00, '2024-08-05', NULL);
+
+INSERT INTO id_generators (name, next_val)
+SELECT 'expenses', COALESCE(MAX(expense_id), 0) + 1 FROM expenses;
+
+-- Seed running totals from the sample expenses; afterwards the application keeps them current
+INSERT INTO trip_budget_totals (trip_id, total_spent, expense_count)
+SELECT trip_id, SUM(amount), COUNT(*) FROM expenses GROUP BY trip_id;
+
+INSERT INTO trip_category_totals (trip_id, category, total_spent, expense_count)
+SELECT trip_id, category, SUM(amount), COUNT(*) FROM expenses GROUP BY trip_id, category;
+
 -- Create indexes for better performance
 CREATE INDEX idx_users_email ON users(email);
 CREATE INDEX idx_trips_dates ON trips(start_date, end_date);
+-- Overlap queries (start_date <= :end AND end_date >= :start) range-scan whichever bound is more selective
+CREATE INDEX idx_trips_end_start ON trips(end_date, start_date);
+-- Keyset pagination by start date seeks on (start_date, trip_id)
+CREATE INDEX idx_trips_start_id ON trips(start_date, trip_id);
+-- Accommodation filters and keyset sort orders
+CREATE INDEX idx_accommodations_type_price ON accommodations(type, price_per_night, hotel_id);
+CREATE INDEX idx_accommodations_price ON accommodations(price_per_night, hotel_id);
+CREATE INDEX idx_accommodations_rating ON accommodations(rating, hotel_id);
+CREATE INDEX idx_accommodations_name ON accommodations(name);
+-- Package search reads available fares cheapest first
+CREATE INDEX idx_transportation_available_price ON transportation(availability, price, transportation_id);
+CREATE INDEX idx_expenses_trip_date ON expenses(trip_id, date);
+-- Settle-up loads sum amounts per payer of one trip straight from this index
+CREATE INDEX idx_expenses_trip_payer ON expenses(trip_id, paid_by, amount);
+CREATE INDEX idx_seat_holds_status_expiry ON seat_holds(status, expires_at);
+CREATE INDEX idx_seat_holds_inventory ON seat_holds(transportation_id, travel_date, status);
 CREATE INDEX idx_messages_sender ON messages(sender_id);
 CREATE INDEX idx_trip_users_trip ON trip_users(trip_id);
 CREATE INDEX idx_trip_users_user ON trip_users(user_id);
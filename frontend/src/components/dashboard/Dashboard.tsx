@@ -3,44 +3,41 @@ import { Link } from "react-router-dom";
 import { MapPin, Calendar, DollarSign, Users, ArrowRight } from "lucide-react";
 import Navbar from "../layout/Navbar";
 import { useCurrentUser } from "../../hooks/useAuth";
-import { useTrips } from "../../hooks/useTrips";
+import { useDashboard } from "../../hooks/useTrips";
 
 const Dashboard = () => {
   const { data: user } = useCurrentUser();
-  const { data: trips = [], isLoading: tripsLoading } = useTrips();
+  const { data: dashboard, isLoading: tripsLoading } = useDashboard();
+  const trips = dashboard?.upcomingTrips ?? [];
 
   const stats = [
     {
       title: "Total Trips",
-      value: trips.length,
+      value: dashboard?.tripCount ?? "–",
       icon: Calendar,
       color: "text-blue-600",
       bg: "bg-blue-50",
     },
     {
       title: "Total Budget",
-      value: `৳${trips
-        .reduce((sum, trip) => sum + (trip.totalBudget || 0), 0)
-        .toLocaleString()}`,
+      value:
+        dashboard?.totalBudget != null
+          ? `৳${dashboard.totalBudget.toLocaleString()}`
+          : "–",
       icon: DollarSign,
       color: "text-green-600",
       bg: "bg-green-50",
     },
     {
       title: "This Year",
-      value: trips.filter((trip) => {
-        const year = new Date(trip.startDate).getFullYear();
-        return year === new Date().getFullYear();
-      }).length,
+      value: dashboard?.tripsThisYear ?? "–",
       icon: Users,
       color: "text-purple-600",
       bg: "bg-purple-50",
     },
     {
       title: "Upcoming",
-      value: trips.filter((trip) => {
-        return new Date(trip.startDate) > new Date();
-      }).length,
+      value: dashboard?.upcomingCount ?? "–",
       icon: MapPin,
       color: "text-teal-600",
       bg: "bg-teal-50",
@@ -1,10 +1,48 @@
-import React from "react";
+import React, { useState } from "react";
 import { motion } from "framer-motion";
-import { Users, Calendar, DollarSign } from "lucide-react";
+import { Users, Calendar, DollarSign, ArrowRight } from "lucide-react";
 import Navbar from "../layout/Navbar";
-import { useTrips } from "../../hooks/useTrips";
+import { useSettleUp, useTrips } from "../../hooks/useTrips";
 import { useCurrentUser } from "../../hooks/useAuth";
 
+// Loaded only once opened, so the list does not fetch a plan per trip
+const SettleUp = ({ tripId }: { tripId: number }) => {
+  const [open, setOpen] = useState(false);
+  const { data: plan, isLoading } = useSettleUp(tripId, open);
+
+  if (!open) {
+    return (
+      <button
+        onClick={() => setOpen(true)}
+        className="text-xs font-medium text-blue-600 hover:text-blue-700"
+      >
+        Settle up
+      </button>
+    );
+  }
+  if (isLoading || !plan) {
+    return <p className="text-xs text-gray-500">Working out balances...</p>;
+  }
+  if (plan.transfers.length === 0) {
+    return <p className="text-xs text-gray-500">Everyone is settled up.</p>;
+  }
+  return (
+    <ul className="space-y-1 text-xs text-gray-600">
+      {plan.transfers.map((transfer) => (
+        <li
+          key={`${transfer.fromUserId}-${transfer.toUserId}`}
+          className="flex items-center"
+        >
+          <span>User {transfer.fromUserId}</span>
+          <ArrowRight className="w-3 h-3 mx-1" />
+          <span>User {transfer.toUserId}</span>
+          <span className="ml-auto font-medium">${transfer.amount}</span>
+        </li>
+      ))}
+    </ul>
+  );
+};
+
 const GroupTrips = () => {
   const { data: user } = useCurrentUser();
   const { data: trips = [], isLoading } = useTrips();
@@ -76,6 +114,12 @@ const GroupTrips = () => {
                     <span>Planning</span>
                   </div>
                 </div>
+
+                {trip.tripId && (
+                  <div className="mt-3">
+                    <SettleUp tripId={trip.tripId} />
+                  </div>
+                )}
               </div>
             </motion.div>
           ))}
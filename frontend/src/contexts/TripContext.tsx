@@ -21,6 +21,8 @@ export interface Trip {
   expenses: Expense[];
   bookings: Booking[];
   groupMessages: Message[];
+  // Server version the edit is based on; sent back as If-Match
+  version?: number;
 }
 
 export interface Expense {
@@ -90,6 +92,7 @@ export const TripProvider = ({ children }: { children: ReactNode }) => {
     expenses: [],
     bookings: [],
     groupMessages: [],
+    version: backendTrip.version,
   });
 
   // Convert frontend trip to backend format
@@ -146,6 +149,8 @@ export const TripProvider = ({ children }: { children: ReactNode }) => {
       if (updates.startDate) backendUpdates.startDate = updates.startDate;
       if (updates.endDate) backendUpdates.endDate = updates.endDate;
       if (updates.budget) backendUpdates.totalBudget = updates.budget;
+      backendUpdates.version =
+        updates.version ?? trips.find((trip) => trip.id === id)?.version;
 
       const updatedTrip = await tripService.updateTrip(
         Number(id),
@@ -160,6 +165,8 @@ export const TripProvider = ({ children }: { children: ReactNode }) => {
       );
     } catch (error) {
       console.error("Failed to update trip:", error);
+      // The trip may have changed underneath us; reload so the next edit has its version
+      refreshTrips();
       throw error;
     } finally {
       setLoading(false);
@@ -1,4 +1,9 @@
-import { useQuery, useMutation, useQueryClient } from "@tanstack/react-query";
+import {
+  useQuery,
+  useInfiniteQuery,
+  useMutation,
+  useQueryClient,
+} from "@tanstack/react-query";
 import {
   authService,
   userService,
@@ -16,6 +21,7 @@ export const authKeys = {
 export const userKeys = {
   all: ["users"] as const,
   lists: () => [...userKeys.all, "list"] as const,
+  pages: () => [...userKeys.lists(), "pages"] as const,
   details: () => [...userKeys.all, "detail"] as const,
   detail: (id: number) => [...userKeys.details(), id] as const,
 };
@@ -82,6 +88,17 @@ export const useUsers = () => {
   });
 };
 
+// Lazily pages through users; call fetchNextPage() while hasNextPage is true
+export const useInfiniteUsers = (limit = 20) => {
+  return useInfiniteQuery({
+    queryKey: userKeys.pages(),
+    queryFn: ({ pageParam }) => userService.getUsersPage(pageParam, limit),
+    initialPageParam: null as string | null,
+    getNextPageParam: (lastPage) => lastPage.next,
+    staleTime: 1000 * 60 * 5, // 5 minutes
+  });
+};
+
 export const useUser = (id: number) => {
   return useQuery({
     queryKey: userKeys.detail(id),
@@ -112,6 +129,9 @@ export const useUpdateUser = () => {
         authService.setCurrentUser(updatedUser);
       }
     },
+    onError: (_, { id }) => {
+      queryClient.invalidateQueries({ queryKey: userKeys.detail(id) });
+    },
   });
 };
 
@@ -1,13 +1,22 @@
-import { useQuery, useMutation, useQueryClient } from "@tanstack/react-query";
+import {
+  useQuery,
+  useInfiniteQuery,
+  useMutation,
+  useQueryClient,
+} from "@tanstack/react-query";
 import {
   destinationService,
   accommodationService,
   transportationService,
   localServiceService,
+  suggestionService,
   Destination,
   Accommodation,
   Transportation,
   LocalService,
+  AccommodationFilter,
+  NearbyQuery,
+  RouteRequest,
 } from "../services/travelService";
 
 // Query keys
@@ -15,15 +24,20 @@ export const destinationKeys = {
   all: ["destinations"] as const,
   lists: () => [...destinationKeys.all, "list"] as const,
   list: (filters: string) => [...destinationKeys.lists(), { filters }] as const,
+  pages: () => [...destinationKeys.lists(), "pages"] as const,
   details: () => [...destinationKeys.all, "detail"] as const,
   detail: (id: number) => [...destinationKeys.details(), id] as const,
-  search: (params: { name?: string; location?: string }) =>
+  search: (params: { name?: string; location?: string; q?: string }) =>
     [...destinationKeys.all, "search", params] as const,
+  nearby: (query: NearbyQuery) =>
+    [...destinationKeys.lists(), "nearby", query] as const,
 };
 
 export const accommodationKeys = {
   all: ["accommodations"] as const,
   lists: () => [...accommodationKeys.all, "list"] as const,
+  search: (filter: AccommodationFilter) =>
+    [...accommodationKeys.all, "search", filter] as const,
   details: () => [...accommodationKeys.all, "detail"] as const,
   detail: (id: number) => [...accommodationKeys.details(), id] as const,
 };
@@ -35,9 +49,16 @@ export const transportationKeys = {
   detail: (id: number) => [...transportationKeys.details(), id] as const,
 };
 
+export const suggestionKeys = {
+  all: ["suggestions"] as const,
+  query: (q: string) => [...suggestionKeys.all, q] as const,
+};
+
 export const localServiceKeys = {
   all: ["localServices"] as const,
   lists: () => [...localServiceKeys.all, "list"] as const,
+  nearby: (query: NearbyQuery & { type?: string }) =>
+    [...localServiceKeys.lists(), "nearby", query] as const,
   details: () => [...localServiceKeys.all, "detail"] as const,
   detail: (id: number) => [...localServiceKeys.details(), id] as const,
 };
@@ -51,6 +72,18 @@ export const useDestinations = () => {
   });
 };
 
+// Lazily pages through destinations; call fetchNextPage() while hasNextPage is true
+export const useInfiniteDestinations = (limit = 20) => {
+  return useInfiniteQuery({
+    queryKey: destinationKeys.pages(),
+    queryFn: ({ pageParam }) =>
+      destinationService.getDestinationsPage(pageParam, limit),
+    initialPageParam: null as string | null,
+    getNextPageParam: (lastPage) => lastPage.next,
+    staleTime: 1000 * 60 * 5, // 5 minutes
+  });
+};
+
 export const useDestination = (id: number) => {
   return useQuery({
     queryKey: destinationKeys.detail(id),
@@ -81,6 +114,9 @@ export const useUpdateDestination = () => {
       queryClient.invalidateQueries({ queryKey: destinationKeys.detail(id) });
       queryClient.invalidateQueries({ queryKey: destinationKeys.lists() });
     },
+    onError: (_, { id }) => {
+      queryClient.invalidateQueries({ queryKey: destinationKeys.detail(id) });
+    },
   });
 };
 
@@ -95,11 +131,31 @@ export const useDeleteDestination = () => {
   });
 };
 
-export const useSearchDestinations = (name?: string, location?: string) => {
+export const useSearchDestinations = (
+  name?: string,
+  location?: string,
+  q?: string
+) => {
   return useQuery({
-    queryKey: destinationKeys.search({ name, location }),
-    queryFn: () => destinationService.searchDestinations(name, location),
-    enabled: !!name || !!location,
+    queryKey: destinationKeys.search({ name, location, q }),
+    queryFn: () => destinationService.searchDestinations(name, location, q),
+    enabled: !!name || !!location || !!q,
+  });
+};
+
+export const useNearbyDestinations = (query: NearbyQuery | null) => {
+  return useQuery({
+    queryKey: destinationKeys.nearby(query ?? { lat: 0, lng: 0 }),
+    queryFn: () => destinationService.getNearbyDestinations(query!),
+    enabled: !!query,
+  });
+};
+
+// Orders the given destinations; the result is not cached
+export const useOptimizeRoute = () => {
+  return useMutation({
+    mutationFn: (request: RouteRequest) =>
+      destinationService.optimizeRoute(request),
   });
 };
 
@@ -112,6 +168,21 @@ export const useAccommodations = () => {
   });
 };
 
+// Filtered, sorted accommodation listing computed server-side, paged lazily
+export const useAccommodationSearch = (
+  filter: AccommodationFilter,
+  limit = 20
+) => {
+  return useInfiniteQuery({
+    queryKey: accommodationKeys.search(filter),
+    queryFn: ({ pageParam }) =>
+      accommodationService.searchAccommodations(filter, pageParam, limit),
+    initialPageParam: null as string | null,
+    getNextPageParam: (lastPage) => lastPage.next,
+    staleTime: 1000 * 60 * 10, // 10 minutes
+  });
+};
+
 export const useAccommodation = (id: number) => {
   return useQuery({
     queryKey: accommodationKeys.detail(id),
@@ -153,3 +224,24 @@ export const useLocalService = (id: number) => {
     enabled: !!id,
   });
 };
+
+export const useNearbyLocalServices = (
+  query: (NearbyQuery & { type?: string }) | null
+) => {
+  return useQuery({
+    queryKey: localServiceKeys.nearby(query ?? { lat: 0, lng: 0 }),
+    queryFn: () => localServiceService.getNearbyLocalServices(query!),
+    enabled: !!query,
+  });
+};
+
+// Typeahead hook; suggestions for a prefix are cached so retyping it is free
+export const useSuggestions = (q: string) => {
+  return useQuery({
+    queryKey: suggestionKeys.query(q.trim().toLowerCase()),
+    queryFn: () => suggestionService.suggest(q.trim()),
+    enabled: q.trim().length > 0,
+    staleTime: 1000 * 60, // 1 minute
+    placeholderData: (previous) => previous,
+  });
+};
@@ -1,11 +1,23 @@
-import { useQuery, useMutation, useQueryClient } from "@tanstack/react-query";
-import { tripService, Trip, Expense } from "../services/tripService";
+import {
+  useQuery,
+  useInfiniteQuery,
+  useMutation,
+  useQueryClient,
+} from "@tanstack/react-query";
+import {
+  tripService,
+  Trip,
+  Expense,
+  MemberRole,
+  PackageSearchOptions,
+} from "../services/tripService";
 
 // Query keys
 export const tripKeys = {
   all: ["trips"] as const,
   lists: () => [...tripKeys.all, "list"] as const,
   list: (filters: string) => [...tripKeys.lists(), { filters }] as const,
+  pages: (sort: string) => [...tripKeys.lists(), "pages", sort] as const,
   details: () => [...tripKeys.all, "detail"] as const,
   detail: (id: number) => [...tripKeys.details(), id] as const,
 };
@@ -19,6 +31,29 @@ export const useTrips = () => {
   });
 };
 
+// One request for everything the dashboard shows
+export const useDashboard = () => {
+  return useQuery({
+    queryKey: [...tripKeys.all, "dashboard"],
+    queryFn: tripService.getDashboard,
+    staleTime: 1000 * 60, // 1 minute
+  });
+};
+
+// Lazily pages through trips; call fetchNextPage() while hasNextPage is true
+export const useInfiniteTrips = (
+  limit = 20,
+  sort: "id" | "startDate" = "id"
+) => {
+  return useInfiniteQuery({
+    queryKey: tripKeys.pages(sort),
+    queryFn: ({ pageParam }) => tripService.getTripsPage(pageParam, limit, sort),
+    initialPageParam: null as string | null,
+    getNextPageParam: (lastPage) => lastPage.next,
+    staleTime: 1000 * 60 * 5, // 5 minutes
+  });
+};
+
 export const useTrip = (id: number) => {
   return useQuery({
     queryKey: tripKeys.detail(id),
@@ -51,6 +86,10 @@ export const useUpdateTrip = () => {
       queryClient.invalidateQueries({ queryKey: tripKeys.detail(id) });
       queryClient.invalidateQueries({ queryKey: tripKeys.lists() });
     },
+    // Usually a 412: reload the trip so the form shows the other member's changes
+    onError: (_, { id }) => {
+      queryClient.invalidateQueries({ queryKey: tripKeys.detail(id) });
+    },
   });
 };
 
@@ -66,6 +105,58 @@ export const useDeleteTrip = () => {
   });
 };
 
+// Hooks for trip membership
+export const useInfiniteTripMembers = (tripId: number, limit = 50) => {
+  return useInfiniteQuery({
+    queryKey: [...tripKeys.detail(tripId), "members"],
+    queryFn: ({ pageParam }) =>
+      tripService.getTripMembersPage(tripId, pageParam, limit),
+    initialPageParam: null as string | null,
+    getNextPageParam: (lastPage) => lastPage.next,
+    enabled: !!tripId,
+  });
+};
+
+export const useAddTripMembers = () => {
+  const queryClient = useQueryClient();
+
+  return useMutation({
+    mutationFn: ({
+      tripId,
+      userIds,
+      role,
+    }: {
+      tripId: number;
+      userIds: number[];
+      role?: MemberRole;
+    }) => tripService.addTripMembers(tripId, userIds, role),
+    onSuccess: (_, { tripId }) => {
+      // Members show up in the trip detail, its member pages, the trip lists and settle-up
+      queryClient.invalidateQueries({ queryKey: tripKeys.detail(tripId) });
+      queryClient.invalidateQueries({ queryKey: tripKeys.lists() });
+      queryClient.invalidateQueries({
+        queryKey: [...tripKeys.all, "settleUp", tripId],
+      });
+    },
+  });
+};
+
+export const useRemoveTripMembers = () => {
+  const queryClient = useQueryClient();
+
+  return useMutation({
+    mutationFn: ({ tripId, userIds }: { tripId: number; userIds: number[] }) =>
+      tripService.removeTripMembers(tripId, userIds),
+    onSuccess: (_, { tripId }) => {
+      queryClient.invalidateQueries({ queryKey: tripKeys.detail(tripId) });
+      queryClient.invalidateQueries({ queryKey: tripKeys.lists() });
+      queryClient.invalidateQueries({
+        queryKey: [...tripKeys.all, "settleUp", tripId],
+      });
+    },
+  });
+};
+
 // Hooks for trip expenses
 export const useTripExpenses = (tripId: number) => {
   return useQuery({
@@ -75,6 +166,35 @@ export const useTripExpenses = (tripId: number) => {
   });
 };
 
+export const useTripBudget = (tripId: number) => {
+  return useQuery({
+    queryKey: [...tripKeys.all, "budget", tripId],
+    queryFn: () => tripService.getBudgetSummary(tripId),
+    enabled: !!tripId,
+  });
+};
+
+// Who owes whom; expense writes invalidate it along with the budget
+export const useSettleUp = (tripId: number, enabled = true) => {
+  return useQuery({
+    queryKey: [...tripKeys.all, "settleUp", tripId],
+    queryFn: () => tripService.getSettleUpPlan(tripId),
+    enabled: !!tripId && enabled,
+  });
+};
+
+export const useTripPackages = (
+  tripId: number,
+  options: PackageSearchOptions = {},
+  enabled = true
+) => {
+  return useQuery({
+    queryKey: [...tripKeys.all, "packages", tripId, options],
+    queryFn: () => tripService.searchPackages(tripId, options),
+    enabled: !!tripId && enabled,
+  });
+};
+
 export const useCreateExpense = () => {
   const queryClient = useQueryClient();
 
@@ -82,14 +202,48 @@ export const useCreateExpense = () => {
     mutationFn: (expenseData: Omit<Expense, "expenseId">) =>
       tripService.createExpense(expenseData),
     onSuccess: () => {
-      // Invalidate expenses queries
+      // Invalidate expenses and budget totals
       queryClient.invalidateQueries({
         queryKey: [...tripKeys.all, "expenses"],
       });
+      queryClient.invalidateQueries({
+        queryKey: [...tripKeys.all, "budget"],
+      });
+      queryClient.invalidateQueries({
+        queryKey: [...tripKeys.all, "settleUp"],
+      });
     },
   });
 };
 
+export const useImportExpenses = () => {
+  const queryClient = useQueryClient();
+
+  return useMutation({
+    mutationFn: (file: File) => tripService.importExpenses(file),
+    onSuccess: () => {
+      queryClient.invalidateQueries({
+        queryKey: [...tripKeys.all, "expenses"],
+      });
+      queryClient.invalidateQueries({
+        queryKey: [...tripKeys.all, "budget"],
+      });
+      queryClient.invalidateQueries({
+        queryKey: [...tripKeys.all, "settleUp"],
+      });
+    },
+  });
+};
+
+// Hook for one user's calendar window
+export const useUserCalendar = (userId: number, from: string, to: string) => {
+  return useQuery({
+    queryKey: [...tripKeys.all, "calendar", userId, { from, to }],
+    queryFn: () => tripService.getUserCalendar(userId, from, to),
+    enabled: !!userId && !!from && !!to,
+  });
+};
+
 // Hook for date range trips
 export const useTripsByDateRange = (startDate: string, endDate: string) => {
   return useQuery({
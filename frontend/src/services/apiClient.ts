@@ -8,6 +8,33 @@ export interface ApiResponse<T> {
   error?: string;
 }
 
+// Keyset-paginated list response; `next` is an opaque cursor (null on the last page)
+export interface CursorPage<T> {
+  items: T[];
+  next: string | null;
+}
+
+export const cursorQuery = (cursor?: string | null, limit?: number) => {
+  const params = new URLSearchParams();
+  if (cursor) params.append("cursor", cursor);
+  if (limit) params.append("limit", limit.toString());
+  return params;
+};
+
+// Follows `next` cursors until the listing is exhausted
+export const fetchAllPages = async <T>(
+  fetchPage: (cursor?: string | null) => Promise<CursorPage<T>>
+): Promise<T[]> => {
+  const items: T[] = [];
+  let cursor: string | null | undefined = undefined;
+  do {
+    const page: CursorPage<T> = await fetchPage(cursor);
+    items.push(...page.items);
+    cursor = page.next;
+  } while (cursor);
+  return items;
+};
+
 // Generic API client
 class ApiClient {
   private baseURL: string;
@@ -26,12 +53,12 @@ class ApiClient {
     const token = localStorage.getItem("authToken");
 
     const config: RequestInit = {
+      ...options,
       headers: {
         "Content-Type": "application/json",
         ...(token && { Authorization: `Bearer ${token}` }),
         ...options.headers,
       },
-      ...options,
     };
 
     try {
@@ -41,6 +68,10 @@ class ApiClient {
         throw new Error(`HTTP error! status: ${response.status}`);
       }
 
+      if (response.status === 204) {
+        return undefined as T;
+      }
+
       const data = await response.json();
       return data;
     } catch (error) {
@@ -60,10 +91,28 @@ class ApiClient {
     });
   }
 
-  async put<T>(endpoint: string, data: any): Promise<T> {
+  // Sends the body as-is (e.g. a File), so large uploads are not stringified in memory
+  async upload<T>(
+    endpoint: string,
+    body: BodyInit,
+    contentType: string
+  ): Promise<T> {
+    return this.request<T>(endpoint, {
+      method: "POST",
+      body,
+      headers: { "Content-Type": contentType },
+    });
+  }
+
+  async put<T>(
+    endpoint: string,
+    data: any,
+    headers: Record<string, string> = {}
+  ): Promise<T> {
     return this.request<T>(endpoint, {
       method: "PUT",
       body: JSON.stringify(data),
+      headers,
     });
   }
 
@@ -72,5 +121,9 @@ class ApiClient {
   }
 }
 
+// Makes a PUT apply only to the version the caller loaded; a 412 means someone else saved first
+export const ifMatch = (version?: number): Record<string, string> =>
+  version === undefined ? {} : { "If-Match": `"v${version}"` };
+
 export const apiClient = new ApiClient(API_BASE_URL);
 export { API_BASE_URL };
@@ -1,4 +1,10 @@
-import { apiClient } from "./apiClient";
+import {
+  apiClient,
+  CursorPage,
+  cursorQuery,
+  fetchAllPages,
+  ifMatch,
+} from "./apiClient";
 
 // User interfaces
 export interface User {
@@ -6,6 +12,7 @@ export interface User {
   name: string;
   email: string;
   password?: string;
+  version?: number;
 }
 
 export interface LoginRequest {
@@ -13,6 +20,13 @@ export interface LoginRequest {
   password: string;
 }
 
+export interface AuthResponse {
+  token: string;
+  tokenType: string;
+  expiresAt: string;
+  user: User;
+}
+
 export interface RegisterRequest {
   name: string;
   email: string;
@@ -22,22 +36,27 @@ export interface RegisterRequest {
 // Auth service
 export const authService = {
   async login(credentials: LoginRequest): Promise<User> {
-    const user = await apiClient.post<User>("/auth/login", credentials);
-    if (user) {
-      // Store user data (for now, we'll use this as our token)
-      this.setCurrentUser(user);
-      localStorage.setItem("authToken", "authenticated"); // Simple token for now
-    }
-    return user;
+    const response = await apiClient.post<AuthResponse>(
+      "/auth/login",
+      credentials
+    );
+    this.storeSession(response);
+    return response.user;
   },
 
   async register(userData: RegisterRequest): Promise<User> {
-    const user = await apiClient.post<User>("/auth/register", userData);
-    if (user) {
-      this.setCurrentUser(user);
-      localStorage.setItem("authToken", "authenticated"); // Simple token for now
-    }
-    return user;
+    const response = await apiClient.post<AuthResponse>(
+      "/auth/register",
+      userData
+    );
+    this.storeSession(response);
+    return response.user;
+  },
+
+  // apiClient sends the stored token as a Bearer header on every request
+  storeSession(response: AuthResponse) {
+    this.setCurrentUser(response.user);
+    localStorage.setItem("authToken", response.token);
   },
 
   logout() {
@@ -58,8 +77,17 @@ export const authService = {
 
 // User service
 export const userService = {
+  async getUsersPage(
+    cursor?: string | null,
+    limit?: number
+  ): Promise<CursorPage<User>> {
+    return await apiClient.get<CursorPage<User>>(
+      `/users?${cursorQuery(cursor, limit).toString()}`
+    );
+  },
+
   async getAllUsers(): Promise<User[]> {
-    return await apiClient.get<User[]>("/users");
+    return await fetchAllPages((cursor) => userService.getUsersPage(cursor, 100));
   },
 
   async getUserById(id: number): Promise<User> {
@@ -67,7 +95,11 @@ export const userService = {
   },
 
   async updateUser(id: number, userData: Partial<User>): Promise<User> {
-    return await apiClient.put<User>(`/users/${id}`, userData);
+    return await apiClient.put<User>(
+      `/users/${id}`,
+      userData,
+      ifMatch(userData.version)
+    );
   },
 
   async deleteUser(id: number): Promise<void> {
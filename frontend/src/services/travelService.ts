@@ -1,4 +1,10 @@
-import { apiClient } from "./apiClient";
+import {
+  apiClient,
+  CursorPage,
+  cursorQuery,
+  fetchAllPages,
+  ifMatch,
+} from "./apiClient";
 
 // Destination interfaces
 export interface Destination {
@@ -6,6 +12,38 @@ export interface Destination {
   name: string;
   location: string;
   description?: string;
+  latitude?: number;
+  longitude?: number;
+  version?: number;
+}
+
+// Route optimizer interfaces
+export type RouteObjective = "DISTANCE" | "TIME" | "COST";
+
+export interface RouteRequest {
+  destinationIds: number[];
+  objective?: RouteObjective;
+  roundTrip?: boolean;
+  timeBudgetMs?: number;
+}
+
+export interface RouteStop {
+  destinationId: number;
+  name: string;
+  latitude: number;
+  longitude: number;
+  legDistanceKm: number;
+  legWeight: number;
+  legMode?: string;
+}
+
+export interface RoutePlan {
+  objective: RouteObjective;
+  roundTrip: boolean;
+  totalDistanceKm: number;
+  totalWeight: number;
+  inputOrderWeight: number;
+  stops: RouteStop[];
 }
 
 // Accommodation interfaces
@@ -15,6 +53,17 @@ export interface Accommodation {
   type: string;
   pricePerNight: number;
   rating: number;
+  latitude?: number;
+  longitude?: number;
+}
+
+export interface AccommodationFilter {
+  type?: string;
+  minPrice?: number;
+  maxPrice?: number;
+  minRating?: number;
+  name?: string;
+  sort?: "id" | "price" | "-price" | "rating" | "-rating" | "name";
 }
 
 // Transportation interfaces
@@ -24,6 +73,26 @@ export interface Transportation {
   provider: string;
   price: number;
   availability: boolean;
+  seatCapacity?: number;
+}
+
+export interface SeatAvailability {
+  transportationId: number;
+  travelDate: string;
+  totalSeats: number;
+  heldSeats: number;
+  bookedSeats: number;
+  availableSeats: number;
+}
+
+export interface SeatHold {
+  holdId: number;
+  transportationId: number;
+  travelDate: string;
+  userId?: number;
+  seats: number;
+  status: "HELD" | "CONFIRMED" | "RELEASED" | "EXPIRED";
+  expiresAt: string;
 }
 
 // Local Service interfaces
@@ -32,12 +101,55 @@ export interface LocalService {
   name: string;
   type: string;
   contact?: string;
+  latitude?: number;
+  longitude?: number;
+}
+
+// Nearby search interfaces
+export interface NearbyQuery {
+  lat: number;
+  lng: number;
+  radiusKm?: number;
+  limit?: number;
+}
+
+export interface NearbyResult<T> {
+  item: T;
+  distanceKm: number;
+}
+
+const nearbyParams = ({ lat, lng, radiusKm, limit }: NearbyQuery) => {
+  const params = new URLSearchParams({
+    lat: lat.toString(),
+    lng: lng.toString(),
+  });
+  if (radiusKm !== undefined) params.append("radiusKm", radiusKm.toString());
+  if (limit) params.append("limit", limit.toString());
+  return params;
+};
+
+// Typeahead suggestion interfaces
+export interface Suggestion {
+  type: "DESTINATION" | "ACCOMMODATION" | "LOCAL_SERVICE";
+  id: number;
+  text: string;
 }
 
 // Destination service
 export const destinationService = {
+  async getDestinationsPage(
+    cursor?: string | null,
+    limit?: number
+  ): Promise<CursorPage<Destination>> {
+    return await apiClient.get<CursorPage<Destination>>(
+      `/destinations?${cursorQuery(cursor, limit).toString()}`
+    );
+  },
+
   async getAllDestinations(): Promise<Destination[]> {
-    return await apiClient.get<Destination[]>("/destinations");
+    return await fetchAllPages((cursor) =>
+      destinationService.getDestinationsPage(cursor, 100)
+    );
   },
 
   async getDestinationById(id: number): Promise<Destination> {
@@ -56,7 +168,8 @@ export const destinationService = {
   ): Promise<Destination> {
     return await apiClient.put<Destination>(
       `/destinations/${id}`,
-      destinationData
+      destinationData,
+      ifMatch(destinationData.version)
     );
   },
 
@@ -66,9 +179,11 @@ export const destinationService = {
 
   async searchDestinations(
     name?: string,
-    location?: string
+    location?: string,
+    q?: string
   ): Promise<Destination[]> {
     const params = new URLSearchParams();
+    if (q) params.append("q", q);
     if (name) params.append("name", name);
     if (location) params.append("location", location);
 
@@ -76,12 +191,43 @@ export const destinationService = {
       `/destinations/search?${params.toString()}`
     );
   },
+
+  // Nearest first; leave radiusKm out for plain k-nearest
+  async getNearbyDestinations(
+    query: NearbyQuery
+  ): Promise<NearbyResult<Destination>[]> {
+    return await apiClient.get<NearbyResult<Destination>[]>(
+      `/destinations/nearby?${nearbyParams(query).toString()}`
+    );
+  },
+
+  async optimizeRoute(request: RouteRequest): Promise<RoutePlan> {
+    return await apiClient.post<RoutePlan>("/routes/optimize", request);
+  },
 };
 
 // Accommodation service
 export const accommodationService = {
+  async searchAccommodations(
+    filter: AccommodationFilter = {},
+    cursor?: string | null,
+    limit?: number
+  ): Promise<CursorPage<Accommodation>> {
+    const params = cursorQuery(cursor, limit);
+    Object.entries(filter).forEach(([key, value]) => {
+      if (value !== undefined && value !== "") {
+        params.append(key, String(value));
+      }
+    });
+    return await apiClient.get<CursorPage<Accommodation>>(
+      `/accommodations?${params.toString()}`
+    );
+  },
+
   async getAllAccommodations(): Promise<Accommodation[]> {
-    return await apiClient.get<Accommodation[]>("/accommodations");
+    return await fetchAllPages((cursor) =>
+      accommodationService.searchAccommodations({}, cursor, 100)
+    );
   },
 
   async getAccommodationById(id: number): Promise<Accommodation> {
@@ -92,11 +238,40 @@ export const accommodationService = {
 // Transportation service
 export const transportationService = {
   async getAllTransportation(): Promise<Transportation[]> {
-    return await apiClient.get<Transportation[]>("/transportations");
+    return await apiClient.get<Transportation[]>("/transportation");
   },
 
   async getTransportationById(id: number): Promise<Transportation> {
-    return await apiClient.get<Transportation>(`/transportations/${id}`);
+    return await apiClient.get<Transportation>(`/transportation/${id}`);
+  },
+
+  async getSeatAvailability(
+    id: number,
+    date: string
+  ): Promise<SeatAvailability> {
+    return await apiClient.get<SeatAvailability>(
+      `/transportation/${id}/seats?date=${date}`
+    );
+  },
+};
+
+// Seat booking service: hold seats first, then confirm before the hold expires
+export const bookingService = {
+  async holdSeats(request: {
+    transportationId: number;
+    travelDate: string;
+    seats: number;
+    userId?: number;
+  }): Promise<SeatHold> {
+    return await apiClient.post<SeatHold>("/bookings/holds", request);
+  },
+
+  async confirmHold(holdId: number): Promise<SeatHold> {
+    return await apiClient.post<SeatHold>(`/bookings/holds/${holdId}/confirm`, {});
+  },
+
+  async releaseHold(holdId: number): Promise<SeatHold> {
+    return await apiClient.delete<SeatHold>(`/bookings/holds/${holdId}`);
   },
 };
 
@@ -109,4 +284,23 @@ export const localServiceService = {
   async getLocalServiceById(id: number): Promise<LocalService> {
     return await apiClient.get<LocalService>(`/local-services/${id}`);
   },
+
+  async getNearbyLocalServices(
+    query: NearbyQuery & { type?: string }
+  ): Promise<NearbyResult<LocalService>[]> {
+    const params = nearbyParams(query);
+    if (query.type) params.append("type", query.type);
+    return await apiClient.get<NearbyResult<LocalService>[]>(
+      `/local-services/nearby?${params.toString()}`
+    );
+  },
+};
+
+// Typeahead suggestion service
+export const suggestionService = {
+  async suggest(q: string, limit?: number): Promise<Suggestion[]> {
+    const params = new URLSearchParams({ q });
+    if (limit) params.append("limit", limit.toString());
+    return await apiClient.get<Suggestion[]>(`/suggest?${params.toString()}`);
+  },
 };
@@ -1,4 +1,15 @@
-import { apiClient } from "./apiClient";
+import {
+  apiClient,
+  CursorPage,
+  cursorQuery,
+  fetchAllPages,
+  ifMatch,
+} from "./apiClient";
+import type {
+  Accommodation,
+  Destination,
+  Transportation,
+} from "./travelService";
 
 // Trip interfaces
 export interface Trip {
@@ -7,26 +18,158 @@ export interface Trip {
   startDate: string;
   endDate: string;
   totalBudget: number;
+  version?: number;
   users?: User[];
+  // Only on create/update responses: members' other trips on the same days
+  conflicts?: TripConflict[];
+}
+
+export interface CalendarEntry {
+  tripId: number;
+  title: string;
+  startDate: string;
+  endDate: string;
+}
+
+export interface TripConflict extends CalendarEntry {
+  userId: number;
 }
 
 export interface User {
   userId?: number;
   name: string;
   email: string;
+  version?: number;
+}
+
+export type MemberRole = "ORGANIZER" | "MEMBER";
+
+export interface TripMember {
+  userId: number;
+  name: string;
+  email: string;
+  role: MemberRole;
+  joinedAt: string;
+}
+
+// requested = distinct ids sent, changed = memberships actually added or removed
+export interface MembershipResult {
+  requested: number;
+  changed: number;
+  // Bulk add only: added members' other trips on the same days
+  conflicts?: TripConflict[];
 }
 
 export interface Expense {
   expenseId?: number;
+  tripId: number;
   category: string;
   amount: number;
-  date: string;
+  date?: string;
+  // Member who paid; unpaid expenses are left out of settle-up
+  paidBy?: number;
+  description?: string;
+}
+
+export interface CategoryTotal {
+  tripId: number;
+  category: string;
+  totalSpent: number;
+  expenseCount: number;
+}
+
+export interface ImportResult {
+  imported: number;
+  failed: number;
+  errors: { line: number; message: string }[];
+}
+
+export interface BudgetSummary {
+  tripId: number;
+  totalBudget?: number;
+  totalSpent: number;
+  remaining?: number;
+  expenseCount: number;
+  categories: CategoryTotal[];
+}
+
+// net = paid - share; positive means the member is owed money
+export interface MemberBalance {
+  userId: number;
+  paid: number;
+  share: number;
+  net: number;
+}
+
+export interface SettleUpTransfer {
+  fromUserId: number;
+  toUserId: number;
+  amount: number;
+}
+
+export interface SettleUpPlan {
+  tripId: number;
+  totalShared: number;
+  balances: MemberBalance[];
+  transfers: SettleUpTransfer[];
+}
+
+// Unset options fall back to the trip's budget, length and member count
+export interface PackageSearchOptions {
+  destinationId?: number;
+  radiusKm?: number;
+  budget?: number;
+  travellers?: number;
+  rooms?: number;
+  minNights?: number;
+  roundTrip?: boolean;
+  limit?: number;
+}
+
+// score is rating-nights per 1,000 of totalCost
+export interface TravelPackage {
+  accommodation: Accommodation;
+  transportation: Transportation;
+  nights: number;
+  accommodationCost: number;
+  transportationCost: number;
+  totalCost: number;
+  score: number;
+}
+
+// Sections that failed or timed out on the server are null and listed in `unavailable`
+export interface DashboardSummary {
+  tripCount: number | null;
+  tripsThisYear: number | null;
+  upcomingCount: number | null;
+  totalBudget: number | null;
+  upcomingTrips: Trip[] | null;
+  totalSpent: number | null;
+  spentByTrip: Record<number, number> | null;
+  destinations: Destination[] | null;
+  accommodations: Accommodation[] | null;
+  transportation: Transportation[] | null;
+  unavailable: string[];
 }
 
 // Trip service
 export const tripService = {
+  async getDashboard(): Promise<DashboardSummary> {
+    return await apiClient.get<DashboardSummary>("/dashboard");
+  },
+
+  async getTripsPage(
+    cursor?: string | null,
+    limit?: number,
+    sort?: "id" | "startDate"
+  ): Promise<CursorPage<Trip>> {
+    const params = cursorQuery(cursor, limit);
+    if (sort) params.append("sort", sort);
+    return await apiClient.get<CursorPage<Trip>>(`/trips?${params.toString()}`);
+  },
+
   async getAllTrips(): Promise<Trip[]> {
-    return await apiClient.get<Trip[]>("/trips");
+    return await fetchAllPages((cursor) => tripService.getTripsPage(cursor, 100));
   },
 
   async getTripById(id: number): Promise<Trip> {
@@ -38,7 +181,11 @@ export const tripService = {
   },
 
   async updateTrip(id: number, tripData: Partial<Trip>): Promise<Trip> {
-    return await apiClient.put<Trip>(`/trips/${id}`, tripData);
+    return await apiClient.put<Trip>(
+      `/trips/${id}`,
+      tripData,
+      ifMatch(tripData.version)
+    );
   },
 
   async deleteTrip(id: number): Promise<void> {
@@ -54,6 +201,64 @@ export const tripService = {
     );
   },
 
+  // Trips of one user intersecting [from, to], in start date order
+  async getUserCalendar(
+    userId: number,
+    from: string,
+    to: string
+  ): Promise<CalendarEntry[]> {
+    return await apiClient.get<CalendarEntry[]>(
+      `/users/${userId}/calendar?from=${from}&to=${to}`
+    );
+  },
+
+  // Membership: members are added and removed individually or in bulk, never by saving the trip
+  async getTripMembersPage(
+    tripId: number,
+    cursor?: string | null,
+    limit?: number
+  ): Promise<CursorPage<TripMember>> {
+    const params = cursorQuery(cursor, limit);
+    return await apiClient.get<CursorPage<TripMember>>(
+      `/trips/${tripId}/members?${params.toString()}`
+    );
+  },
+
+  async addTripMember(
+    tripId: number,
+    userId: number,
+    role: MemberRole = "MEMBER"
+  ): Promise<void> {
+    return await apiClient.put<void>(
+      `/trips/${tripId}/members/${userId}?role=${role}`,
+      undefined
+    );
+  },
+
+  async addTripMembers(
+    tripId: number,
+    userIds: number[],
+    role: MemberRole = "MEMBER"
+  ): Promise<MembershipResult> {
+    return await apiClient.post<MembershipResult>(`/trips/${tripId}/members`, {
+      userIds,
+      role,
+    });
+  },
+
+  async removeTripMember(tripId: number, userId: number): Promise<void> {
+    return await apiClient.delete<void>(`/trips/${tripId}/members/${userId}`);
+  },
+
+  async removeTripMembers(
+    tripId: number,
+    userIds: number[]
+  ): Promise<MembershipResult> {
+    return await apiClient.delete<MembershipResult>(
+      `/trips/${tripId}/members?userIds=${userIds.join(",")}`
+    );
+  },
+
   // Expense management
   async getExpensesByTripId(tripId: number): Promise<Expense[]> {
     return await apiClient.get<Expense[]>(`/expenses/trip/${tripId}`);
@@ -68,4 +273,50 @@ export const tripService = {
   async getExpenseById(id: number): Promise<Expense> {
     return await apiClient.get<Expense>(`/expenses/${id}`);
   },
+
+  // CSV needs a header row: tripId,category,amount[,date][,description]
+  async importExpenses(file: File): Promise<ImportResult> {
+    const isCsv = file.name.toLowerCase().endsWith(".csv");
+    return await apiClient.upload<ImportResult>(
+      "/expenses/import",
+      file,
+      isCsv ? "text/csv" : "application/x-ndjson"
+    );
+  },
+
+  async updateExpense(
+    id: number,
+    expenseData: Omit<Expense, "expenseId">
+  ): Promise<Expense> {
+    return await apiClient.put<Expense>(`/expenses/${id}`, expenseData);
+  },
+
+  async deleteExpense(id: number): Promise<void> {
+    return await apiClient.delete<void>(`/expenses/${id}`);
+  },
+
+  async getBudgetSummary(tripId: number): Promise<BudgetSummary> {
+    return await apiClient.get<BudgetSummary>(
+      `/expenses/trip/${tripId}/summary`
+    );
+  },
+
+  async getSettleUpPlan(tripId: number): Promise<SettleUpPlan> {
+    return await apiClient.get<SettleUpPlan>(
+      `/expenses/trip/${tripId}/settle-up`
+    );
+  },
+
+  async searchPackages(
+    tripId: number,
+    options: PackageSearchOptions = {}
+  ): Promise<TravelPackage[]> {
+    const params = new URLSearchParams();
+    Object.entries(options).forEach(([key, value]) => {
+      if (value !== undefined) params.append(key, String(value));
+    });
+    return await apiClient.get<TravelPackage[]>(
+      `/packages/trip/${tripId}?${params.toString()}`
+    );
+  },
 };
@@ -0,0 +1,206 @@
+package com.travelapp.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Oversell check: every virtual user holds 1-3 seats on the same bus and
+ * date as fast as it can, then confirms or releases the hold, until the bus
+ * is sold out or the duration ends. The seat inventory must then show no
+ * more booked seats than the bus has, exactly the seats whose confirmations
+ * succeeded, and nothing left held.
+ */
+class BookingStress {
+    
+    private static final String PASSWORD = "load-test-password";
+    // A worker stops once this many holds in a row were refused for lack of seats
+    private static final int SOLD_OUT_STREAK = 20;
+    private static final int MIN_SEATS = 20;
+    
+    private final String baseUrl;
+    private final LoadTestOptions options;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    private final AtomicInteger holds = new AtomicInteger();
+    private final AtomicInteger confirmedSeats = new AtomicInteger();
+    private final AtomicInteger releases = new AtomicInteger();
+    private final AtomicInteger soldOut = new AtomicInteger();
+    private final AtomicInteger errors = new AtomicInteger();
+    
+    BookingStress(String baseUrl, LoadTestOptions options) {
+        this.baseUrl = baseUrl;
+        this.options = options;
+    }
+    
+    boolean run() throws Exception {
+        String token = send(post("/api/auth/register", Map.of("name", "Booking Stress",
+                "email", "booking-stress-" + System.currentTimeMillis() + "@example.com", "password", PASSWORD), null))
+                .get("token").asText();
+        JsonNode bus = pickTransportation(send(get("/api/transportation", token)));
+        long transportationId = bus.get("transportationId").asLong();
+        LocalDate travelDate = LocalDate.now().plusDays(30);
+        System.out.printf("Booking %s %s (%d seats) on %s with %d concurrent users for at most %s%n",
+                bus.get("type").asText(), bus.get("provider").asText(), bus.get("seatCapacity").asInt(),
+                travelDate, options.concurrency(), options.duration());
+        
+        long stopAt = System.nanoTime() + options.duration().toNanos();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < options.concurrency(); i++) {
+                SplittableRandom random = new SplittableRandom(i);
+                results.add(workers.submit(() -> work(token, transportationId, travelDate, random, stopAt)));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        }
+        
+        JsonNode inventory = send(get("/api/transportation/" + transportationId + "/seats?date=" + travelDate, token));
+        int total = inventory.get("totalSeats").asInt();
+        int booked = inventory.get("bookedSeats").asInt();
+        int held = inventory.get("heldSeats").asInt();
+        System.out.printf("Holds %d, releases %d, sold-out refusals %d, errors %d%n",
+                holds.get(), releases.get(), soldOut.get(), errors.get());
+        System.out.printf("Inventory: total %d, booked %d, held %d; confirmed by clients %d%n",
+                total, booked, held, confirmedSeats.get());
+        
+        List<String> failures = new ArrayList<>();
+        if (booked > total) {
+            failures.add("oversold: " + booked + " booked of " + total);
+        }
+        if (booked != confirmedSeats.get()) {
+            failures.add("inventory shows " + booked + " booked but " + confirmedSeats.get() + " were confirmed");
+        }
+        if (held != 0) {
+            failures.add(held + " seats still held after every hold was confirmed or released");
+        }
+        if (errors.get() > 0) {
+            failures.add(errors.get() + " unexpected responses");
+        }
+        failures.forEach(failure -> System.out.println("FAILED: " + failure));
+        System.out.println(failures.isEmpty() ? "PASSED: no overselling" : "Booking stress check failed");
+        return failures.isEmpty();
+    }
+    
+    private Void work(String token, long transportationId, LocalDate travelDate, SplittableRandom random, long stopAt)
+            throws InterruptedException {
+        int refusedInARow = 0;
+        while (System.nanoTime() < stopAt && refusedInARow < SOLD_OUT_STREAK) {
+            int seats = random.nextInt(1, 4);
+            HttpResponse<String> hold = exchange(post("/api/bookings/holds", Map.of(
+                    "transportationId", transportationId, "travelDate", travelDate.toString(), "seats", seats), token));
+            if (hold == null) {
+                continue;
+            }
+            if (hold.statusCode() == 409) {
+                soldOut.incrementAndGet();
+                refusedInARow++;
+                continue;
+            }
+            if (hold.statusCode() != 200) {
+                errors.incrementAndGet();
+                continue;
+            }
+            refusedInARow = 0;
+            holds.incrementAndGet();
+            long holdId = readTree(hold.body()).get("holdId").asLong();
+            
+            boolean confirm = random.nextInt(5) > 0;
+            HttpResponse<String> outcome = exchange(confirm
+                    ? post("/api/bookings/holds/" + holdId + "/confirm", Map.of(), token)
+                    : builder("/api/bookings/holds/" + holdId, token).DELETE().build());
+            if (outcome == null) {
+                continue;
+            }
+            if (outcome.statusCode() != 200) {
+                errors.incrementAndGet();
+            } else if (confirm) {
+                confirmedSeats.addAndGet(seats);
+            } else {
+                releases.incrementAndGet();
+            }
+        }
+        return null;
+    }
+    
+    // The smallest vehicle with at least MIN_SEATS seats, so it sells out quickly under contention
+    private static JsonNode pickTransportation(JsonNode all) {
+        JsonNode best = null;
+        for (JsonNode candidate : all) {
+            int seats = candidate.path("seatCapacity").asInt(0);
+            if (seats >= MIN_SEATS && (best == null || seats < best.get("seatCapacity").asInt())) {
+                best = candidate;
+            }
+        }
+        if (best == null) {
+            throw new IllegalStateException("No transportation with at least " + MIN_SEATS + " seats");
+        }
+        return best;
+    }
+    
+    // Null (and counted as an error) when the request itself failed
+    private HttpResponse<String> exchange(HttpRequest request) throws InterruptedException {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            errors.incrementAndGet();
+            return null;
+        }
+    }
+    
+    private JsonNode send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Request " + request.method() + " " + request.uri()
+                    + " failed with " + response.statusCode() + ": " + response.body());
+        }
+        return readTree(response.body());
+    }
+    
+    private JsonNode readTree(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unreadable response " + body, e);
+        }
+    }
+    
+    private HttpRequest get(String path, String token) {
+        return builder(path, token).GET().build();
+    }
+    
+    private HttpRequest post(String path, Object body, String token) {
+        try {
+            return builder(path, token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not encode request body", e);
+        }
+    }
+    
+    private HttpRequest.Builder builder(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+}
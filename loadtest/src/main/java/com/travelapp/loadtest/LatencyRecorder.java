@@ -0,0 +1,66 @@
+package com.travelapp.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Response times per endpoint for one worker. Each worker owns its recorder,
+ * so recording needs no synchronization; recorders are merged at the end.
+ */
+class LatencyRecorder {
+    
+    static class Samples {
+        private long[] nanos = new long[1024];
+        private int count;
+        private int errors;
+        
+        void add(long elapsedNanos, boolean ok) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = elapsedNanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+        
+        void addAll(Samples other) {
+            if (count + other.count > nanos.length) {
+                nanos = Arrays.copyOf(nanos, Math.max(nanos.length * 2, count + other.count));
+            }
+            System.arraycopy(other.nanos, 0, nanos, count, other.count);
+            count += other.count;
+            errors += other.errors;
+        }
+        
+        long[] sorted() {
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+        
+        int count() {
+            return count;
+        }
+        
+        int errors() {
+            return errors;
+        }
+    }
+    
+    private final Map<String, Samples> byEndpoint = new LinkedHashMap<>();
+    
+    void record(String endpoint, long elapsedNanos, boolean ok) {
+        byEndpoint.computeIfAbsent(endpoint, name -> new Samples()).add(elapsedNanos, ok);
+    }
+    
+    void merge(LatencyRecorder other) {
+        other.byEndpoint.forEach((endpoint, samples) ->
+                byEndpoint.computeIfAbsent(endpoint, name -> new Samples()).addAll(samples));
+    }
+    
+    Map<String, Samples> byEndpoint() {
+        return byEndpoint;
+    }
+}
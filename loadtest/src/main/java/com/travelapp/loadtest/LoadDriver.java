@@ -0,0 +1,207 @@
+package com.travelapp.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+
+/**
+ * Closed-loop load: each virtual user sends its next request as soon as the
+ * previous one completes, choosing it from a weighted mix of browsing, trip
+ * and expense reads, expense writes and logins. Setup registers the users and
+ * gives each of them trips with expenses; only requests started after the
+ * warmup are measured.
+ */
+class LoadDriver {
+    
+    private static final String PASSWORD = "load-test-password";
+    private static final int TRIPS_PER_USER = 2;
+    private static final int EXPENSES_PER_TRIP = 5;
+    private static final String[] WORDS = {
+        "beach", "temple", "mountain", "lake", "market", "castle", "island", "desert",
+        "forest", "museum", "harbour", "valley", "festival", "vineyard", "canyon", "palace"
+    };
+    private static final String[] CATEGORIES = {"Hotel", "Food", "Transport", "Activities", "Shopping"};
+    
+    private record VirtualUser(String email, String token, List<Long> tripIds) {}
+    
+    private record Operation(String endpoint, int weight, BiFunction<VirtualUser, SplittableRandom, HttpRequest> request) {}
+    
+    private final String baseUrl;
+    private final LoadTestOptions options;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Operation> mix = new ArrayList<>();
+    private int totalWeight;
+    
+    LoadDriver(String baseUrl, LoadTestOptions options) {
+        this.baseUrl = baseUrl;
+        this.options = options;
+        
+        add("GET /api/destinations", 20, (user, random) -> get("/api/destinations?limit=20", null));
+        add("GET /api/destinations/search", 10, (user, random) ->
+                get("/api/destinations/search?q=" + WORDS[random.nextInt(WORDS.length)] + "&limit=10", null));
+        add("GET /api/trips", 15, (user, random) -> get("/api/trips?limit=20", user.token()));
+        add("GET /api/trips/{id}", 15, (user, random) -> get("/api/trips/" + tripOf(user, random), user.token()));
+        add("GET /api/expenses/trip/{id}", 15, (user, random) ->
+                get("/api/expenses/trip/" + tripOf(user, random), user.token()));
+        add("GET /api/expenses/trip/{id}/summary", 10, (user, random) ->
+                get("/api/expenses/trip/" + tripOf(user, random) + "/summary", user.token()));
+        add("POST /api/expenses", 10, (user, random) -> post("/api/expenses", expense(tripOf(user, random), random), user.token()));
+        add("POST /api/auth/login", 5, (user, random) ->
+                post("/api/auth/login", Map.of("email", user.email(), "password", PASSWORD), null));
+    }
+    
+    private void add(String endpoint, int weight, BiFunction<VirtualUser, SplittableRandom, HttpRequest> request) {
+        mix.add(new Operation(endpoint, weight, request));
+        totalWeight += weight;
+    }
+    
+    LoadReport run() throws Exception {
+        List<VirtualUser> users = setUp();
+        System.out.printf("Setup done: %d users, %d trips, %d destinations. Warming up for %s, measuring for %s%n",
+                users.size(), users.size() * TRIPS_PER_USER, options.destinations(), options.warmup(), options.duration());
+        
+        long measureFrom = System.nanoTime() + options.warmup().toNanos();
+        long stopAt = measureFrom + options.duration().toNanos();
+        LatencyRecorder recorder = new LatencyRecorder();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<LatencyRecorder>> results = new ArrayList<>();
+            for (int i = 0; i < options.concurrency(); i++) {
+                VirtualUser user = users.get(i % users.size());
+                SplittableRandom random = new SplittableRandom(i);
+                results.add(workers.submit(() -> work(user, random, measureFrom, stopAt)));
+            }
+            for (Future<LatencyRecorder> result : results) {
+                recorder.merge(result.get());
+            }
+        }
+        return LoadReport.of(baseUrl, options.concurrency(), options.duration(), recorder);
+    }
+    
+    private LatencyRecorder work(VirtualUser user, SplittableRandom random, long measureFrom, long stopAt)
+            throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        while (System.nanoTime() < stopAt) {
+            Operation operation = pick(random);
+            HttpRequest request = operation.request().apply(user, random);
+            long start = System.nanoTime();
+            boolean ok;
+            try {
+                ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() / 100 == 2;
+            } catch (IOException e) {
+                ok = false;
+            }
+            long end = System.nanoTime();
+            if (start >= measureFrom && end <= stopAt) {
+                recorder.record(operation.endpoint(), end - start, ok);
+            }
+        }
+        return recorder;
+    }
+    
+    private Operation pick(SplittableRandom random) {
+        int ticket = random.nextInt(totalWeight);
+        for (Operation operation : mix) {
+            ticket -= operation.weight();
+            if (ticket < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("Empty operation mix");
+    }
+    
+    private List<VirtualUser> setUp() throws Exception {
+        SplittableRandom random = new SplittableRandom(42);
+        long runId = System.currentTimeMillis();
+        List<VirtualUser> users = new ArrayList<>();
+        for (int i = 0; i < options.users(); i++) {
+            String email = "loadtest-" + runId + "-" + i + "@example.com";
+            JsonNode registered = send(post("/api/auth/register",
+                    Map.of("name", "Load Test " + i, "email", email, "password", PASSWORD), null));
+            String token = registered.get("token").asText();
+            
+            List<Long> tripIds = new ArrayList<>();
+            for (int t = 0; t < TRIPS_PER_USER; t++) {
+                LocalDate start = LocalDate.now().plusDays(random.nextInt(1, 365));
+                JsonNode trip = send(post("/api/trips", Map.of("title", "Load test trip " + i + "-" + t,
+                        "startDate", start.toString(), "endDate", start.plusDays(random.nextInt(1, 14)).toString(),
+                        "totalBudget", 50000), token));
+                long tripId = trip.get("tripId").asLong();
+                tripIds.add(tripId);
+                for (int e = 0; e < EXPENSES_PER_TRIP; e++) {
+                    send(post("/api/expenses", expense(tripId, random), token));
+                }
+            }
+            users.add(new VirtualUser(email, token, tripIds));
+        }
+        
+        String token = users.get(0).token();
+        for (int i = 0; i < options.destinations(); i++) {
+            String description = WORDS[random.nextInt(WORDS.length)] + " and " + WORDS[random.nextInt(WORDS.length)]
+                    + " near the " + WORDS[random.nextInt(WORDS.length)];
+            send(post("/api/destinations", Map.of("name", "Load test destination " + i,
+                    "location", "Region " + random.nextInt(20), "description", description), token));
+        }
+        return users;
+    }
+    
+    private static long tripOf(VirtualUser user, SplittableRandom random) {
+        return user.tripIds().get(random.nextInt(user.tripIds().size()));
+    }
+    
+    private static Map<String, Object> expense(long tripId, SplittableRandom random) {
+        Map<String, Object> expense = new LinkedHashMap<>();
+        expense.put("tripId", tripId);
+        expense.put("category", CATEGORIES[random.nextInt(CATEGORIES.length)]);
+        expense.put("amount", random.nextInt(100, 50000) / 100.0);
+        expense.put("date", LocalDate.now().toString());
+        return expense;
+    }
+    
+    private JsonNode send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Setup request " + request.method() + " " + request.uri()
+                    + " failed with " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+    
+    private HttpRequest get(String path, String token) {
+        return builder(path, token).GET().build();
+    }
+    
+    private HttpRequest post(String path, Object body, String token) {
+        try {
+            return builder(path, token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not encode request body", e);
+        }
+    }
+    
+    private HttpRequest.Builder builder(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+}
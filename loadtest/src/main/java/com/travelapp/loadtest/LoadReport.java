@@ -0,0 +1,69 @@
+package com.travelapp.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Throughput and latency percentiles per endpoint over the measured window.
+ * Percentiles use the nearest-rank method; latencies are in milliseconds.
+ */
+public record LoadReport(String baseUrl, int concurrency, double durationSeconds,
+                         List<EndpointStats> endpoints, EndpointStats total) {
+    
+    public record EndpointStats(String endpoint, int requests, int errors, double throughput,
+                                double p50, double p95, double p99, double max) {
+        
+        static EndpointStats of(String endpoint, LatencyRecorder.Samples samples, double seconds) {
+            long[] sorted = samples.sorted();
+            return new EndpointStats(endpoint, samples.count(), samples.errors(), samples.count() / seconds,
+                    percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6);
+        }
+    }
+    
+    static LoadReport of(String baseUrl, int concurrency, Duration measured, LatencyRecorder recorder) {
+        double seconds = measured.toNanos() / 1e9;
+        List<EndpointStats> endpoints = new ArrayList<>();
+        LatencyRecorder.Samples all = new LatencyRecorder.Samples();
+        for (Map.Entry<String, LatencyRecorder.Samples> entry : recorder.byEndpoint().entrySet()) {
+            endpoints.add(EndpointStats.of(entry.getKey(), entry.getValue(), seconds));
+            all.addAll(entry.getValue());
+        }
+        return new LoadReport(baseUrl, concurrency, seconds, endpoints, EndpointStats.of("TOTAL", all, seconds));
+    }
+    
+    static double percentile(long[] sorted, double percent) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percent / 100 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1] / 1e6;
+    }
+    
+    public void print(PrintStream out) {
+        out.printf("%nLoad test against %s: %d virtual users, %.1f s measured%n%n", baseUrl, concurrency, durationSeconds);
+        String format = "%-36s %9s %7s %9s %9s %9s %9s %9s%n";
+        out.printf(format, "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (EndpointStats stats : endpoints) {
+            print(out, format, stats);
+        }
+        print(out, format, total);
+    }
+    
+    private static void print(PrintStream out, String format, EndpointStats stats) {
+        out.printf(format, stats.endpoint(), stats.requests(), stats.errors(),
+                String.format("%.1f", stats.throughput()), String.format("%.2f", stats.p50()),
+                String.format("%.2f", stats.p95()), String.format("%.2f", stats.p99()), String.format("%.2f", stats.max()));
+    }
+    
+    public void writeJson(Path file) throws IOException {
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), this);
+    }
+}
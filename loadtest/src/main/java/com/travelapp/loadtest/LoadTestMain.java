@@ -0,0 +1,65 @@
+package com.travelapp.loadtest;
+
+import com.travelapp.TravelBackendApplication;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the backend with the loadtest profile (embedded H2 in MySQL mode,
+ * random port), drives it with LoadDriver and prints per-endpoint throughput
+ * and latency percentiles, or runs the BookingStress oversell check, which
+ * exits with status 1 if it fails.
+ */
+public class LoadTestMain {
+    
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadTestOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+        
+        ConfigurableApplicationContext context = null;
+        String baseUrl = options.baseUrl();
+        if (baseUrl == null) {
+            context = startBackend();
+            baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        }
+        
+        boolean passed = true;
+        try {
+            if (options.scenario() == LoadTestOptions.Scenario.BOOKING) {
+                passed = new BookingStress(baseUrl, options).run();
+            } else {
+                LoadReport report = new LoadDriver(baseUrl, options).run();
+                report.print(System.out);
+                if (options.reportFile() != null) {
+                    report.writeJson(options.reportFile());
+                    System.out.println("Report written to " + options.reportFile());
+                }
+            }
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+    
+    private static ConfigurableApplicationContext startBackend() {
+        SpringApplication application = new SpringApplication(TravelBackendApplication.class);
+        application.setAdditionalProfiles("loadtest");
+        application.addListeners(new SchemaInitializer());
+        application.setBannerMode(Banner.Mode.OFF);
+        application.setLogStartupInfo(false);
+        return application.run();
+    }
+}
@@ -0,0 +1,80 @@
+package com.travelapp.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Command-line settings, given as --name=value. Without --base-url the
+ * backend is started in-process on the embedded database.
+ */
+public record LoadTestOptions(String baseUrl, Scenario scenario, int concurrency, Duration warmup, Duration duration,
+                              int users, int destinations, Path reportFile) {
+    
+    public enum Scenario {
+        // Weighted API mix with latency percentiles (LoadDriver)
+        MIX,
+        // Concurrent holds and confirmations on one bus, checked for overselling (BookingStress)
+        BOOKING
+    }
+    
+    static final String USAGE = """
+            Options (all optional):
+              --base-url=http://host:port  target a running backend instead of starting one
+              --scenario=mix               mix (latency report) or booking (oversell check)
+              --concurrency=32             virtual users sending requests back to back
+              --warmup=10s                 load before measuring starts
+              --duration=30s               measured load
+              --users=20                   accounts registered during setup
+              --destinations=200           destinations created during setup
+              --report=path.json           also write the results as JSON""";
+    
+    public static LoadTestOptions parse(String[] args) {
+        String baseUrl = null;
+        Scenario scenario = Scenario.MIX;
+        int concurrency = 32;
+        Duration warmup = Duration.ofSeconds(10);
+        Duration duration = Duration.ofSeconds(30);
+        int users = 20;
+        int destinations = 200;
+        Path reportFile = null;
+        
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            String value = arg.substring(separator + 1);
+            switch (arg.substring(2, separator)) {
+                case "base-url" -> baseUrl = value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+                case "scenario" -> scenario = scenario(arg, value);
+                case "concurrency" -> concurrency = positive(arg, Integer.parseInt(value));
+                case "warmup" -> warmup = DurationStyle.detectAndParse(value);
+                case "duration" -> duration = DurationStyle.detectAndParse(value);
+                case "users" -> users = positive(arg, Integer.parseInt(value));
+                case "destinations" -> destinations = positive(arg, Integer.parseInt(value));
+                case "report" -> reportFile = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option " + arg);
+            }
+        }
+        if (duration.isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException("--duration must be positive");
+        }
+        return new LoadTestOptions(baseUrl, scenario, concurrency, warmup, duration, users, destinations, reportFile);
+    }
+    
+    private static Scenario scenario(String arg, String value) {
+        try {
+            return Scenario.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(arg + " must be mix or booking");
+        }
+    }
+    
+    private static int positive(String arg, int value) {
+        if (value < 1) {
+            throw new IllegalArgumentException(arg + " must be at least 1");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,54 @@
+package com.travelapp.loadtest;
+
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Creates the schema in the embedded database before the application context
+ * starts, so the backend boots with ddl-auto=none exactly as it does against
+ * MySQL. The script is create-tables-direct.sql; only the SHOW and DESCRIBE
+ * lines meant for the mysql client are skipped.
+ */
+public class SchemaInitializer implements ApplicationListener<ApplicationEnvironmentPreparedEvent> {
+    
+    private static final Pattern INSPECTION_COMMAND = Pattern.compile("^\\s*(SHOW|DESCRIBE)\\s.*", Pattern.CASE_INSENSITIVE);
+    
+    @Override
+    public void onApplicationEvent(ApplicationEnvironmentPreparedEvent event) {
+        Environment environment = event.getEnvironment();
+        String url = environment.getRequiredProperty("spring.datasource.url");
+        String username = environment.getProperty("spring.datasource.username", "");
+        String password = environment.getProperty("spring.datasource.password", "");
+        
+        try (Connection connection = DriverManager.getConnection(url, username, password)) {
+            ScriptUtils.executeSqlScript(connection,
+                    new ByteArrayResource(readScript(environment.getRequiredProperty("loadtest.schema-script"))));
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not create the load test schema", e);
+        }
+    }
+    
+    private static byte[] readScript(String location) {
+        try {
+            String script = new ClassPathResource(location).getContentAsString(StandardCharsets.UTF_8);
+            return script.lines()
+                    .filter(line -> !INSPECTION_COMMAND.matcher(line).matches())
+                    .collect(Collectors.joining("\n"))
+                    .getBytes(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Schema script not found: " + location, e);
+        }
+    }
+}